@@ -0,0 +1,139 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.benchmark;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.exceptions.CarRentalException;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Bill;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Payment;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment.CashPaymentStrategy;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment.PaymentContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Billing hot paths: generating a bill, paying it, and reading the system
+ * statistics, from one thread and from several threads at once.
+ *
+ * Usage:
+ * <pre>
+ * java -jar target/benchmarks.jar BillingBenchmark -p vehicleCount=1000
+ * </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BillingBenchmark {
+
+    private static final int BILLED_RESERVATIONS = 1024;
+    private static final int PAYMENT_BATCH = 10_000;
+
+    /**
+     * Reservations to bill; a reservation may be billed any number of times.
+     */
+    @State(Scope.Benchmark)
+    public static class BilledReservations {
+        private final String[] reservationIds = new String[BILLED_RESERVATIONS];
+
+        @Setup(Level.Trial)
+        public void reserve(FleetState fleet) throws CarRentalException {
+            for (int i = 0; i < BILLED_RESERVATIONS; i++) {
+                reservationIds[i] = fleet.reserveNext().getReservationId();
+            }
+        }
+    }
+
+    /**
+     * Cycles through the reservations to bill, per thread.
+     */
+    @State(Scope.Thread)
+    public static class BillCursor {
+        private int next;
+
+        private String nextReservationId(BilledReservations billed) {
+            next = (next + 1) & (BILLED_RESERVATIONS - 1);
+            return billed.reservationIds[next];
+        }
+    }
+
+    /**
+     * Unpaid bills generated ahead of each iteration, for the payments to consume.
+     */
+    @State(Scope.Thread)
+    public static class UnpaidBills {
+        private final String[] billIds = new String[PAYMENT_BATCH];
+        private final PaymentContext paymentContext = new PaymentContext(new CashPaymentStrategy());
+        // Covers any bill in the fleet's price range
+        private final CashPaymentStrategy.CashDetails cash =
+                new CashPaymentStrategy.CashDetails(1_000_000.0, "BENCH_EMP", "BENCH_LOC_0");
+        private int next;
+
+        @Setup(Level.Iteration)
+        public void generateBills(FleetState fleet, BilledReservations billed) throws CarRentalException {
+            for (int i = 0; i < PAYMENT_BATCH; i++) {
+                billIds[i] = fleet.rentalSystem.generateBill(
+                        billed.reservationIds[i & (BILLED_RESERVATIONS - 1)]).getBillId();
+            }
+            next = 0;
+        }
+
+        private String take() {
+            return billIds[next++];
+        }
+    }
+
+    @Benchmark
+    public Bill generateBill(FleetState fleet, BilledReservations billed, BillCursor cursor)
+            throws CarRentalException {
+        return fleet.rentalSystem.generateBill(cursor.nextReservationId(billed));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Bill generateBillContended(FleetState fleet, BilledReservations billed, BillCursor cursor)
+            throws CarRentalException {
+        return fleet.rentalSystem.generateBill(cursor.nextReservationId(billed));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3, batchSize = PAYMENT_BATCH)
+    @Measurement(iterations = 10, batchSize = PAYMENT_BATCH)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Payment processPayment(FleetState fleet, UnpaidBills unpaid) throws CarRentalException {
+        return fleet.rentalSystem.processPayment(unpaid.paymentContext, unpaid.take(), unpaid.cash);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3, batchSize = PAYMENT_BATCH)
+    @Measurement(iterations = 10, batchSize = PAYMENT_BATCH)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Threads(4)
+    public Payment processPaymentContended(FleetState fleet, UnpaidBills unpaid) throws CarRentalException {
+        return fleet.rentalSystem.processPayment(unpaid.paymentContext, unpaid.take(), unpaid.cash);
+    }
+
+    @Benchmark
+    public Map<String, Object> getSystemStatistics(FleetState fleet) {
+        return fleet.rentalSystem.getSystemStatistics();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Map<String, Object> getSystemStatisticsContended(FleetState fleet) {
+        return fleet.rentalSystem.getSystemStatistics();
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.benchmark;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.VehicleRentalSystem;
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
+import org.example.lowleveldesignexamples.carrentalsystemlld.exceptions.CarRentalException;
+import org.example.lowleveldesignexamples.carrentalsystemlld.factory.VehicleFactory;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Location;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Reservation;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Store;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.User;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Synthetic fleet shared by the benchmarks: vehicleCount vehicles of every type,
+ * spread over stores of vehiclesPerStore each, and a pool of registered users.
+ *
+ * The rental system is a singleton, so the fleet is built once per fork; JMH forks
+ * each benchmark and parameter combination separately, so runs never see each
+ * other's reservations or bills.
+ */
+@State(Scope.Benchmark)
+public class FleetState {
+
+    private static final int USER_COUNT = 10_000;
+    // Far enough ahead that no lifecycle deadline is ever reached during a run
+    private static final int FIRST_START_OFFSET_DAYS = 365;
+    private static final int RENTAL_DAYS = 3;
+    // Leaves a free day between consecutive bookings of the same vehicle
+    private static final int BOOKING_STRIDE_DAYS = RENTAL_DAYS + 1;
+
+    private static final VehicleType[] TYPES = VehicleType.values();
+    private static final String[] BRANDS = {"Toyota", "Honda", "Ford", "BMW", "Tesla", "Volvo", "Kia", "Audi"};
+    private static final String[] MODELS = {"Corolla", "Civic", "Transit", "X5", "Model 3", "XC90", "Sorento", "A4"};
+    private static final String[] CITIES = {"New York", "Chicago", "Austin", "Seattle", "Denver", "Boston"};
+
+    @Param({"1000", "100000", "1000000"})
+    public int vehicleCount;
+
+    @Param({"1000"})
+    public int vehiclesPerStore;
+
+    VehicleRentalSystem rentalSystem;
+    String[] vehicleIds;
+    String[] userIds;
+    String pickupLocationId;
+
+    private LocalDate firstStartDate;
+    private final AtomicLong bookingSlots = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void buildFleet() {
+        // Per-operation logging would dominate every measurement
+        Logger.getLogger("").setLevel(java.util.logging.Level.WARNING);
+
+        rentalSystem = VehicleRentalSystem.getInstance();
+        SplittableRandom random = new SplittableRandom(42);
+
+        int storeCount = (vehicleCount + vehiclesPerStore - 1) / vehiclesPerStore;
+        vehicleIds = new String[vehicleCount];
+        for (int s = 0; s < storeCount; s++) {
+            String storeId = "BENCH_STORE_" + s;
+            Location location = new Location("BENCH_LOC_" + s, s + " Benchmark Ave",
+                    CITIES[s % CITIES.length], "BM", String.format("%05d", s % 100_000), "USA",
+                    25.0 + random.nextDouble(24.0), -124.0 + random.nextDouble(57.0));
+            Store store = new Store(storeId, "Benchmark Store " + s, location, "+1-555-0100", "Bench Manager");
+
+            // Stocked before it is added, so the store is indexed in one pass
+            int first = s * vehiclesPerStore;
+            int last = Math.min(first + vehiclesPerStore, vehicleCount);
+            for (int v = first; v < last; v++) {
+                String vehicleId = "BENCH_V" + v;
+                int model = random.nextInt(MODELS.length);
+                store.getInventoryManagement().addVehicle(VehicleFactory.createVehicle(
+                        TYPES[random.nextInt(TYPES.length)], vehicleId, "PLATE_" + v,
+                        20.0 + random.nextInt(28_000) / 100.0, MODELS[model], BRANDS[model],
+                        2015 + random.nextInt(10)));
+                vehicleIds[v] = vehicleId;
+            }
+            rentalSystem.addStore(store);
+        }
+        pickupLocationId = "BENCH_LOC_0";
+
+        userIds = new String[USER_COUNT];
+        for (int u = 0; u < USER_COUNT; u++) {
+            userIds[u] = "BENCH_U" + u;
+            rentalSystem.registerUser(new User(userIds[u], "Bench User " + u,
+                    "bench" + u + "@email.com", "+1-555-" + u, "DL" + u, "Benchmark Address"));
+        }
+
+        firstStartDate = LocalDate.now().plusDays(FIRST_START_OFFSET_DAYS);
+    }
+
+    /**
+     * Reserves the next free booking slot. Slots walk the fleet vehicle by vehicle,
+     * then move on to later dates, so no two calls ever conflict, from any thread.
+     */
+    Reservation reserveNext() throws CarRentalException {
+        long slot = bookingSlots.getAndIncrement();
+        int vehicle = (int) (slot % vehicleIds.length);
+        LocalDate startDate = firstStartDate.plusDays(BOOKING_STRIDE_DAYS * (slot / vehicleIds.length));
+        return rentalSystem.createReservation(userIds[(int) (slot % USER_COUNT)], vehicleIds[vehicle],
+                startDate, startDate.plusDays(RENTAL_DAYS - 1), pickupLocationId, pickupLocationId);
+    }
+
+    LocalDate getFirstStartDate() {
+        return firstStartDate;
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.benchmark;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment.CreditCardPaymentStrategy;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment.CreditCardPaymentStrategy.CreditCardDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Credit card validation: the single-pass validators in
+ * {@link CreditCardPaymentStrategy} against the previous regex-based checks.
+ * Run with the GC profiler to compare allocation per validation as well.
+ *
+ * Usage:
+ * <pre>
+ * java -jar target/benchmarks.jar PaymentValidationBenchmark -prof gc
+ * </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaymentValidationBenchmark {
+
+    // Mix of valid cards, spaced numbers and the usual rejections
+    private static final CreditCardDetails[] CARDS = {
+            new CreditCardDetails("4532015112830366", "John Doe", "12/30", "123"),
+            new CreditCardDetails("4532 0151 1283 0366", "Jane Smith", "01/29", "456"),
+            new CreditCardDetails("378282246310005", "Amex Holder", "06/31", "1234"),
+            new CreditCardDetails("6011111111111117", "Disc Holder", "09/28", "789"),
+            new CreditCardDetails("4532015112830367", "Bad Checksum", "12/30", "123"),
+            new CreditCardDetails("4532-0151-1283-0366", "Bad Separator", "12/30", "123"),
+            new CreditCardDetails("4532015112830366", "Bad Expiry", "13/30", "123"),
+            new CreditCardDetails("4532015112830366", "Bad Cvv", "12/30", "12a"),
+    };
+
+    /**
+     * Cycles through the cards, per thread.
+     */
+    @State(Scope.Thread)
+    public static class CardCursor {
+        private final CreditCardPaymentStrategy strategy = new CreditCardPaymentStrategy();
+        private int next;
+
+        private CreditCardDetails nextCard() {
+            next = (next + 1) & (CARDS.length - 1);
+            return CARDS[next];
+        }
+    }
+
+    @Benchmark
+    public boolean validateWithRegex(CardCursor cursor) {
+        return regexValidation(cursor.nextCard());
+    }
+
+    @Benchmark
+    public boolean validateSinglePass(CardCursor cursor) {
+        return cursor.strategy.validatePaymentDetails(cursor.nextCard());
+    }
+
+    /**
+     * The regex-based validation as it was before the single-pass validators.
+     */
+    private static boolean regexValidation(CreditCardDetails details) {
+        String cardNumber = details.getCardNumber();
+        if (cardNumber == null || cardNumber.replaceAll("\\s", "").length() < 13
+                || !cardNumber.replaceAll("\\s", "").matches("\\d{13,19}")) {
+            return false;
+        }
+        if (details.getExpiryDate() == null || !details.getExpiryDate().matches("\\d{2}/\\d{2}")) {
+            return false;
+        }
+        if (details.getCvv() == null || !details.getCvv().matches("\\d{3,4}")) {
+            return false;
+        }
+        return details.getCardHolderName() != null && !details.getCardHolderName().trim().isEmpty();
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.benchmark;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.exceptions.CarRentalException;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Reservation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reservation hot paths: booking a vehicle and cancelling a booking, from one
+ * thread and from several threads competing for the same stores.
+ *
+ * Usage:
+ * <pre>
+ * java -jar target/benchmarks.jar ReservationBenchmark -p vehicleCount=100000
+ * </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationBenchmark {
+
+    private static final int CANCEL_BATCH = 10_000;
+
+    /**
+     * Reservations made ahead of each iteration, for the cancellations to consume.
+     */
+    @State(Scope.Thread)
+    public static class PendingReservations {
+        private final String[] reservationIds = new String[CANCEL_BATCH];
+        private int next;
+
+        @Setup(Level.Iteration)
+        public void reserve(FleetState fleet) throws CarRentalException {
+            for (int i = 0; i < CANCEL_BATCH; i++) {
+                reservationIds[i] = fleet.reserveNext().getReservationId();
+            }
+            next = 0;
+        }
+
+        private String take() {
+            return reservationIds[next++];
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public Reservation createReservation(FleetState fleet) throws CarRentalException {
+        return fleet.reserveNext();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Threads(4)
+    public Reservation createReservationContended(FleetState fleet) throws CarRentalException {
+        return fleet.reserveNext();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3, batchSize = CANCEL_BATCH)
+    @Measurement(iterations = 10, batchSize = CANCEL_BATCH)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean cancelReservation(FleetState fleet, PendingReservations pending) {
+        return fleet.rentalSystem.cancelReservation(pending.take());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3, batchSize = CANCEL_BATCH)
+    @Measurement(iterations = 10, batchSize = CANCEL_BATCH)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Threads(4)
+    public boolean cancelReservationContended(FleetState fleet, PendingReservations pending) {
+        return fleet.rentalSystem.cancelReservation(pending.take());
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.benchmark;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.CompositeSearchStrategy;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.SearchByModelStrategy;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.SearchByPriceRangeStrategy;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.SearchBySeatingCapacityStrategy;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.SearchByTypeStrategy;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.VehicleSearchContext;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.VehicleSearchPage;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.VehicleSearchQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vehicle search through every search strategy, over the whole fleet, from one
+ * thread and from several threads at once.
+ *
+ * Usage:
+ * <pre>
+ * java -jar target/benchmarks.jar SearchBenchmark -p vehicleCount=1000000 -p columnar=true
+ * </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchBenchmark {
+
+    // Results shown per page of a search screen
+    private static final int PAGE_SIZE = 20;
+
+    /**
+     * One search context per strategy; contexts hold their strategy, so each thread
+     * gets its own.
+     */
+    @State(Scope.Thread)
+    public static class Searches {
+        // Whether searches scan the columnar copy of the fleet instead of the store indexes
+        @Param({"false", "true"})
+        public boolean columnar;
+
+        private VehicleSearchContext byType;
+        private VehicleSearchContext byPriceRange;
+        private VehicleSearchContext byModel;
+        private VehicleSearchContext bySeatingCapacity;
+        private VehicleSearchContext composite;
+
+        private SearchByPriceRangeStrategy.PriceRange priceRange;
+        private VehicleSearchQuery compositeQuery;
+        private VehicleSearchQuery datedQuery;
+
+        @Setup(Level.Trial)
+        public void createContexts(FleetState fleet) {
+            if (columnar) {
+                fleet.rentalSystem.enableColumnarFleet();
+            }
+            byType = new VehicleSearchContext(new SearchByTypeStrategy());
+            byPriceRange = new VehicleSearchContext(new SearchByPriceRangeStrategy());
+            byModel = new VehicleSearchContext(new SearchByModelStrategy());
+            bySeatingCapacity = new VehicleSearchContext(new SearchBySeatingCapacityStrategy());
+            composite = new VehicleSearchContext(new CompositeSearchStrategy());
+
+            // About 5% of the fleet's prices
+            priceRange = new SearchByPriceRangeStrategy.PriceRange(100.0, 114.0);
+            compositeQuery = VehicleSearchQuery.builder()
+                    .vehicleType(VehicleType.CAR)
+                    .priceRange(50.0, 150.0)
+                    .minSeats(5)
+                    .build();
+            // Before the benchmark bookings, so the window is open on every vehicle
+            LocalDate startDate = fleet.getFirstStartDate().minusDays(30);
+            datedQuery = VehicleSearchQuery.builder()
+                    .vehicleType(VehicleType.CAR)
+                    .priceRange(50.0, 150.0)
+                    .dates(startDate, startDate.plusDays(4))
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public List<Vehicle> searchByType(FleetState fleet, Searches searches) {
+        return fleet.rentalSystem.searchVehicles(searches.byType, VehicleType.VAN);
+    }
+
+    @Benchmark
+    public List<Vehicle> searchByPriceRange(FleetState fleet, Searches searches) {
+        return fleet.rentalSystem.searchVehicles(searches.byPriceRange, searches.priceRange);
+    }
+
+    @Benchmark
+    public List<Vehicle> searchByModel(FleetState fleet, Searches searches) {
+        return fleet.rentalSystem.searchVehicles(searches.byModel, "Model 3");
+    }
+
+    @Benchmark
+    public List<Vehicle> searchBySeatingCapacity(FleetState fleet, Searches searches) {
+        return fleet.rentalSystem.searchVehicles(searches.bySeatingCapacity, 7);
+    }
+
+    @Benchmark
+    public List<Vehicle> searchComposite(FleetState fleet, Searches searches) {
+        return fleet.rentalSystem.searchVehicles(searches.composite, searches.compositeQuery);
+    }
+
+    @Benchmark
+    public List<Vehicle> searchCompositeWithDates(FleetState fleet, Searches searches) {
+        return fleet.rentalSystem.searchVehicles(searches.datedQuery);
+    }
+
+    @Benchmark
+    public VehicleSearchPage searchCompositeFirstPage(FleetState fleet, Searches searches) {
+        return fleet.rentalSystem.searchVehicles(searches.compositeQuery, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Vehicle> searchByTypeContended(FleetState fleet, Searches searches) {
+        return fleet.rentalSystem.searchVehicles(searches.byType, VehicleType.VAN);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Vehicle> searchCompositeContended(FleetState fleet, Searches searches) {
+        return fleet.rentalSystem.searchVehicles(searches.composite, searches.compositeQuery);
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.benchmark;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.ShardedRentalEngine;
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
+import org.example.lowleveldesignexamples.carrentalsystemlld.factory.VehicleFactory;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Location;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Reservation;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Store;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Reservation throughput of the sharded engine by shard count, to compare with
+ * {@link ReservationBenchmark}. Each operation waits for its reservation, so the
+ * threaded variant shows how throughput scales as more shards serve the callers.
+ *
+ * Usage:
+ * <pre>
+ * java -jar target/benchmarks.jar ShardedReservationBenchmark -p shardCount=1,4,8
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ShardedReservationBenchmark {
+
+    private static final int USER_COUNT = 10_000;
+    private static final int FIRST_START_OFFSET_DAYS = 365;
+    private static final int RENTAL_DAYS = 3;
+    private static final int BOOKING_STRIDE_DAYS = RENTAL_DAYS + 1;
+
+    @Param({"1", "4", "8"})
+    public int shardCount;
+
+    @Param({"100000"})
+    public int vehicleCount;
+
+    @Param({"1000"})
+    public int vehiclesPerStore;
+
+    private ShardedRentalEngine engine;
+    private String[] vehicleIds;
+    private String[] userIds;
+    private LocalDate firstStartDate;
+    private final AtomicLong bookingSlots = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void buildFleet() {
+        Logger.getLogger("").setLevel(java.util.logging.Level.WARNING);
+
+        engine = new ShardedRentalEngine(shardCount);
+        VehicleType[] types = VehicleType.values();
+        int storeCount = (vehicleCount + vehiclesPerStore - 1) / vehiclesPerStore;
+        vehicleIds = new String[vehicleCount];
+        for (int s = 0; s < storeCount; s++) {
+            Location location = new Location("SHARD_LOC_" + s, s + " Benchmark Ave", "Austin", "TX",
+                    String.format("%05d", s), "USA", 30.0 + s * 0.001, -97.0);
+            Store store = new Store("SHARD_STORE_" + s, "Sharded Store " + s, location,
+                    "+1-555-0100", "Bench Manager");
+            int first = s * vehiclesPerStore;
+            int last = Math.min(first + vehiclesPerStore, vehicleCount);
+            for (int v = first; v < last; v++) {
+                vehicleIds[v] = "SHARD_V" + v;
+                store.getInventoryManagement().addVehicle(VehicleFactory.createVehicle(types[v % types.length],
+                        vehicleIds[v], "PLATE_" + v, 50.0, "Corolla", "Toyota", 2020));
+            }
+            engine.addStore(store).join();
+        }
+
+        userIds = new String[USER_COUNT];
+        for (int u = 0; u < USER_COUNT; u++) {
+            userIds[u] = "SHARD_U" + u;
+            engine.registerUser(new User(userIds[u], "Bench User " + u,
+                    "bench" + u + "@email.com", "+1-555-" + u, "DL" + u, "Benchmark Address"));
+        }
+        firstStartDate = LocalDate.now().plusDays(FIRST_START_OFFSET_DAYS);
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        engine.close();
+    }
+
+    /**
+     * Reserves the next free booking slot at the vehicle's own store, as
+     * FleetState.reserveNext does for the single-instance system.
+     */
+    private Reservation reserveNext() {
+        long slot = bookingSlots.getAndIncrement();
+        int vehicle = (int) (slot % vehicleIds.length);
+        String locationId = "SHARD_LOC_" + vehicle / vehiclesPerStore;
+        LocalDate startDate = firstStartDate.plusDays(BOOKING_STRIDE_DAYS * (slot / vehicleIds.length));
+        return engine.createReservation(userIds[(int) (slot % USER_COUNT)], vehicleIds[vehicle],
+                startDate, startDate.plusDays(RENTAL_DAYS - 1), locationId, locationId).join();
+    }
+
+    @Benchmark
+    public Reservation createReservation() {
+        return reserveNext();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Reservation createReservationContended() {
+        return reserveNext();
+    }
+}
@@ -3,9 +3,6 @@ package org.example.lowleveldesignexamples.carrentalsystemlld;
 import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
 import org.example.lowleveldesignexamples.carrentalsystemlld.exceptions.CarRentalException;
 import org.example.lowleveldesignexamples.carrentalsystemlld.factory.VehicleFactory;
-import org.example.carrentalsystemlld.model.*;
-import org.example.carrentalsystemlld.strategy.payment.*;
-import org.example.carrentalsystemlld.strategy.search.*;
 import org.example.lowleveldesignexamples.carrentalsystemlld.model.*;
 import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment.CashPaymentStrategy;
 import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment.CreditCardPaymentStrategy;
@@ -285,7 +282,7 @@ public class CarRentalSystemDemo {
         PaymentContext paymentContext = new PaymentContext(new CreditCardPaymentStrategy());
         CreditCardPaymentStrategy.CreditCardDetails cardDetails = 
             new CreditCardPaymentStrategy.CreditCardDetails(
-                "4532123456789012", "John Doe", "12/25", "123"
+                "4532015112830366", "John Doe", "12/30", "123"
             );
         
         System.out.println("Strategy 1 - Credit Card Payment:");
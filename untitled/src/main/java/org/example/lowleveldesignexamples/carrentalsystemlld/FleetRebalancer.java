@@ -0,0 +1,250 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.ReservationStatus;
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleStatus;
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Location;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Reservation;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Store;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Plans vehicle transfers that undo the imbalance one-way rentals leave behind.
+ *
+ * Each store gets a target per vehicle type: the fleet of that type, shared out in
+ * proportion to the store's upcoming pickups (plus one, so quiet stores keep some
+ * vehicles). A store's projected fleet is what it holds now, plus one-way rentals
+ * arriving there and minus those leaving it before the horizon. Stores above target
+ * give up spare vehicles, meaning available ones with no bookings.
+ *
+ * Transfers are matched greedily: stores short of the most vehicles first, each
+ * served by its nearest spare vehicles through a {@link StoreGeoIndex} of the
+ * giving stores. This stays within seconds for tens of thousands of stores where an
+ * exact min-cost flow would not, at the price of an occasionally longer total.
+ *
+ * The parallel mode balances each region of the coordinate grid on its own thread,
+ * then matches what is left over across region borders in one final pass.
+ */
+final class FleetRebalancer {
+
+    // Regions of the parallel mode, roughly 550 km of latitude each
+    private static final double REGION_DEGREES = 5.0;
+    // Giving stores fetched per nearest-store query
+    private static final int DONOR_BATCH = 8;
+
+    private static final VehicleType[] TYPES = VehicleType.values();
+
+    private final double maxDistanceKm;
+
+    /**
+     * @param maxDistanceKm Longest transfer to plan
+     */
+    FleetRebalancer(double maxDistanceKm) {
+        this.maxDistanceKm = maxDistanceKm;
+    }
+
+    /**
+     * Plans transfers for a set of stores.
+     *
+     * @param stores Stores to balance; stores without a location are left out
+     * @param reservations Reservations to account for; only scheduled and active ones count
+     * @param today First day of the planning window
+     * @param horizon Last day of the planning window
+     * @param parallel Whether to balance regions in parallel
+     * @return Transfer plan
+     */
+    RebalancingPlan plan(Collection<Store> stores, Collection<Reservation> reservations,
+                         LocalDate today, LocalDate horizon, boolean parallel) {
+        List<Site> sites = new ArrayList<>(stores.size());
+        Map<String, Site> sitesByLocation = new HashMap<>();
+        for (Store store : stores) {
+            if (store.getLocation() != null) {
+                Site site = new Site(store);
+                sites.add(site);
+                sitesByLocation.put(store.getLocation().getLocationId(), site);
+            }
+        }
+        (parallel ? sites.parallelStream() : sites.stream()).forEach(Site::countVehicles);
+
+        for (Reservation reservation : reservations) {
+            ReservationStatus status = reservation.getStatus();
+            if (status != ReservationStatus.SCHEDULED && status != ReservationStatus.ACTIVE) {
+                continue;
+            }
+            int type = reservation.getVehicle().getVehicleType().ordinal();
+            Site pickup = sitesByLocation.get(reservation.getPickupLocation().getLocationId());
+            if (pickup != null && status == ReservationStatus.SCHEDULED
+                    && !reservation.getStartDate().isBefore(today) && !reservation.getStartDate().isAfter(horizon)) {
+                pickup.demand[type]++;
+            }
+
+            // A one-way rental ending in the window moves its vehicle between the stores
+            if (reservation.isSameLocationRental() || reservation.getEndDate().isAfter(horizon)) {
+                continue;
+            }
+            Site drop = sitesByLocation.get(reservation.getDropLocation().getLocationId());
+            if (drop != pickup) {
+                if (pickup != null) {
+                    pickup.projected[type]--;
+                }
+                if (drop != null) {
+                    drop.projected[type]++;
+                }
+            }
+        }
+
+        List<List<Site>> regions = parallel ? groupByRegion(sites) : List.of(sites);
+        List<List<RebalancingPlan.Transfer>> regionTransfers = (parallel ? regions.parallelStream() : regions.stream())
+                .map(this::balance)
+                .collect(Collectors.toList());
+
+        List<RebalancingPlan.Transfer> transfers = new ArrayList<>();
+        for (List<RebalancingPlan.Transfer> region : regionTransfers) {
+            transfers.addAll(region);
+        }
+        if (regions.size() > 1) {
+            // Leftover shortages next to spare vehicles in a neighbouring region
+            transfers.addAll(match(sites));
+        }
+
+        int unmetDemand = 0;
+        for (Site site : sites) {
+            for (int deficit : site.deficit) {
+                unmetDemand += deficit;
+            }
+        }
+        return new RebalancingPlan(horizon, transfers, unmetDemand);
+    }
+
+    private static List<List<Site>> groupByRegion(List<Site> sites) {
+        Map<Long, List<Site>> regions = new HashMap<>();
+        for (Site site : sites) {
+            long row = (long) Math.floor((site.latitude + 90.0) / REGION_DEGREES);
+            long column = (long) Math.floor((site.longitude + 180.0) / REGION_DEGREES);
+            regions.computeIfAbsent(row * 1000 + column, key -> new ArrayList<>()).add(site);
+        }
+        return new ArrayList<>(regions.values());
+    }
+
+    /**
+     * Sets the targets of a region's stores and matches its transfers.
+     */
+    private List<RebalancingPlan.Transfer> balance(List<Site> region) {
+        for (int type = 0; type < TYPES.length; type++) {
+            long fleet = 0;
+            long demand = 0;
+            for (Site site : region) {
+                fleet += Math.max(0, site.projected[type]);
+                demand += site.demand[type];
+            }
+
+            // Rounded down, so the targets never ask for more vehicles than the region has
+            long shares = demand + region.size();
+            for (Site site : region) {
+                int target = (int) (fleet * (site.demand[type] + 1) / shares);
+                int excess = site.projected[type] - target;
+                site.surplus[type] = Math.min(Math.max(0, excess), site.movable.get(type).size());
+                site.deficit[type] = Math.max(0, -excess);
+            }
+        }
+        return match(region);
+    }
+
+    /**
+     * Serves the stores below target from the nearest spare vehicles, largest shortage first.
+     */
+    private List<RebalancingPlan.Transfer> match(List<Site> sites) {
+        List<RebalancingPlan.Transfer> transfers = new ArrayList<>();
+
+        for (int type = 0; type < TYPES.length; type++) {
+            int t = type;
+            StoreGeoIndex donors = new StoreGeoIndex();
+            Map<Store, Site> donorSites = new HashMap<>();
+            List<Site> receivers = new ArrayList<>();
+            for (Site site : sites) {
+                if (site.surplus[t] > 0) {
+                    donors.update(site.store);
+                    donorSites.put(site.store, site);
+                } else if (site.deficit[t] > 0) {
+                    receivers.add(site);
+                }
+            }
+            if (donorSites.isEmpty() || receivers.isEmpty()) {
+                continue;
+            }
+            receivers.sort(Comparator.comparingInt((Site site) -> site.deficit[t]).reversed());
+
+            for (Site receiver : receivers) {
+                while (receiver.deficit[t] > 0) {
+                    List<Store> nearest = donors.findNearest(receiver.latitude, receiver.longitude,
+                            DONOR_BATCH, maxDistanceKm, store -> donorSites.get(store).surplus[t] > 0);
+                    if (nearest.isEmpty()) {
+                        break;
+                    }
+                    for (Store store : nearest) {
+                        Site donor = donorSites.get(store);
+                        double distanceKm = StoreGeoIndex.distanceKm(donor.latitude, donor.longitude,
+                                receiver.latitude, receiver.longitude);
+                        List<Vehicle> spare = donor.movable.get(t);
+                        while (donor.surplus[t] > 0 && receiver.deficit[t] > 0) {
+                            Vehicle vehicle = spare.remove(spare.size() - 1);
+                            transfers.add(new RebalancingPlan.Transfer(vehicle.getVehicleId(), TYPES[t],
+                                    donor.store.getStoreId(), receiver.store.getStoreId(), distanceKm));
+                            donor.surplus[t]--;
+                            receiver.deficit[t]--;
+                        }
+                    }
+                }
+            }
+        }
+        return transfers;
+    }
+
+    /**
+     * Per-type planning state of one store.
+     */
+    private static final class Site {
+        private final Store store;
+        private final double latitude;
+        private final double longitude;
+        private final int[] projected = new int[TYPES.length];
+        private final int[] demand = new int[TYPES.length];
+        private final int[] surplus = new int[TYPES.length];
+        private final int[] deficit = new int[TYPES.length];
+        // Available vehicles with no bookings, free to leave the store
+        private final List<List<Vehicle>> movable = new ArrayList<>(TYPES.length);
+
+        private Site(Store store) {
+            Location location = store.getLocation();
+            this.store = store;
+            this.latitude = location.getLatitude();
+            this.longitude = location.getLongitude();
+            for (int type = 0; type < TYPES.length; type++) {
+                movable.add(new ArrayList<>());
+            }
+        }
+
+        private void countVehicles() {
+            for (Vehicle vehicle : store.getInventoryManagement().getAllVehicles()) {
+                VehicleStatus status = vehicle.getStatus();
+                if (!status.isInService()) {
+                    continue;
+                }
+                int type = vehicle.getVehicleType().ordinal();
+                projected[type]++;
+                if (status == VehicleStatus.AVAILABLE && vehicle.getAvailabilityCalendar().getBookingCount() == 0) {
+                    movable.get(type).add(vehicle);
+                }
+            }
+        }
+    }
+}
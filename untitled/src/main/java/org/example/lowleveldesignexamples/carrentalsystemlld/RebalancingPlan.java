@@ -0,0 +1,112 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Vehicle transfers that even out the fleet between stores, as planned by
+ * {@link VehicleRentalSystem#planFleetRebalancing}. Nothing is moved until the
+ * transfers are carried out.
+ */
+public class RebalancingPlan {
+
+    private final LocalDate horizon;
+    private final List<Transfer> transfers;
+    private final double totalDistanceKm;
+    private final int unmetDemand;
+
+    RebalancingPlan(LocalDate horizon, List<Transfer> transfers, int unmetDemand) {
+        double distanceKm = 0;
+        for (Transfer transfer : transfers) {
+            distanceKm += transfer.getDistanceKm();
+        }
+        this.horizon = horizon;
+        this.transfers = Collections.unmodifiableList(transfers);
+        this.totalDistanceKm = distanceKm;
+        this.unmetDemand = unmetDemand;
+    }
+
+    /**
+     * Gets the last day whose reservations the plan accounts for.
+     */
+    public LocalDate getHorizon() {
+        return horizon;
+    }
+
+    public List<Transfer> getTransfers() {
+        return transfers;
+    }
+
+    /**
+     * Gets the sum of the transfer distances, the cost the plan keeps low.
+     */
+    public double getTotalDistanceKm() {
+        return totalDistanceKm;
+    }
+
+    /**
+     * Gets the number of vehicles still missing at stores below their target,
+     * because no spare vehicle was within reach.
+     */
+    public int getUnmetDemand() {
+        return unmetDemand;
+    }
+
+    @Override
+    public String toString() {
+        return "RebalancingPlan{" +
+                "transfers=" + transfers.size() +
+                ", totalDistanceKm=" + String.format("%.1f", totalDistanceKm) +
+                ", unmetDemand=" + unmetDemand +
+                '}';
+    }
+
+    /**
+     * One vehicle to drive from a store with spare vehicles to a store short of them.
+     */
+    public static final class Transfer {
+        private final String vehicleId;
+        private final VehicleType vehicleType;
+        private final String fromStoreId;
+        private final String toStoreId;
+        private final double distanceKm;
+
+        Transfer(String vehicleId, VehicleType vehicleType, String fromStoreId, String toStoreId,
+                 double distanceKm) {
+            this.vehicleId = vehicleId;
+            this.vehicleType = vehicleType;
+            this.fromStoreId = fromStoreId;
+            this.toStoreId = toStoreId;
+            this.distanceKm = distanceKm;
+        }
+
+        public String getVehicleId() {
+            return vehicleId;
+        }
+
+        public VehicleType getVehicleType() {
+            return vehicleType;
+        }
+
+        public String getFromStoreId() {
+            return fromStoreId;
+        }
+
+        public String getToStoreId() {
+            return toStoreId;
+        }
+
+        public double getDistanceKm() {
+            return distanceKm;
+        }
+
+        @Override
+        public String toString() {
+            return vehicleId + " " + fromStoreId + " -> " + toStoreId
+                    + String.format(" (%.1f km)", distanceKm);
+        }
+    }
+}
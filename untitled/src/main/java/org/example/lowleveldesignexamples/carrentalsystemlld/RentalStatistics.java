@@ -0,0 +1,96 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.ReservationStatus;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Bill;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.BillObserver;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Reservation;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.ReservationObserver;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+import org.example.lowleveldesignexamples.carrentalsystemlld.repository.InventoryObserver;
+import org.example.lowleveldesignexamples.carrentalsystemlld.repository.VehicleInventoryManagement;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live system-wide counters, updated on every state transition instead of being
+ * recomputed from reservation, bill and inventory history.
+ *
+ * Design Pattern: Observer Pattern
+ * Purpose: Subscribes to inventories, reservations and bills so a statistics
+ * snapshot costs O(1). LongAdder keeps the hot update paths contention-free.
+ */
+class RentalStatistics implements InventoryObserver, ReservationObserver, BillObserver {
+
+    private final LongAdder totalVehicles = new LongAdder();
+    private final LongAdder availableVehicles = new LongAdder();
+    private final LongAdder activeReservations = new LongAdder();
+    private final LongAdder paidBills = new LongAdder();
+
+    /**
+     * Starts counting a store's inventory, including the vehicles it already holds.
+     * The store may already be published and its inventory changing, so the current
+     * counts are read while the inventory holds changes off: each change is either
+     * in those counts or announced to this observer afterwards.
+     *
+     * @param inventory Inventory of the newly added store
+     */
+    void track(VehicleInventoryManagement inventory) {
+        inventory.addObserver(this, subscribed -> {
+            totalVehicles.add(subscribed.getTotalVehicleCount());
+            availableVehicles.add(subscribed.getAvailableVehicleCount());
+        });
+    }
+
+    @Override
+    public void onVehicleAdded(VehicleInventoryManagement inventory, Vehicle vehicle) {
+        totalVehicles.increment();
+    }
+
+    @Override
+    public void onVehicleRemoved(VehicleInventoryManagement inventory, Vehicle vehicle) {
+        totalVehicles.decrement();
+    }
+
+    @Override
+    public void onAvailabilityChanged(VehicleInventoryManagement inventory, Vehicle vehicle, boolean available) {
+        if (available) {
+            availableVehicles.increment();
+        } else {
+            availableVehicles.decrement();
+        }
+    }
+
+    @Override
+    public void onStatusChanged(Reservation reservation, ReservationStatus oldStatus, ReservationStatus newStatus) {
+        if (newStatus.isActive() && !oldStatus.isActive()) {
+            activeReservations.increment();
+        } else if (oldStatus.isActive() && !newStatus.isActive()) {
+            activeReservations.decrement();
+        }
+    }
+
+    @Override
+    public void onPaidStatusChanged(Bill bill, boolean paid) {
+        if (paid) {
+            paidBills.increment();
+        } else {
+            paidBills.decrement();
+        }
+    }
+
+    long getTotalVehicles() {
+        return totalVehicles.sum();
+    }
+
+    long getAvailableVehicles() {
+        return availableVehicles.sum();
+    }
+
+    long getActiveReservations() {
+        return activeReservations.sum();
+    }
+
+    long getPaidBills() {
+        return paidBills.sum();
+    }
+}
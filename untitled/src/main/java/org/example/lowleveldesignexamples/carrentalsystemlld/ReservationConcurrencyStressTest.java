@@ -0,0 +1,259 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.ReservationStatus;
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
+import org.example.lowleveldesignexamples.carrentalsystemlld.exceptions.CarRentalException;
+import org.example.lowleveldesignexamples.carrentalsystemlld.factory.VehicleFactory;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Location;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Reservation;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Store;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.User;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Multi-threaded stress test for concurrent reservations.
+ * Verifies that a vehicle is never double booked for overlapping dates, even when many
+ * threads race for the same vehicles at once, while non-overlapping date ranges on the
+ * same vehicle can all be sold.
+ */
+public class ReservationConcurrencyStressTest {
+
+    private static final int THREADS = Runtime.getRuntime().availableProcessors() * 4;
+    private static final int ROUNDS = 200;
+    private static final int FLEET_SIZE = 2_000;
+    private static final int ATTEMPTS_PER_VEHICLE = 4;
+
+    private static final String STORE_ID = "STRESS_STORE";
+    private static final String LOCATION_ID = "STRESS_LOC";
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== CAR RENTAL CONCURRENT RESERVATION STRESS TEST ===\n");
+
+        // Reservation logging would dominate the run time and drown the results
+        Logger.getLogger("").setLevel(Level.WARNING);
+
+        VehicleRentalSystem rentalSystem = VehicleRentalSystem.getInstance();
+        setupSystem(rentalSystem);
+
+        boolean sameVehiclePassed = testSameVehicleContention(rentalSystem);
+        boolean fleetPassed = testFleetContention(rentalSystem);
+        boolean disjointDatesPassed = testDisjointDateRanges(rentalSystem);
+        boolean lifecyclePassed = testLifecycleRelease(rentalSystem);
+
+        System.out.println("\n=== ALL TESTS COMPLETED: "
+                + (sameVehiclePassed && fleetPassed && disjointDatesPassed && lifecyclePassed ? "PASS" : "FAIL")
+                + " ===");
+    }
+
+    private static void setupSystem(VehicleRentalSystem rentalSystem) {
+        Location location = new Location(LOCATION_ID, "1 Stress Way", "Testville",
+                "TS", "00000", "USA", 0.0, 0.0);
+        rentalSystem.addStore(new Store(STORE_ID, "Stress Test Store", location,
+                "+1-555-0000", "Load Tester"));
+
+        for (int i = 0; i < THREADS; i++) {
+            rentalSystem.registerUser(new User("STRESS_U" + i, "Stress User " + i,
+                    "stress" + i + "@email.com", "+1-555-" + i, "DL" + i, "Test Address"));
+        }
+    }
+
+    /**
+     * Test 1: every thread races for the same vehicle; exactly one may win each round.
+     */
+    private static boolean testSameVehicleContention(VehicleRentalSystem rentalSystem) throws Exception {
+        System.out.println("TEST 1: " + THREADS + " threads racing for one vehicle, " + ROUNDS + " rounds");
+        System.out.println("-".repeat(50));
+
+        Store store = rentalSystem.getStoreById(STORE_ID);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        int doubleBookedRounds = 0;
+
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                String vehicleId = "STRESS_SINGLE_" + round;
+                store.getInventoryManagement().addVehicle(createVehicle(vehicleId));
+
+                int winners = race(executor, rentalSystem, List.of(vehicleId), THREADS);
+                if (winners != 1) {
+                    doubleBookedRounds++;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        boolean passed = doubleBookedRounds == 0;
+        System.out.println("Rounds with winners != 1: " + doubleBookedRounds);
+        System.out.println("Test Result: " + (passed ? "PASS" : "FAIL") + "\n");
+        return passed;
+    }
+
+    /**
+     * Test 2: threads race over a large fleet; every vehicle must be booked exactly once
+     * and the reservation throughput is reported.
+     */
+    private static boolean testFleetContention(VehicleRentalSystem rentalSystem) throws Exception {
+        System.out.println("TEST 2: " + THREADS + " threads, " + FLEET_SIZE + " vehicles, "
+                + ATTEMPTS_PER_VEHICLE + " attempts per vehicle");
+        System.out.println("-".repeat(50));
+
+        Store store = rentalSystem.getStoreById(STORE_ID);
+        List<String> vehicleIds = new ArrayList<>();
+        for (int i = 0; i < FLEET_SIZE; i++) {
+            String vehicleId = "STRESS_FLEET_" + i;
+            store.getInventoryManagement().addVehicle(createVehicle(vehicleId));
+            vehicleIds.add(vehicleId);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long startTime = System.nanoTime();
+        int winners;
+        try {
+            winners = race(executor, rentalSystem, vehicleIds, FLEET_SIZE * ATTEMPTS_PER_VEHICLE);
+        } finally {
+            executor.shutdown();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        long singlyBookedVehicles = vehicleIds.stream()
+                .map(rentalSystem::findVehicleById)
+                .filter(vehicle -> vehicle.getAvailabilityCalendar().getBookingCount() == 1)
+                .count();
+
+        boolean passed = winners == FLEET_SIZE && singlyBookedVehicles == FLEET_SIZE;
+        System.out.println("Successful reservations: " + winners + " (expected " + FLEET_SIZE + ")");
+        System.out.println("Vehicles booked exactly once: " + singlyBookedVehicles);
+        System.out.println("Elapsed: " + elapsedMillis + " ms for "
+                + (FLEET_SIZE * ATTEMPTS_PER_VEHICLE) + " attempts");
+        System.out.println("Test Result: " + (passed ? "PASS" : "FAIL") + "\n");
+        return passed;
+    }
+
+    /**
+     * Test 3: threads race for one vehicle with back-to-back, non-overlapping weeks;
+     * every one of them must be sold.
+     */
+    private static boolean testDisjointDateRanges(VehicleRentalSystem rentalSystem) throws Exception {
+        System.out.println("TEST 3: " + THREADS + " threads booking consecutive weeks of one vehicle");
+        System.out.println("-".repeat(50));
+
+        String vehicleId = "STRESS_WEEKS";
+        rentalSystem.getStoreById(STORE_ID).getInventoryManagement().addVehicle(createVehicle(vehicleId));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        int winners;
+        try {
+            winners = race(executor, rentalSystem, List.of(vehicleId), THREADS, 7);
+        } finally {
+            executor.shutdown();
+        }
+
+        boolean passed = winners == THREADS;
+        System.out.println("Successful reservations: " + winners + " (expected " + THREADS + ")");
+        System.out.println("Test Result: " + (passed ? "PASS" : "FAIL") + "\n");
+        return passed;
+    }
+
+    /**
+     * Test 4: the lifecycle takes a vehicle out of the available fleet while it is rented,
+     * keeps it out across a same-day hand-over to the next renter, and returns it after.
+     * Advancing the lifecycle also picks up and returns the vehicles of the earlier tests.
+     */
+    private static boolean testLifecycleRelease(VehicleRentalSystem rentalSystem) throws Exception {
+        System.out.println("TEST 4: lifecycle of two back-to-back rentals of one vehicle");
+        System.out.println("-".repeat(50));
+
+        String vehicleId = "STRESS_LIFECYCLE";
+        Vehicle vehicle = createVehicle(vehicleId);
+        rentalSystem.getStoreById(STORE_ID).getInventoryManagement().addVehicle(vehicle);
+
+        LocalDate firstStart = LocalDate.now().plusDays(2);
+        LocalDate handOver = firstStart.plusDays(3);
+        LocalDate lastEnd = handOver.plusDays(3);
+        Reservation first = rentalSystem.createReservation("STRESS_U0", vehicleId, firstStart, handOver,
+                LOCATION_ID, LOCATION_ID);
+        Reservation second = rentalSystem.createReservation("STRESS_U1", vehicleId, handOver, lastEnd,
+                LOCATION_ID, LOCATION_ID);
+
+        rentalSystem.advanceReservationLifecycle(firstStart);
+        boolean rentedOut = first.getStatus() == ReservationStatus.ACTIVE && !vehicle.isAvailableForRental();
+
+        rentalSystem.advanceReservationLifecycle(handOver);
+        boolean handedOver = first.getStatus() == ReservationStatus.COMPLETED
+                && second.getStatus() == ReservationStatus.ACTIVE && !vehicle.isAvailableForRental();
+
+        rentalSystem.advanceReservationLifecycle(lastEnd);
+        boolean returned = second.getStatus() == ReservationStatus.COMPLETED && vehicle.isAvailableForRental();
+
+        // Past the last booking of every test, the whole fleet has been returned
+        rentalSystem.advanceReservationLifecycle(LocalDate.now().plusYears(1));
+        boolean fleetAvailable = rentalSystem.getAllAvailableVehicles().size()
+                == rentalSystem.getStoreById(STORE_ID).getInventoryManagement().getTotalVehicleCount();
+
+        boolean passed = rentedOut && handedOver && returned && fleetAvailable;
+        System.out.println("Unavailable while rented: " + rentedOut);
+        System.out.println("Unavailable across the hand-over: " + handedOver);
+        System.out.println("Available after the return: " + returned);
+        System.out.println("Whole fleet available again: " + fleetAvailable);
+        System.out.println("Test Result: " + (passed ? "PASS" : "FAIL") + "\n");
+        return passed;
+    }
+
+    private static int race(ExecutorService executor, VehicleRentalSystem rentalSystem,
+                            List<String> vehicleIds, int attempts) throws InterruptedException {
+        return race(executor, rentalSystem, vehicleIds, attempts, 0);
+    }
+
+    /**
+     * Releases all attempts at once and counts how many reservations succeeded.
+     * Attempt i targets vehicle i modulo the vehicle count and starts i * dayOffset days
+     * after tomorrow; a zero offset makes every attempt ask for the same dates.
+     */
+    private static int race(ExecutorService executor, VehicleRentalSystem rentalSystem,
+                            List<String> vehicleIds, int attempts, int dayOffset) throws InterruptedException {
+        CountDownLatch startSignal = new CountDownLatch(1);
+        CountDownLatch doneSignal = new CountDownLatch(attempts);
+        AtomicInteger winners = new AtomicInteger();
+
+        for (int i = 0; i < attempts; i++) {
+            String vehicleId = vehicleIds.get(i % vehicleIds.size());
+            String userId = "STRESS_U" + (i % THREADS);
+            LocalDate startDate = LocalDate.now().plusDays(1 + (long) i * dayOffset);
+            LocalDate endDate = startDate.plusDays(Math.max(1, Math.min(dayOffset, 3)));
+            executor.execute(() -> {
+                try {
+                    startSignal.await();
+                    rentalSystem.createReservation(userId, vehicleId, startDate, endDate,
+                            LOCATION_ID, LOCATION_ID);
+                    winners.incrementAndGet();
+                } catch (CarRentalException e) {
+                    // Expected for every thread that lost the race
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneSignal.countDown();
+                }
+            });
+        }
+
+        startSignal.countDown();
+        doneSignal.await();
+        return winners.get();
+    }
+
+    private static Vehicle createVehicle(String vehicleId) {
+        return VehicleFactory.createVehicle(VehicleType.CAR, vehicleId, "PLATE_" + vehicleId,
+                50.0, "Corolla", "Toyota", 2023);
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.ReservationStatus;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Reservation;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.ReservationObserver;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fires reservation lifecycle transitions when their start and end dates arrive.
+ *
+ * A hashed timer wheel with one slot per day: every live reservation has exactly
+ * one pending timer, in the slot of its next deadline (start date while scheduled,
+ * end date while active). Timers are intrusive list nodes, so scheduling, moving
+ * and cancelling one is O(1), and advancing a day only visits that day's slot.
+ * Deadlines beyond the wheel's span wait in their slot for later revolutions.
+ *
+ * Memory is one small node per scheduled or active reservation plus the fixed wheel;
+ * a timer is dropped as soon as its reservation completes or is cancelled, whoever
+ * triggered it.
+ *
+ * Design Pattern: Observer Pattern
+ * Purpose: Follows status changes made elsewhere (manual activation, cancellation)
+ * to move or drop the reservation's timer.
+ */
+final class ReservationLifecycleScheduler implements ReservationObserver {
+
+    /**
+     * Performs the transitions when a deadline is reached. Called without any
+     * scheduler lock held.
+     */
+    interface TransitionHandler {
+        void onStartDateReached(Reservation reservation);
+
+        void onEndDateReached(Reservation reservation);
+    }
+
+    private static final int WHEEL_DAYS = 512;
+    private static final int WHEEL_MASK = WHEEL_DAYS - 1;
+
+    private final TransitionHandler handler;
+
+    private final Object lock = new Object();
+    // Guarded by lock
+    private final Timer[] wheel = new Timer[WHEEL_DAYS];
+    private final Map<Reservation, Timer> timers = new HashMap<>();
+    // Timers already due when scheduled; fired by the next advance
+    private Timer overdue;
+    private long currentDay;
+
+    /**
+     * @param handler Performs the transitions
+     * @param lastProcessedDay Deadlines after this day are still to come
+     */
+    ReservationLifecycleScheduler(TransitionHandler handler, LocalDate lastProcessedDay) {
+        this.handler = handler;
+        this.currentDay = lastProcessedDay.toEpochDay();
+    }
+
+    /**
+     * Starts tracking a reservation; it fires at its start date if scheduled, or
+     * its end date if already active. Finished reservations are ignored.
+     *
+     * @param reservation Reservation to track
+     */
+    void schedule(Reservation reservation) {
+        reservation.addObserver(this);
+        synchronized (lock) {
+            arm(reservation, reservation.getStatus());
+        }
+    }
+
+    @Override
+    public void onStatusChanged(Reservation reservation, ReservationStatus oldStatus, ReservationStatus newStatus) {
+        synchronized (lock) {
+            arm(reservation, newStatus);
+        }
+    }
+
+    /**
+     * Places the reservation's timer at the deadline for its status, or drops it.
+     */
+    private void arm(Reservation reservation, ReservationStatus status) {
+        if (status == ReservationStatus.SCHEDULED) {
+            place(reservation, reservation.getStartDate(), false);
+        } else if (status == ReservationStatus.ACTIVE) {
+            place(reservation, reservation.getEndDate(), true);
+        } else {
+            Timer timer = timers.remove(reservation);
+            if (timer != null) {
+                unlink(timer);
+            }
+        }
+    }
+
+    private void place(Reservation reservation, LocalDate deadline, boolean atEnd) {
+        Timer timer = timers.get(reservation);
+        if (timer != null) {
+            unlink(timer);
+        } else {
+            timer = new Timer(reservation);
+            timers.put(reservation, timer);
+        }
+        timer.atEnd = atEnd;
+        timer.deadlineDay = deadline.toEpochDay();
+        if (timer.deadlineDay <= currentDay) {
+            timer.slot = -1;
+            overdue = push(overdue, timer);
+        } else {
+            timer.slot = (int) (timer.deadlineDay & WHEEL_MASK);
+            wheel[timer.slot] = push(wheel[timer.slot], timer);
+        }
+    }
+
+    /**
+     * Fires every deadline up to and including the given day. Transitions that make
+     * further deadlines due, e.g. a past reservation activated and then completed,
+     * all fire in the same call.
+     *
+     * @param today Day to advance to; earlier days are ignored
+     * @return Number of transitions fired
+     */
+    int advanceTo(LocalDate today) {
+        long targetDay = today.toEpochDay();
+        int fired = 0;
+        while (true) {
+            List<Timer> due = new ArrayList<>();
+            synchronized (lock) {
+                // Past the wheel's span every slot is visited once
+                long lastDay = Math.min(targetDay, currentDay + WHEEL_DAYS);
+                for (long day = currentDay + 1; day <= lastDay; day++) {
+                    collectDue(wheel[(int) (day & WHEEL_MASK)], targetDay, due);
+                }
+                currentDay = Math.max(currentDay, targetDay);
+                collectDue(overdue, targetDay, due);
+            }
+            if (due.isEmpty()) {
+                return fired;
+            }
+
+            for (Timer timer : due) {
+                // A fired timer no longer counts as pending; the transition re-arms or drops it
+                Reservation reservation = timer.reservation;
+                if (timer.atEnd) {
+                    handler.onEndDateReached(reservation);
+                } else {
+                    handler.onStartDateReached(reservation);
+                    synchronized (lock) {
+                        // Not picked up at the start date; it expires at the end date instead
+                        if (reservation.getStatus() == ReservationStatus.SCHEDULED) {
+                            place(reservation, reservation.getEndDate(), true);
+                        }
+                    }
+                }
+                fired++;
+            }
+        }
+    }
+
+    private void collectDue(Timer head, long targetDay, List<Timer> due) {
+        for (Timer timer = head; timer != null; ) {
+            Timer next = timer.next;
+            if (timer.deadlineDay <= targetDay) {
+                unlink(timer);
+                timers.remove(timer.reservation);
+                due.add(timer);
+            }
+            timer = next;
+        }
+    }
+
+    /**
+     * Gets the number of reservations waiting for a start or end date.
+     */
+    int getPendingCount() {
+        synchronized (lock) {
+            return timers.size();
+        }
+    }
+
+    private static Timer push(Timer head, Timer timer) {
+        timer.prev = null;
+        timer.next = head;
+        if (head != null) {
+            head.prev = timer;
+        }
+        return timer;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else if (timer.slot >= 0) {
+            wheel[timer.slot] = timer.next;
+        } else {
+            overdue = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.prev = null;
+        timer.next = null;
+    }
+
+    /**
+     * Pending deadline of one reservation; a node in its slot's list.
+     */
+    private static final class Timer {
+        private final Reservation reservation;
+        // Waiting for the end date rather than the start date
+        private boolean atEnd;
+        private long deadlineDay;
+        // Wheel slot, or -1 in the overdue list
+        private int slot;
+        private Timer prev;
+        private Timer next;
+
+        private Timer(Reservation reservation) {
+            this.reservation = reservation;
+        }
+    }
+}
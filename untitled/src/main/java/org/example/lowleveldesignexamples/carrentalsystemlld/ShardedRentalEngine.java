@@ -0,0 +1,654 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.ReservationStatus;
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleStatus;
+import org.example.lowleveldesignexamples.carrentalsystemlld.exceptions.InvalidReservationException;
+import org.example.lowleveldesignexamples.carrentalsystemlld.exceptions.VehicleNotAvailableException;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Bill;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Location;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Money;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Reservation;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Store;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.User;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+import org.example.lowleveldesignexamples.carrentalsystemlld.repository.InventoryObserver;
+import org.example.lowleveldesignexamples.carrentalsystemlld.repository.VehicleInventoryManagement;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.id.SnowflakeIdGenerator;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.pricing.PricingStrategy;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.pricing.StandardPricingStrategy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Store-partitioned rental engine for multi-core scaling.
+ *
+ * Every store is owned by one shard, chosen by a hash of its store ID. A shard is
+ * a single thread with its own stores, reservations and bills: all reservation and
+ * billing traffic for its stores runs on that thread, so shards never contend with
+ * each other and their maps need no locking. Callers get CompletableFutures.
+ *
+ * Reservation and bill IDs are Snowflake IDs with the shard number as node ID, so
+ * any ID routes back to its shard without a lookup. Vehicles route through a
+ * vehicleId -> store map kept in sync by inventory observers. Users and locations
+ * are read-mostly reference data shared by all shards.
+ *
+ * Cross-shard work is message passing: a one-way rental to a store in another shard
+ * is announced to that shard when booked, and when it completes the vehicle leaves
+ * the pickup store and is handed to the drop store's shard as a message.
+ *
+ * Unlike {@link VehicleRentalSystem} this engine is not a singleton and has no
+ * journal; it is an alternative to it, not a layer on top of it.
+ */
+public class ShardedRentalEngine implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(ShardedRentalEngine.class.getName());
+
+    private static final int MAX_SHARDS = 1024;
+
+    private final Shard[] shards;
+
+    // Reference data, written rarely and read by every shard
+    private final Map<String, User> users;
+    private final Map<String, Location> locations;
+    private final Map<String, String> storeIdsByLocation;
+
+    // Routes vehicle IDs to their store, and so to the shard owning it
+    private final Map<String, Store> vehicleStores;
+
+    private volatile PricingStrategy pricingStrategy;
+
+    /**
+     * Creates an engine with one shard per available processor.
+     */
+    public ShardedRentalEngine() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an engine with a fixed number of shards.
+     *
+     * @param shardCount Number of shards, between 1 and 1024
+     */
+    public ShardedRentalEngine(int shardCount) {
+        if (shardCount < 1 || shardCount > MAX_SHARDS) {
+            throw new IllegalArgumentException("Shard count must be between 1 and " + MAX_SHARDS);
+        }
+        this.users = new ConcurrentHashMap<>();
+        this.locations = new ConcurrentHashMap<>();
+        this.storeIdsByLocation = new ConcurrentHashMap<>();
+        this.vehicleStores = new ConcurrentHashMap<>();
+        this.pricingStrategy = new StandardPricingStrategy();
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i);
+        }
+        logger.info("Sharded rental engine started with " + shardCount + " shards");
+    }
+
+    // ================== REFERENCE DATA ==================
+
+    /**
+     * Registers a user. Users are shared by all shards.
+     *
+     * @param user User to register
+     * @throws IllegalArgumentException if the user already exists
+     */
+    public void registerUser(User user) {
+        if (user == null) {
+            throw new IllegalArgumentException("User cannot be null");
+        }
+        if (users.putIfAbsent(user.getUserId(), user) != null) {
+            throw new IllegalArgumentException("User with ID " + user.getUserId() + " already exists");
+        }
+    }
+
+    public User getUserById(String userId) {
+        return users.get(userId);
+    }
+
+    /**
+     * Adds a location that is not a store location, e.g. an airport drop point.
+     *
+     * @param location Location to add
+     */
+    public void addLocation(Location location) {
+        if (location != null) {
+            locations.put(location.getLocationId(), location);
+        }
+    }
+
+    // ================== STORES ==================
+
+    /**
+     * Gets the shard that owns a store.
+     *
+     * @param storeId Store ID
+     * @return Shard number
+     */
+    public int shardOf(String storeId) {
+        return Math.floorMod(storeId.hashCode(), shards.length);
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Hands a store to its shard. The store's vehicles become reservable once the
+     * future completes.
+     *
+     * @param store Store to add
+     * @return Future completed once the shard owns the store; completed exceptionally
+     *         with IllegalArgumentException if the store already exists
+     */
+    public CompletableFuture<Void> addStore(Store store) {
+        if (store == null) {
+            throw new IllegalArgumentException("Store cannot be null");
+        }
+        Shard shard = shards[shardOf(store.getStoreId())];
+        return shard.call(() -> {
+            shard.addStore(store);
+            return null;
+        });
+    }
+
+    /**
+     * Gets a store by ID from its shard.
+     *
+     * @param storeId Store ID
+     * @return Future completed with the store, or null if unknown
+     */
+    public CompletableFuture<Store> getStoreById(String storeId) {
+        Shard shard = shards[shardOf(storeId)];
+        return shard.call(() -> shard.stores.get(storeId));
+    }
+
+    // ================== RESERVATIONS ==================
+
+    /**
+     * Creates a reservation on the shard that owns the vehicle. For a one-way rental
+     * to a store in another shard, that shard is told to expect the vehicle.
+     *
+     * @param userId User ID making the reservation
+     * @param vehicleId Vehicle ID to reserve
+     * @param startDate Rental start date
+     * @param endDate Rental end date
+     * @param pickupLocationId Pickup location ID
+     * @param dropLocationId Drop location ID
+     * @return Future completed with the reservation; completed exceptionally with
+     *         InvalidReservationException or VehicleNotAvailableException as
+     *         {@link VehicleRentalSystem#createReservation} would throw them
+     */
+    public CompletableFuture<Reservation> createReservation(String userId, String vehicleId,
+                                                            LocalDate startDate, LocalDate endDate,
+                                                            String pickupLocationId, String dropLocationId) {
+        User user = users.get(userId);
+        if (user == null) {
+            return CompletableFuture.failedFuture(new InvalidReservationException("User not found: " + userId));
+        }
+        Location pickupLocation = locations.get(pickupLocationId);
+        Location dropLocation = locations.get(dropLocationId);
+        if (pickupLocation == null || dropLocation == null) {
+            return CompletableFuture.failedFuture(new InvalidReservationException("Invalid pickup or drop location"));
+        }
+        if (startDate.isAfter(endDate) || startDate.isBefore(LocalDate.now())) {
+            return CompletableFuture.failedFuture(new InvalidReservationException("Invalid reservation dates"));
+        }
+        Store store = vehicleStores.get(vehicleId);
+        if (store == null) {
+            return CompletableFuture.failedFuture(new VehicleNotAvailableException("Vehicle not found: " + vehicleId));
+        }
+
+        Shard shard = shards[shardOf(store.getStoreId())];
+        return shard.call(() -> shard.createReservation(user, vehicleId, startDate, endDate,
+                pickupLocation, dropLocation));
+    }
+
+    /**
+     * Cancels a reservation on the shard that created it.
+     *
+     * @param reservationId Reservation ID to cancel
+     * @return Future completed with true if the reservation was cancelled
+     */
+    public CompletableFuture<Boolean> cancelReservation(String reservationId) {
+        Shard shard = shardOfId(reservationId);
+        if (shard == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return shard.call(() -> shard.cancelReservation(reservationId));
+    }
+
+    /**
+     * Gets a reservation by ID from the shard that created it.
+     *
+     * @param reservationId Reservation ID
+     * @return Future completed with the reservation, or null if unknown
+     */
+    public CompletableFuture<Reservation> getReservationById(String reservationId) {
+        Shard shard = shardOfId(reservationId);
+        if (shard == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return shard.call(() -> shard.reservations.get(reservationId));
+    }
+
+    /**
+     * Fires reservation start and end dates up to a day on every shard in parallel.
+     * Completed one-way rentals hand their vehicle to the drop store's shard.
+     *
+     * @param today Day to advance to
+     * @return Future completed with the number of lifecycle transitions fired
+     */
+    public CompletableFuture<Integer> advanceReservationLifecycle(LocalDate today) {
+        List<CompletableFuture<Integer>> fired = new ArrayList<>(shards.length);
+        for (Shard shard : shards) {
+            fired.add(shard.call(() -> shard.lifecycleScheduler.advanceTo(today)));
+        }
+        return CompletableFuture.allOf(fired.toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> fired.stream().mapToInt(CompletableFuture::join).sum());
+    }
+
+    // ================== BILLING ==================
+
+    /**
+     * Generates a bill on the shard that owns the reservation.
+     *
+     * @param reservationId Reservation ID
+     * @return Future completed with the bill; completed exceptionally with
+     *         InvalidReservationException if the reservation is unknown
+     */
+    public CompletableFuture<Bill> generateBill(String reservationId) {
+        Shard shard = shardOfId(reservationId);
+        if (shard == null) {
+            return CompletableFuture.failedFuture(
+                    new InvalidReservationException("Reservation not found: " + reservationId));
+        }
+        return shard.call(() -> shard.generateBill(reservationId));
+    }
+
+    /**
+     * Gets a bill by ID from the shard that generated it.
+     *
+     * @param billId Bill ID
+     * @return Future completed with the bill, or null if unknown
+     */
+    public CompletableFuture<Bill> getBillById(String billId) {
+        Shard shard = shardOfId(billId);
+        if (shard == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return shard.call(() -> shard.bills.get(billId));
+    }
+
+    // ================== SYSTEM ==================
+
+    /**
+     * Gathers statistics from every shard.
+     *
+     * @return Future completed with the summed statistics
+     */
+    public CompletableFuture<Map<String, Object>> getSystemStatistics() {
+        List<CompletableFuture<long[]>> parts = new ArrayList<>(shards.length);
+        for (Shard shard : shards) {
+            parts.add(shard.call(shard::counts));
+        }
+        return CompletableFuture.allOf(parts.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+            long[] totals = new long[Shard.COUNT_FIELDS];
+            for (CompletableFuture<long[]> part : parts) {
+                long[] counts = part.join();
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += counts[i];
+                }
+            }
+
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("Shards", shards.length);
+            stats.put("Total Users", users.size());
+            stats.put("Total Stores", (int) totals[0]);
+            stats.put("Total Locations", locations.size());
+            stats.put("Total Reservations", (int) totals[1]);
+            stats.put("Active Reservations", (int) totals[2]);
+            stats.put("Total Bills", (int) totals[3]);
+            stats.put("Total Vehicles", (int) totals[4]);
+            stats.put("Available Vehicles", (int) totals[5]);
+            stats.put("Inbound One-Way Vehicles", (int) totals[6]);
+            return stats;
+        });
+    }
+
+    /**
+     * Replaces the pricing strategy for new reservations and bills on all shards.
+     *
+     * @param pricingStrategy New pricing strategy
+     */
+    public void setPricingStrategy(PricingStrategy pricingStrategy) {
+        if (pricingStrategy == null) {
+            throw new IllegalArgumentException("Pricing strategy cannot be null");
+        }
+        this.pricingStrategy = pricingStrategy;
+    }
+
+    public PricingStrategy getPricingStrategy() {
+        return pricingStrategy;
+    }
+
+    /**
+     * Stops every shard after the work already queued on it.
+     */
+    @Override
+    public void close() {
+        for (Shard shard : shards) {
+            shard.loop.shutdown();
+        }
+        try {
+            for (Shard shard : shards) {
+                shard.loop.awaitTermination(10, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Routes a reservation or bill ID to the shard that generated it.
+     */
+    private Shard shardOfId(String id) {
+        try {
+            int shard = SnowflakeIdGenerator.nodeIdOf(SnowflakeIdGenerator.decode(id));
+            return shard < shards.length ? shards[shard] : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * One partition of the engine. Everything except the constructor, {@link #call}
+     * and {@link #send} runs on the shard's own thread.
+     */
+    private final class Shard implements ReservationLifecycleScheduler.TransitionHandler {
+
+        static final int COUNT_FIELDS = 7;
+
+        private final int number;
+        private final ExecutorService loop;
+        private final SnowflakeIdGenerator idGenerator;
+        private final ReservationLifecycleScheduler lifecycleScheduler;
+
+        // Confined to the shard thread
+        private final Map<String, Store> stores = new HashMap<>();
+        private final Map<String, Reservation> reservations = new HashMap<>();
+        private final Map<String, Bill> bills = new HashMap<>();
+        // One-way vehicles booked to arrive at this shard's stores, by store ID
+        private final Map<String, Integer> inboundVehicles = new HashMap<>();
+
+        private Shard(int number) {
+            this.number = number;
+            this.loop = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "rental-shard-" + number);
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.idGenerator = new SnowflakeIdGenerator(number);
+            this.lifecycleScheduler = new ReservationLifecycleScheduler(this, LocalDate.now().minusDays(1));
+        }
+
+        /**
+         * Runs a task on the shard thread.
+         */
+        <T> CompletableFuture<T> call(Callable<T> task) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            try {
+                loop.execute(() -> {
+                    try {
+                        result.complete(task.call());
+                    } catch (Exception e) {
+                        result.completeExceptionally(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(new IllegalStateException("Rental engine is closed", e));
+            }
+            return result;
+        }
+
+        /**
+         * Posts a message to the shard thread without waiting for it.
+         */
+        void send(Runnable message) {
+            try {
+                loop.execute(() -> {
+                    try {
+                        message.run();
+                    } catch (RuntimeException e) {
+                        logger.warning("Shard " + number + " message failed: " + e.getMessage());
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                logger.warning("Shard " + number + " is closed; message dropped");
+            }
+        }
+
+        void addStore(Store store) {
+            if (stores.putIfAbsent(store.getStoreId(), store) != null) {
+                throw new IllegalArgumentException("Store with ID " + store.getStoreId() + " already exists");
+            }
+
+            // Observer first, so vehicles added concurrently are routed too
+            VehicleInventoryManagement inventory = store.getInventoryManagement();
+            inventory.addObserver(new VehicleRouter(store));
+            for (Vehicle vehicle : inventory.getAllVehicles()) {
+                vehicleStores.put(vehicle.getVehicleId(), store);
+            }
+
+            Location location = store.getLocation();
+            if (location != null) {
+                locations.put(location.getLocationId(), location);
+                storeIdsByLocation.put(location.getLocationId(), store.getStoreId());
+            }
+            logger.info("Shard " + number + " took store " + store.getStoreId());
+        }
+
+        Reservation createReservation(User user, String vehicleId, LocalDate startDate, LocalDate endDate,
+                                      Location pickupLocation, Location dropLocation)
+                                      throws VehicleNotAvailableException {
+            // Re-read on the shard thread: the vehicle may have moved since it was routed
+            Store store = findStoreByVehicle(vehicleId);
+            Vehicle vehicle = store != null ? store.getInventoryManagement().getVehicleById(vehicleId) : null;
+            if (vehicle == null) {
+                throw new VehicleNotAvailableException("Vehicle not found: " + vehicleId);
+            }
+            if (!vehicle.getStatus().isInService()) {
+                throw new VehicleNotAvailableException(vehicleId);
+            }
+
+            Reservation reservation = new Reservation(idGenerator.generateId("RES"), user, vehicle,
+                    startDate, endDate, pickupLocation, dropLocation);
+            reservation.setTotalCost(Money.toAmount(pricingStrategy.quoteRentalCents(store.getStoreId(),
+                    vehicle, startDate, (int) reservation.getRentalDays())));
+
+            store.getInventoryManagement().bookVehicle(reservation);
+            store.addReservation(reservation);
+            user.addReservation(reservation);
+            reservations.put(reservation.getReservationId(), reservation);
+            lifecycleScheduler.schedule(reservation);
+
+            announceArrival(reservation, store, 1);
+            return reservation;
+        }
+
+        boolean cancelReservation(String reservationId) {
+            Reservation reservation = reservations.get(reservationId);
+            if (reservation == null || !reservation.cancelReservation()) {
+                return false;
+            }
+
+            Store store = findStoreByVehicle(reservation.getVehicle().getVehicleId());
+            if (store != null) {
+                store.getInventoryManagement().releaseBooking(reservation);
+                announceArrival(reservation, store, -1);
+            }
+            return true;
+        }
+
+        Bill generateBill(String reservationId) throws InvalidReservationException {
+            Reservation reservation = reservations.get(reservationId);
+            if (reservation == null) {
+                throw new InvalidReservationException("Reservation not found: " + reservationId);
+            }
+
+            PricingStrategy pricing = pricingStrategy;
+            Bill bill = new Bill(idGenerator.generateId("BILL"), reservation, pricing.getTaxPercent(),
+                    pricing.getAdditionalFeesCents(reservation.getVehicle().getVehicleType()));
+            bills.put(bill.getBillId(), bill);
+            return bill;
+        }
+
+        @Override
+        public void onStartDateReached(Reservation reservation) {
+            Vehicle vehicle = reservation.getVehicle();
+            // Picked up: the vehicle leaves the available fleet until it is returned
+            if (vehicle.getStatus().isInService() && reservation.activateReservation()) {
+                vehicle.compareAndSetStatus(VehicleStatus.AVAILABLE, VehicleStatus.RESERVED);
+            }
+        }
+
+        @Override
+        public void onEndDateReached(Reservation reservation) {
+            if (reservation.getStatus() == ReservationStatus.ACTIVE) {
+                if (reservation.completeReservation()) {
+                    returnVehicle(reservation);
+                }
+            } else {
+                // Never picked up, so the cancellation releasing the dates is all there is to undo
+                cancelReservation(reservation.getReservationId());
+            }
+        }
+
+        /**
+         * Frees a returned vehicle. After a one-way rental the vehicle moves to the
+         * drop store, through that store's shard if it is another one; a vehicle
+         * still booked at its pickup store stays there.
+         */
+        private void returnVehicle(Reservation reservation) {
+            Vehicle vehicle = reservation.getVehicle();
+            Store pickupStore = findStoreByVehicle(vehicle.getVehicleId());
+            if (pickupStore == null) {
+                return;
+            }
+            VehicleInventoryManagement inventory = pickupStore.getInventoryManagement();
+            inventory.releaseBooking(reservation);
+            // Transitions run on this shard's thread, so a same-day pickup by the next renter is already visible
+            if (!vehicle.getAvailabilityCalendar().hasActiveBooking()) {
+                inventory.releaseVehicle(vehicle.getVehicleId());
+            }
+
+            String dropStoreId = dropStoreOf(reservation, pickupStore);
+            if (dropStoreId == null) {
+                return;
+            }
+            announceArrival(reservation, pickupStore, -1);
+            if (vehicle.getAvailabilityCalendar().getBookingCount() > 0) {
+                logger.warning("Vehicle " + vehicle.getVehicleId() + " has further bookings at store "
+                        + pickupStore.getStoreId() + " and stays there");
+                return;
+            }
+
+            inventory.removeVehicle(vehicle.getVehicleId());
+            Shard dropShard = shards[shardOf(dropStoreId)];
+            dropShard.send(() -> dropShard.receiveVehicle(dropStoreId, vehicle));
+        }
+
+        /**
+         * Message: a one-way rental delivered a vehicle to one of this shard's stores.
+         */
+        private void receiveVehicle(String storeId, Vehicle vehicle) {
+            Store store = stores.get(storeId);
+            if (store == null) {
+                logger.warning("Vehicle " + vehicle.getVehicleId() + " sent to unknown store " + storeId);
+                return;
+            }
+            store.getInventoryManagement().addVehicle(vehicle);
+        }
+
+        /**
+         * Tells the drop store's shard that a one-way vehicle is, or is no longer, on its way.
+         */
+        private void announceArrival(Reservation reservation, Store pickupStore, int change) {
+            String dropStoreId = dropStoreOf(reservation, pickupStore);
+            if (dropStoreId == null) {
+                return;
+            }
+            Shard dropShard = shards[shardOf(dropStoreId)];
+            dropShard.send(() -> dropShard.inboundVehicles.merge(dropStoreId, change,
+                    (count, delta) -> count + delta == 0 ? null : count + delta));
+        }
+
+        /**
+         * Gets the store a one-way rental ends at, or null if it returns to its pickup store
+         * or to a location that is no store.
+         */
+        private String dropStoreOf(Reservation reservation, Store pickupStore) {
+            if (reservation.isSameLocationRental()) {
+                return null;
+            }
+            String dropStoreId = storeIdsByLocation.get(reservation.getDropLocation().getLocationId());
+            return dropStoreId == null || dropStoreId.equals(pickupStore.getStoreId()) ? null : dropStoreId;
+        }
+
+        private Store findStoreByVehicle(String vehicleId) {
+            Store store = vehicleStores.get(vehicleId);
+            return store != null && stores.get(store.getStoreId()) == store ? store : null;
+        }
+
+        long[] counts() {
+            long[] counts = new long[COUNT_FIELDS];
+            counts[0] = stores.size();
+            counts[1] = reservations.size();
+            counts[3] = bills.size();
+            for (Store store : stores.values()) {
+                counts[2] += store.getReservationCount(ReservationStatus.ACTIVE);
+                counts[4] += store.getInventoryManagement().getTotalVehicleCount();
+                counts[5] += store.getInventoryManagement().getAvailableVehicleCount();
+            }
+            for (int inbound : inboundVehicles.values()) {
+                counts[6] += inbound;
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * Keeps the vehicle routes of one store in sync with its inventory, on whichever
+     * thread changes it.
+     */
+    private final class VehicleRouter implements InventoryObserver {
+
+        private final Store store;
+
+        private VehicleRouter(Store store) {
+            this.store = store;
+        }
+
+        @Override
+        public void onVehicleAdded(VehicleInventoryManagement inventory, Vehicle vehicle) {
+            vehicleStores.put(vehicle.getVehicleId(), store);
+        }
+
+        @Override
+        public void onVehicleRemoved(VehicleInventoryManagement inventory, Vehicle vehicle) {
+            vehicleStores.remove(vehicle.getVehicleId(), store);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Location;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Store;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Spatial index of stores on a fixed latitude/longitude grid.
+ * A nearest-store query scans grid rings outwards from the query point and stops as
+ * soon as no unvisited cell can hold a store closer than the current k-th best, so
+ * the cost depends on local store density rather than on the total store count.
+ *
+ * Distances are great-circle distances (haversine) in kilometres.
+ */
+class StoreGeoIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    // Roughly 28 km of latitude per cell
+    private static final double CELL_DEGREES = 0.25;
+    private static final int LATITUDE_CELLS = (int) Math.ceil(180.0 / CELL_DEGREES);
+    private static final int LONGITUDE_CELLS = (int) Math.ceil(360.0 / CELL_DEGREES);
+
+    private final Map<Long, Set<Store>> cells;
+    // Cell each store is currently filed under, needed to move it when its location changes
+    private final Map<Store, Long> storeCells;
+
+    StoreGeoIndex() {
+        this.cells = new ConcurrentHashMap<>();
+        this.storeCells = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Files the store under the cell of its current location, or drops it if it has none.
+     *
+     * @param store Store to (re-)index
+     */
+    synchronized void update(Store store) {
+        Location location = store.getLocation();
+        Long currentCell = location != null
+                ? cellKey(latitudeCell(location.getLatitude()), longitudeCell(location.getLongitude()))
+                : null;
+        Long indexedCell = storeCells.get(store);
+
+        if (indexedCell != null && !indexedCell.equals(currentCell)) {
+            Set<Store> cell = cells.get(indexedCell);
+            cell.remove(store);
+            storeCells.remove(store);
+        }
+        if (currentCell != null && !currentCell.equals(indexedCell)) {
+            cells.computeIfAbsent(currentCell, key -> ConcurrentHashMap.newKeySet()).add(store);
+            storeCells.put(store, currentCell);
+        }
+    }
+
+    /**
+     * Finds the nearest stores passing the filter within a radius, nearest first.
+     *
+     * @param latitude Query latitude in degrees
+     * @param longitude Query longitude in degrees
+     * @param limit Maximum number of stores to return
+     * @param radiusKm Maximum distance in kilometres
+     * @param filter Store filter, evaluated only for stores inside the radius
+     * @return Up to limit stores ordered by distance
+     */
+    List<Store> findNearest(double latitude, double longitude, int limit, double radiusKm,
+                            Predicate<Store> filter) {
+        // Farthest candidate on top, so it is the one evicted when a closer store turns up
+        PriorityQueue<Candidate> best = new PriorityQueue<>(limit + 1,
+                Comparator.comparingDouble((Candidate candidate) -> candidate.distanceKm).reversed());
+
+        int centerRow = latitudeCell(latitude);
+        int centerColumn = longitudeCell(longitude);
+
+        // Rings needed to cover the radius; columns narrow towards the poles
+        double rowKm = CELL_DEGREES * KM_PER_DEGREE;
+        int maxRowRing = (int) Math.ceil(radiusKm / rowKm) + 1;
+        int maxColumnRing = (int) Math.min(Math.ceil(radiusKm / columnKm(latitude, radiusKm)) + 1,
+                LONGITUDE_CELLS / 2);
+
+        for (int ring = 0; ring <= Math.max(maxRowRing, maxColumnRing); ring++) {
+            for (int rowOffset = -ring; rowOffset <= ring; rowOffset++) {
+                int row = centerRow + rowOffset;
+                if (Math.abs(rowOffset) > maxRowRing || row < 0 || row >= LATITUDE_CELLS) {
+                    continue;
+                }
+                boolean edgeRow = Math.abs(rowOffset) == ring;
+                for (int columnOffset = -ring; columnOffset <= ring; columnOffset++) {
+                    // Only the ring's border; inner cells were scanned in earlier rings
+                    if (!edgeRow && Math.abs(columnOffset) != ring) {
+                        continue;
+                    }
+                    // At full width -half and +half wrap to the same column
+                    if (Math.abs(columnOffset) > maxColumnRing || columnOffset == -LONGITUDE_CELLS / 2) {
+                        continue;
+                    }
+                    int column = Math.floorMod(centerColumn + columnOffset, LONGITUDE_CELLS);
+                    scanCell(cellKey(row, column), latitude, longitude, radiusKm, limit, filter, best);
+                }
+            }
+
+            if (best.size() == limit) {
+                // A closer store must lie within the current k-th distance, which bounds its
+                // latitude and so how narrow its columns can be; beyond this ring it is at
+                // least this far away
+                double kthDistanceKm = best.peek().distanceKm;
+                double unvisitedDistanceKm = ring * Math.min(rowKm, columnKm(latitude, kthDistanceKm));
+                if (kthDistanceKm <= unvisitedDistanceKm) {
+                    break;
+                }
+            }
+        }
+
+        List<Store> nearest = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            nearest.add(best.poll().store);
+        }
+        // Polled farthest first
+        Collections.reverse(nearest);
+        return nearest;
+    }
+
+    private void scanCell(long cellKey, double latitude, double longitude, double radiusKm, int limit,
+                          Predicate<Store> filter, PriorityQueue<Candidate> best) {
+        Set<Store> cell = cells.get(cellKey);
+        if (cell == null) {
+            return;
+        }
+        for (Store store : cell) {
+            Location location = store.getLocation();
+            if (location == null) {
+                continue;
+            }
+            double distanceKm = distanceKm(latitude, longitude, location.getLatitude(), location.getLongitude());
+            if (distanceKm > radiusKm || (best.size() == limit && distanceKm >= best.peek().distanceKm)) {
+                continue;
+            }
+            // Distance first: the filter may consult the store's inventory
+            if (!filter.test(store)) {
+                continue;
+            }
+            best.add(new Candidate(store, distanceKm));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+    }
+
+    /**
+     * Great-circle distance between two points using the haversine formula.
+     *
+     * @return Distance in kilometres
+     */
+    static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double deltaLatitude = Math.toRadians(latitude2 - latitude1);
+        double deltaLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(deltaLatitude / 2) * Math.sin(deltaLatitude / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(deltaLongitude / 2) * Math.sin(deltaLongitude / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * Width in kilometres of the narrowest grid column within a distance of the latitude.
+     */
+    private static double columnKm(double latitude, double distanceKm) {
+        double maxAbsLatitude = Math.min(90.0, Math.abs(latitude) + distanceKm / KM_PER_DEGREE);
+        // Floor keeps the ring maths finite at the poles
+        return Math.max(1e-6, CELL_DEGREES * KM_PER_DEGREE * Math.cos(Math.toRadians(maxAbsLatitude)));
+    }
+
+    private static int latitudeCell(double latitude) {
+        return Math.min(LATITUDE_CELLS - 1, Math.max(0, (int) Math.floor((latitude + 90.0) / CELL_DEGREES)));
+    }
+
+    private static int longitudeCell(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180.0) / CELL_DEGREES), LONGITUDE_CELLS);
+    }
+
+    private static long cellKey(int row, int column) {
+        return (long) row * LONGITUDE_CELLS + column;
+    }
+
+    private static final class Candidate {
+        private final Store store;
+        private final double distanceKm;
+
+        private Candidate(Store store, double distanceKm) {
+            this.store = store;
+            this.distanceKm = distanceKm;
+        }
+    }
+}
@@ -1,18 +1,56 @@
 package org.example.lowleveldesignexamples.carrentalsystemlld;
 
-import org.example.lowleveldesignexamples.carrentalsystemlld.enums.ReservationStatus;
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleStatus;
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
 import org.example.lowleveldesignexamples.carrentalsystemlld.exceptions.CarRentalException;
 import org.example.lowleveldesignexamples.carrentalsystemlld.exceptions.InvalidReservationException;
 import org.example.lowleveldesignexamples.carrentalsystemlld.exceptions.VehicleNotAvailableException;
-import org.example.carrentalsystemlld.model.*;
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.ReservationStatus;
 import org.example.lowleveldesignexamples.carrentalsystemlld.model.*;
+import org.example.lowleveldesignexamples.carrentalsystemlld.persistence.JournalRecordType;
+import org.example.lowleveldesignexamples.carrentalsystemlld.persistence.JournalReplayer;
+import org.example.lowleveldesignexamples.carrentalsystemlld.persistence.RentalJournal;
+import org.example.lowleveldesignexamples.carrentalsystemlld.persistence.RentalState;
+import org.example.lowleveldesignexamples.carrentalsystemlld.persistence.SnapshotCodec;
+import org.example.lowleveldesignexamples.carrentalsystemlld.persistence.SnapshotFile;
+import org.example.lowleveldesignexamples.carrentalsystemlld.persistence.StateCodec;
+import org.example.lowleveldesignexamples.carrentalsystemlld.repository.ColumnarFleet;
+import org.example.lowleveldesignexamples.carrentalsystemlld.repository.InventoryObserver;
+import org.example.lowleveldesignexamples.carrentalsystemlld.repository.PriceIndex;
+import org.example.lowleveldesignexamples.carrentalsystemlld.repository.TextIndex;
+import org.example.lowleveldesignexamples.carrentalsystemlld.repository.VehicleInventoryManagement;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.id.IdGenerationStrategy;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.id.SnowflakeIdGenerator;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.pricing.PricingStrategy;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.pricing.RentalQuotes;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.pricing.StandardPricingStrategy;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.SearchCursor;
 import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.VehicleSearchContext;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.VehicleSearchPage;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.VehicleSearchQuery;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment.AsyncPaymentProcessor;
 import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment.PaymentContext;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment.PaymentSettlement;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment.SettlementItem;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment.SettlementResult;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 /**
@@ -30,6 +68,9 @@ public class VehicleRentalSystem {
     // Singleton instance
     private static volatile VehicleRentalSystem instance;
     
+    // Bulk quotes for at least this many vehicles are computed in parallel
+    private static final int PARALLEL_QUOTE_THRESHOLD = 2048;
+    
     // System data storage
     private final Map<String, User> users;
     private final Map<String, Store> stores;
@@ -38,6 +79,52 @@ public class VehicleRentalSystem {
     private final Map<String, Bill> bills;
     private final Map<String, Payment> payments;
     
+    // System-wide vehicleId -> (store, vehicle) index, kept in sync by inventory observers
+    private final Map<String, IndexedVehicle> vehicleIndex;
+    private final InventoryObserver vehicleIndexUpdater;
+    
+    // System-wide price and name indexes over the same vehicles, for cross-store queries
+    private final PriceIndex priceIndex;
+    private final TextIndex modelIndex;
+    private final TextIndex brandIndex;
+    
+    // Grid index over store coordinates for nearest-store queries
+    private final StoreGeoIndex storeGeoIndex;
+    
+    // Column copy of the fleet for full-fleet scans, null until enabled
+    private volatile ColumnarFleet columnarFleet;
+    // Kept up to date as soon as it is published, but only read once its back-fill is done
+    private volatile boolean columnarFleetReady;
+    
+    // Time-ordered IDs by default; replaceable, e.g. with a per-node Snowflake ID
+    private volatile IdGenerationStrategy idGenerator;
+    
+    // Prices reservations and the tax and fees on their bills
+    private volatile PricingStrategy pricingStrategy;
+    
+    // Runs gateway calls for asynchronous payments
+    private volatile AsyncPaymentProcessor paymentProcessor;
+    // Settles batches of bills, recording payments like single ones
+    private final PaymentSettlement paymentSettlement;
+    
+    // Write-ahead journal of state mutations, null until enabled
+    private volatile RentalJournal journal;
+    // Held shared from journaling a mutation until it is visible, exclusively to cut a snapshot LSN
+    private final ReentrantReadWriteLock snapshotGate = new ReentrantReadWriteLock();
+    private ScheduledExecutorService snapshotScheduler;
+    // Snapshot content and journal replay, both over the system's own state
+    private final SnapshotCodec snapshotCodec;
+    private final JournalReplayer journalReplayer;
+    
+    // Timer wheel firing reservation start and end dates, and the thread advancing it once started
+    private final ReservationLifecycleScheduler lifecycleScheduler;
+    private ScheduledExecutorService lifecycleTicker;
+    
+    // Live counters behind getSystemStatistics
+    private final RentalStatistics statistics;
+    // Journals and applies transitions made directly on a reservation rather than through the system
+    private final ReservationObserver directTransitionFollower;
+    
     // System configuration
     private final String systemName;
     private final String version;
@@ -52,6 +139,23 @@ public class VehicleRentalSystem {
         this.reservations = new ConcurrentHashMap<>();
         this.bills = new ConcurrentHashMap<>();
         this.payments = new ConcurrentHashMap<>();
+        this.vehicleIndex = new ConcurrentHashMap<>();
+        this.vehicleIndexUpdater = new VehicleIndexUpdater();
+        this.priceIndex = new PriceIndex();
+        this.modelIndex = new TextIndex(Vehicle::getModel);
+        this.brandIndex = new TextIndex(Vehicle::getBrand);
+        this.storeGeoIndex = new StoreGeoIndex();
+        this.statistics = new RentalStatistics();
+        this.directTransitionFollower = new DirectTransitionFollower();
+        this.idGenerator = new SnowflakeIdGenerator(0);
+        this.pricingStrategy = new StandardPricingStrategy();
+        this.paymentProcessor = new AsyncPaymentProcessor();
+        this.paymentSettlement = new PaymentSettlement(bills::get, this::generatePaymentId, this::storePayment);
+        RentalState persistentState = new PersistentState();
+        this.snapshotCodec = new SnapshotCodec(persistentState);
+        this.journalReplayer = new JournalReplayer(persistentState);
+        this.lifecycleScheduler = new ReservationLifecycleScheduler(new LifecycleTransitions(),
+                LocalDate.now().minusDays(1));
         this.systemName = "CarRental Pro";
         this.version = "1.0.0";
         
@@ -92,7 +196,8 @@ public class VehicleRentalSystem {
             throw new IllegalArgumentException("User with ID " + user.getUserId() + " already exists");
         }
         
-        users.put(user.getUserId(), user);
+        journalAndApply(JournalRecordType.REGISTER_USER, out -> StateCodec.writeUser(out, user),
+                () -> users.put(user.getUserId(), user));
         logger.info("Registered new user: " + user.getUserId() + " - " + user.getName());
     }
     
@@ -132,7 +237,12 @@ public class VehicleRentalSystem {
             throw new IllegalArgumentException("Store with ID " + store.getStoreId() + " already exists");
         }
         
-        stores.put(store.getStoreId(), store);
+        // Recorded before the back-fill, whose vehicles are journaled individually
+        journalAndApply(JournalRecordType.ADD_STORE, out -> StateCodec.writeStore(out, store),
+                () -> stores.put(store.getStoreId(), store));
+        indexStoreVehicles(store);
+        statistics.track(store.getInventoryManagement());
+        storeGeoIndex.update(store);
         
         // Also add the store's location to the locations map
         if (store.getLocation() != null) {
@@ -172,6 +282,100 @@ public class VehicleRentalSystem {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * Moves a store to a new location and re-files it in the store geo index.
+     * Use this instead of changing the store's location directly.
+     * 
+     * @param storeId Store ID
+     * @param location New store location
+     * @throws IllegalArgumentException if the store does not exist or the location is null
+     */
+    public void relocateStore(String storeId, Location location) {
+        Store store = stores.get(storeId);
+        if (store == null) {
+            throw new IllegalArgumentException("Store not found: " + storeId);
+        }
+        if (location == null) {
+            throw new IllegalArgumentException("Location cannot be null");
+        }
+        
+        store.setLocation(location);
+        locations.put(location.getLocationId(), location);
+        storeGeoIndex.update(store);
+        
+        logger.info("Relocated store " + storeId + " to " + location.getCity());
+    }
+    
+    /**
+     * Finds the nearest operational stores that have an available vehicle of a type.
+     * Served from a grid index over store coordinates: only cells around the point are
+     * visited, and vehicle availability is checked through O(1) inventory counters.
+     * 
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param limit Maximum number of stores to return
+     * @param radiusKm Search radius in kilometres
+     * @param vehicleType Required vehicle type, or null for any type
+     * @return Up to limit stores, nearest first
+     */
+    public List<Store> findNearestStores(double latitude, double longitude, int limit, double radiusKm,
+                                         VehicleType vehicleType) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Invalid coordinates");
+        }
+        if (limit <= 0 || radiusKm <= 0) {
+            throw new IllegalArgumentException("Limit and radius must be positive");
+        }
+        
+        return storeGeoIndex.findNearest(latitude, longitude, limit, radiusKm, store -> {
+            if (!store.isOperational()) {
+                return false;
+            }
+            VehicleInventoryManagement inventory = store.getInventoryManagement();
+            return vehicleType != null
+                    ? inventory.getAvailableVehicleCount(vehicleType) > 0
+                    : inventory.getAvailableVehicleCount() > 0;
+        });
+    }
+    
+    /**
+     * Gets the great-circle distance between two locations.
+     * 
+     * @param from First location
+     * @param to Second location
+     * @return Distance in kilometres
+     */
+    public double getDistanceKm(Location from, Location to) {
+        return StoreGeoIndex.distanceKm(from.getLatitude(), from.getLongitude(),
+                to.getLatitude(), to.getLongitude());
+    }
+
+    /**
+     * Plans vehicle transfers between operational stores that even out the fleet
+     * once the one-way rentals due by the horizon have ended. Each store is aimed at
+     * a share of every vehicle type in line with its upcoming pickups, and only
+     * available vehicles without bookings are moved, nearest first. Nothing is moved.
+     *
+     * @param horizon Last day whose reservations to account for
+     * @param maxDistanceKm Longest transfer to plan
+     * @param parallel Whether to balance regions in parallel before matching across them
+     * @return Transfer plan
+     */
+    public RebalancingPlan planFleetRebalancing(LocalDate horizon, double maxDistanceKm, boolean parallel) {
+        LocalDate today = LocalDate.now();
+        if (horizon == null || horizon.isBefore(today)) {
+            throw new IllegalArgumentException("Rebalancing horizon cannot be in the past");
+        }
+        if (maxDistanceKm <= 0) {
+            throw new IllegalArgumentException("Transfer distance must be positive");
+        }
+
+        RebalancingPlan plan = new FleetRebalancer(maxDistanceKm)
+                .plan(getOperationalStores(), reservations.values(), today, horizon, parallel);
+        logger.info("Planned fleet rebalancing up to " + horizon + ": " + plan);
+        return plan;
+    }
+
     // ================== LOCATION MANAGEMENT ==================
     
     /**
@@ -181,7 +385,8 @@ public class VehicleRentalSystem {
      */
     public void addLocation(Location location) {
         if (location != null) {
-            locations.put(location.getLocationId(), location);
+            journalAndApply(JournalRecordType.ADD_LOCATION, out -> StateCodec.writeLocation(out, location),
+                    () -> locations.put(location.getLocationId(), location));
         }
     }
     
@@ -199,30 +404,263 @@ public class VehicleRentalSystem {
     
     /**
      * Searches for vehicles using the provided search context.
+     * Strategies that map onto the inventory indexes run as a composite query;
+     * the others scan the vehicles of all operational stores.
      * 
      * @param searchContext Configured search context with strategy
      * @param criteria Search criteria
      * @return List of vehicles matching the search criteria
      */
     public List<Vehicle> searchVehicles(VehicleSearchContext searchContext, Object criteria) {
-        List<Vehicle> allVehicles = new ArrayList<>();
+        VehicleSearchQuery.Builder query = searchContext.toQuery(criteria);
+        if (query != null) {
+            return searchVehicles(query.build());
+        }
+        
+        List<Vehicle> allVehicles = collectOperationalVehicles(true);
+        
+        return searchContext.executeSearch(allVehicles, criteria);
+    }
+    
+    /**
+     * Searches for vehicles that are free for a rental date range.
+     * Vehicles booked for other, non-overlapping dates are still returned.
+     * 
+     * @param searchContext Configured search context with strategy
+     * @param criteria Search criteria
+     * @param startDate First rental day (inclusive)
+     * @param endDate Return day (exclusive)
+     * @return List of vehicles matching the search criteria and free for the range
+     */
+    public List<Vehicle> searchVehicles(VehicleSearchContext searchContext, Object criteria,
+                                        LocalDate startDate, LocalDate endDate) {
+        VehicleSearchQuery.Builder query = searchContext.toQuery(criteria);
+        if (query != null) {
+            return searchVehicles(query.dates(startDate, endDate).build());
+        }
+        
+        List<Vehicle> allVehicles = collectOperationalVehicles(false);
+        
+        return searchContext.executeSearch(allVehicles, criteria, startDate, endDate);
+    }
+    
+    /**
+     * Searches for vehicles with a composite query.
+     * Each operational store that passes the store and city criteria is searched
+     * through its inventory indexes; no copy of the whole fleet is made. With the
+     * columnar fleet enabled, queries across all stores scan its columns instead.
+     * 
+     * @param query Composite search query
+     * @return List of matching vehicles
+     */
+    public List<Vehicle> searchVehicles(VehicleSearchQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Search query cannot be null");
+        }
+        
+        List<Vehicle> results = new ArrayList<>();
+        
+        if (query.getStoreId() != null) {
+            Store store = stores.get(query.getStoreId());
+            if (store != null && store.isOperational() && query.matchesStore(store)) {
+                store.getInventoryManagement().findVehicles(query, results);
+            }
+            return results;
+        }
+        
+        ColumnarFleet fleet = readableColumnarFleet();
+        if (fleet != null) {
+            fleet.findVehicles(query, storeId -> {
+                Store store = stores.get(storeId);
+                return store != null && store.isOperational() && query.matchesStore(store);
+            }, results);
+            return results;
+        }
+        
+        for (Store store : stores.values()) {
+            if (store.isOperational() && query.matchesStore(store)) {
+                store.getInventoryManagement().findVehicles(query, results);
+            }
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Gets the vehicles of all operational stores a search strategy could match.
+     * The columnar fleet drops vehicles that cannot be rented on its status column,
+     * so strategies only see candidates; otherwise every vehicle is returned.
+     * 
+     * @param availableNow Whether only vehicles available right now can match
+     */
+    private List<Vehicle> collectOperationalVehicles(boolean availableNow) {
+        List<Vehicle> vehicles = new ArrayList<>();
+        
+        ColumnarFleet fleet = readableColumnarFleet();
+        if (fleet != null) {
+            fleet.collectVehicles(availableNow, this::isOperationalStore, vehicles);
+            return vehicles;
+        }
         
-        // Collect vehicles from all operational stores
         for (Store store : getOperationalStores()) {
-            allVehicles.addAll(store.getInventoryManagement().getAllVehicles());
+            vehicles.addAll(store.getInventoryManagement().getAllVehicles());
+        }
+        return vehicles;
+    }
+    
+    private boolean isOperationalStore(String storeId) {
+        Store store = stores.get(storeId);
+        return store != null && store.isOperational();
+    }
+    
+    /**
+     * Gets available vehicles across all operational stores within a price range,
+     * cheapest first, one page at a time. Served from the system-wide price index.
+     * 
+     * @param minPrice Minimum daily cost (inclusive)
+     * @param maxPrice Maximum daily cost (inclusive)
+     * @param offset Number of matching vehicles to skip
+     * @param limit Maximum number of vehicles to return
+     * @return Available vehicles in ascending price order
+     */
+    public List<Vehicle> searchVehiclesByPriceRange(double minPrice, double maxPrice, int offset, int limit) {
+        return priceIndex.findInRange(minPrice, maxPrice, this::isRentableNow, offset, limit);
+    }
+    
+    /**
+     * Gets the cheapest available vehicles across all operational stores.
+     * 
+     * @param count Maximum number of vehicles to return
+     * @return Up to count available vehicles in ascending price order
+     */
+    public List<Vehicle> findCheapestVehicles(int count) {
+        return priceIndex.findCheapest(count, this::isRentableNow);
+    }
+    
+    /**
+     * Streams the vehicles matching a composite query across all operational stores,
+     * cheapest first. Nothing is collected up front: the system-wide price index is
+     * walked lazily and each vehicle is checked against the query and its store only
+     * when the stream pulls it, so limit or findFirst end the walk early. A query for
+     * one store walks that store's price index instead.
+     * 
+     * @param query Composite search query
+     * @return Sequential stream of matching vehicles in ascending price order
+     */
+    public Stream<Vehicle> streamVehicles(VehicleSearchQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Search query cannot be null");
         }
         
-        return searchContext.executeSearch(allVehicles, criteria);
+        if (query.getStoreId() != null) {
+            Store store = stores.get(query.getStoreId());
+            if (store == null || !store.isOperational() || !query.matchesStore(store)) {
+                return Stream.empty();
+            }
+            return store.getInventoryManagement().streamVehicles(query);
+        }
+        
+        return priceIndex.streamInRange(query.getMinPrice(), query.getMaxPrice())
+                .filter(vehicle -> matchesSearch(query, vehicle));
+    }
+    
+    /**
+     * Searches for vehicles with a composite query, cheapest first, one page at a time.
+     * Stops as soon as the page is full, so the cost follows offset + limit rather
+     * than the number of matches; for deep pages prefer the cursor variant.
+     * 
+     * @param query Composite search query
+     * @param offset Number of matching vehicles to skip
+     * @param limit Maximum number of vehicles to return
+     * @return Matching vehicles in ascending price order
+     */
+    public List<Vehicle> searchVehicles(VehicleSearchQuery query, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit cannot be negative");
+        }
+        return streamVehicles(query).skip(offset).limit(limit).collect(Collectors.toList());
+    }
+    
+    /**
+     * Searches for vehicles with a composite query, cheapest first, resuming after the
+     * cursor of the previous page. The search seeks straight to the cursor, so every
+     * page costs the same however deep it is, and vehicles added or removed meanwhile
+     * do not shift later pages.
+     * 
+     * @param query Composite search query
+     * @param after Cursor from the previous page, or null for the first page
+     * @param limit Maximum number of vehicles to return
+     * @return Matching vehicles with the cursor of the next page
+     */
+    public VehicleSearchPage searchVehicles(VehicleSearchQuery query, SearchCursor after, int limit) {
+        if (query == null) {
+            throw new IllegalArgumentException("Search query cannot be null");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive");
+        }
+        
+        if (query.getStoreId() != null) {
+            Store store = stores.get(query.getStoreId());
+            if (store == null || !store.isOperational() || !query.matchesStore(store)) {
+                return new VehicleSearchPage(Collections.emptyList(), null);
+            }
+            return store.getInventoryManagement().findVehicles(query, after, limit);
+        }
+        
+        return priceIndex.findPage(query.getMinPrice(), query.getMaxPrice(),
+                vehicle -> matchesSearch(query, vehicle), after, limit);
+    }
+    
+    private boolean matchesSearch(VehicleSearchQuery query, Vehicle vehicle) {
+        if (!query.matches(vehicle)) {
+            return false;
+        }
+        IndexedVehicle indexedVehicle = vehicleIndex.get(vehicle.getVehicleId());
+        return indexedVehicle != null && indexedVehicle.store.isOperational()
+                && query.matchesStore(indexedVehicle.store);
+    }
+    
+    /**
+     * Suggests the top-k model names and brands across all stores containing the typed text.
+     * Served from the system-wide n-gram indexes; prefix matches rank first, then
+     * terms carried by more vehicles.
+     * 
+     * @param text Text typed so far
+     * @param limit Maximum number of suggestions
+     * @return Suggestions, best first
+     */
+    public List<TextIndex.Suggestion> autocomplete(String text, int limit) {
+        if (text == null || text.trim().isEmpty()) {
+            throw new IllegalArgumentException("Autocomplete text cannot be empty");
+        }
+        return TextIndex.merge(modelIndex.autocomplete(text.trim(), limit),
+                brandIndex.autocomplete(text.trim(), limit), limit);
+    }
+    
+    private boolean isRentableNow(Vehicle vehicle) {
+        if (!vehicle.isAvailableForRental()) {
+            return false;
+        }
+        IndexedVehicle indexedVehicle = vehicleIndex.get(vehicle.getVehicleId());
+        return indexedVehicle != null && indexedVehicle.store.isOperational();
     }
     
     /**
      * Gets all available vehicles across all stores.
+     * Callers showing only some of them should use {@link #streamAvailableVehicles()}.
      * 
      * @return List of available vehicles
      */
     public List<Vehicle> getAllAvailableVehicles() {
         List<Vehicle> availableVehicles = new ArrayList<>();
         
+        ColumnarFleet fleet = readableColumnarFleet();
+        if (fleet != null) {
+            fleet.collectVehicles(true, this::isOperationalStore, availableVehicles);
+            return availableVehicles;
+        }
+        
         for (Store store : getOperationalStores()) {
             availableVehicles.addAll(store.getInventoryManagement().getAvailableVehicles());
         }
@@ -230,6 +668,16 @@ public class VehicleRentalSystem {
         return availableVehicles;
     }
     
+    /**
+     * Streams the available vehicles across all operational stores, cheapest first,
+     * without collecting them into a list first.
+     * 
+     * @return Sequential stream of available vehicles in ascending price order
+     */
+    public Stream<Vehicle> streamAvailableVehicles() {
+        return streamVehicles(VehicleSearchQuery.builder().build());
+    }
+    
     // ================== RESERVATION MANAGEMENT ==================
     
     /**
@@ -255,12 +703,13 @@ public class VehicleRentalSystem {
             throw new InvalidReservationException("User not found: " + userId);
         }
         
-        Vehicle vehicle = findVehicleById(vehicleId);
-        if (vehicle == null) {
+        IndexedVehicle indexedVehicle = vehicleIndex.get(vehicleId);
+        if (indexedVehicle == null) {
             throw new VehicleNotAvailableException("Vehicle not found: " + vehicleId);
         }
         
-        if (!vehicle.isAvailableForRental()) {
+        Vehicle vehicle = indexedVehicle.vehicle;
+        if (!vehicle.getStatus().isInService()) {
             throw new VehicleNotAvailableException(vehicleId);
         }
         
@@ -275,213 +724,1186 @@ public class VehicleRentalSystem {
             throw new InvalidReservationException("Invalid reservation dates");
         }
         
-        // Create reservation
-        String reservationId = generateReservationId();
-        Reservation reservation = new Reservation(reservationId, user, vehicle, 
-                                                startDate, endDate, pickupLocation, dropLocation);
-        
-        // Reserve the vehicle
-        Store vehicleStore = findStoreByVehicle(vehicleId);
-        if (vehicleStore != null) {
-            vehicleStore.getInventoryManagement().reserveVehicle(vehicleId);
-            vehicleStore.addReservation(reservation);
-        }
+        Reservation reservation = placeReservation(generateReservationId(), user, indexedVehicle,
+                startDate, endDate, pickupLocation, dropLocation);
         
-        // Add to user's rental history
-        user.addReservation(reservation);
+        logger.info("Created reservation: " + reservation.getReservationId() + " for user " + userId);
+        return reservation;
+    }
+    
+    /**
+     * Books and registers a validated reservation.
+     */
+    private Reservation placeReservation(String reservationId, User user, IndexedVehicle indexedVehicle,
+                                         LocalDate startDate, LocalDate endDate,
+                                         Location pickupLocation, Location dropLocation)
+                                         throws VehicleNotAvailableException {
+        Reservation reservation = new Reservation(reservationId, user, indexedVehicle.vehicle, 
+                                                startDate, endDate, pickupLocation, dropLocation);
+        reservation.setTotalCost(Money.toAmount(pricingStrategy.quoteRentalCents(indexedVehicle.store.getStoreId(),
+                indexedVehicle.vehicle, startDate, (int) reservation.getRentalDays())));
+        reservation.addObserver(statistics);
+        reservation.addObserver(directTransitionFollower);
         
-        // Store reservation
-        reservations.put(reservationId, reservation);
+        // Book the date range; overlapping concurrent bookings fail here, non-overlapping ones both succeed
+        Store vehicleStore = indexedVehicle.store;
+        vehicleStore.getInventoryManagement().bookVehicle(reservation);
         
-        logger.info("Created reservation: " + reservationId + " for user " + userId);
+        // Journaled once booked, and before it is visible to cancel or bill; a failed append frees the dates again
+        try {
+            journalAndApply(JournalRecordType.CREATE_RESERVATION, out -> StateCodec.writeReservation(out, reservation), () -> {
+                vehicleStore.addReservation(reservation);
+                user.addReservation(reservation);
+                reservations.put(reservationId, reservation);
+            });
+        } catch (RuntimeException e) {
+            vehicleStore.getInventoryManagement().releaseBooking(reservation);
+            throw e;
+        }
+        lifecycleScheduler.schedule(reservation);
         return reservation;
     }
     
     /**
-     * Cancels a reservation.
+     * Quotes the rental cost of a vehicle for a date range with the current pricing,
+     * before tax and fees. Nothing is booked.
      * 
-     * @param reservationId Reservation ID to cancel
-     * @return true if reservation was cancelled, false otherwise
+     * @param vehicleId Vehicle ID to quote
+     * @param startDate Rental start date
+     * @param endDate Rental end date
+     * @return Quoted rental cost
+     * @throws VehicleNotAvailableException if the vehicle does not exist
      */
-    public boolean cancelReservation(String reservationId) {
-        Reservation reservation = reservations.get(reservationId);
-        
-        if (reservation == null) {
-            logger.warning("Attempted to cancel non-existent reservation: " + reservationId);
-            return false;
-        }
-        
-        if (reservation.getStatus() != ReservationStatus.SCHEDULED) {
-            logger.warning("Cannot cancel reservation in status: " + reservation.getStatus());
-            return false;
+    public double quoteRental(String vehicleId, LocalDate startDate, LocalDate endDate) 
+            throws VehicleNotAvailableException {
+        IndexedVehicle indexedVehicle = vehicleIndex.get(vehicleId);
+        if (indexedVehicle == null) {
+            throw new VehicleNotAvailableException("Vehicle not found: " + vehicleId);
         }
-        
-        // Cancel the reservation
-        reservation.cancelReservation();
-        
-        // Release the vehicle
-        Store store = findStoreByVehicle(reservation.getVehicle().getVehicleId());
-        if (store != null) {
-            store.getInventoryManagement().releaseVehicle(reservation.getVehicle().getVehicleId());
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must not be after end date");
         }
         
-        logger.info("Cancelled reservation: " + reservationId);
-        return true;
+        int days = (int) Math.max(1, ChronoUnit.DAYS.between(startDate, endDate));
+        return Money.toAmount(pricingStrategy.quoteRentalCents(indexedVehicle.store.getStoreId(),
+                indexedVehicle.vehicle, startDate, days));
     }
     
     /**
-     * Gets a reservation by ID.
+     * Quotes many vehicles for one date range in a single pass, totalled as their
+     * bills would be, without creating reservations or bills.
      * 
-     * @param reservationId Reservation ID
-     * @return Reservation if found, null otherwise
+     * @param vehicleIds Vehicles to quote; unknown IDs are left out of the result
+     * @param startDate Rental start date
+     * @param endDate Rental end date
+     * @return Quotes in the order of the known vehicle IDs
      */
-    public Reservation getReservationById(String reservationId) {
-        return reservations.get(reservationId);
+    public RentalQuotes quoteRentals(Collection<String> vehicleIds, LocalDate startDate, LocalDate endDate) {
+        if (vehicleIds == null) {
+            throw new IllegalArgumentException("Vehicle IDs cannot be null");
+        }
+        
+        IndexedVehicle[] quoted = new IndexedVehicle[vehicleIds.size()];
+        int count = 0;
+        for (String vehicleId : vehicleIds) {
+            IndexedVehicle indexedVehicle = vehicleIndex.get(vehicleId);
+            if (indexedVehicle != null) {
+                quoted[count++] = indexedVehicle;
+            }
+        }
+        return quoteRentals(quoted, count, startDate, endDate);
     }
     
-    // ================== BILLING AND PAYMENT ==================
-    
     /**
-     * Generates a bill for a reservation.
+     * Quotes every vehicle matching a search query for the query's rental dates,
+     * e.g. all cars free next weekend in one city.
      * 
-     * @param reservationId Reservation ID
-     * @return Generated bill
-     * @throws InvalidReservationException if reservation not found
+     * @param query Search query with a date window
+     * @return Quotes in search result order
      */
-    public Bill generateBill(String reservationId) throws InvalidReservationException {
-        Reservation reservation = reservations.get(reservationId);
+    public RentalQuotes quoteRentals(VehicleSearchQuery query) {
+        if (query == null || !query.hasDateWindow()) {
+            throw new IllegalArgumentException("Quotes need a search query with rental dates");
+        }
         
-        if (reservation == null) {
-            throw new InvalidReservationException("Reservation not found: " + reservationId);
+        List<Vehicle> matches = searchVehicles(query);
+        IndexedVehicle[] quoted = new IndexedVehicle[matches.size()];
+        int count = 0;
+        for (Vehicle vehicle : matches) {
+            IndexedVehicle indexedVehicle = vehicleIndex.get(vehicle.getVehicleId());
+            if (indexedVehicle != null) {
+                quoted[count++] = indexedVehicle;
+            }
+        }
+        return quoteRentals(quoted, count, query.getStartDate(), query.getEndDate());
+    }
+    
+    private RentalQuotes quoteRentals(IndexedVehicle[] vehicles, int count, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Invalid quote dates");
         }
         
-        String billId = generateBillId();
-        Bill bill = new Bill(billId, reservation);
+        // One strategy and one set of fees for the whole sheet
+        PricingStrategy pricing = pricingStrategy;
+        int days = (int) Math.max(1, ChronoUnit.DAYS.between(startDate, endDate));
+        int taxPercent = pricing.getTaxPercent();
+        VehicleType[] types = VehicleType.values();
+        long[] feesByType = new long[types.length];
+        for (VehicleType type : types) {
+            feesByType[type.ordinal()] = pricing.getAdditionalFeesCents(type);
+        }
         
-        bills.put(billId, bill);
+        String[] vehicleIds = new String[count];
+        long[] rentalCents = new long[count];
+        long[] taxCents = new long[count];
+        long[] feesCents = new long[count];
         
-        logger.info("Generated bill: " + billId + " for reservation " + reservationId);
-        return bill;
+        // Each index writes only its own slots, so large sheets can fan out
+        IntStream indices = IntStream.range(0, count);
+        if (count >= PARALLEL_QUOTE_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            IndexedVehicle indexedVehicle = vehicles[i];
+            Vehicle vehicle = indexedVehicle.vehicle;
+            vehicleIds[i] = vehicle.getVehicleId();
+            rentalCents[i] = pricing.quoteRentalCents(indexedVehicle.store.getStoreId(), vehicle, startDate, days);
+            taxCents[i] = Money.percentOf(rentalCents[i], taxPercent);
+            feesCents[i] = feesByType[vehicle.getVehicleType().ordinal()];
+        });
+        
+        return new RentalQuotes(startDate, endDate, vehicleIds, rentalCents, taxCents, feesCents);
     }
     
     /**
-     * Processes a payment using the provided payment context.
+     * Cancels a reservation.
      * 
-     * @param paymentContext Configured payment context with strategy
-     * @param billId Bill ID to pay
-     * @param paymentDetails Payment details (strategy-specific)
-     * @return Created payment
-     * @throws CarRentalException if payment cannot be processed
+     * @param reservationId Reservation ID to cancel
+     * @return true if reservation was cancelled, false otherwise
      */
-    public Payment processPayment(PaymentContext paymentContext, String billId, 
-                                Object paymentDetails) throws CarRentalException {
+    public boolean cancelReservation(String reservationId) {
+        Reservation reservation = reservations.get(reservationId);
         
-        Bill bill = bills.get(billId);
-        if (bill == null) {
-            throw new InvalidReservationException("Bill not found: " + billId);
+        if (reservation == null) {
+            logger.warning("Attempted to cancel non-existent reservation: " + reservationId);
+            return false;
         }
         
-        if (bill.isPaid()) {
-            throw new InvalidReservationException("Bill already paid: " + billId);
+        // Journaled before anything changes, so a failed append leaves the reservation scheduled,
+        // and before the dates are released, so a rebooking of them always replays after it
+        synchronized (reservation) {
+            if (reservation.getStatus() != ReservationStatus.SCHEDULED) {
+                logger.warning("Cannot cancel reservation in status: " + reservation.getStatus());
+                return false;
+            }
+            journal(JournalRecordType.CANCEL_RESERVATION, out -> out.writeUTF(reservationId));
+            reservation.cancelReservation();
         }
         
-        String paymentId = generatePaymentId();
-        Payment payment = new Payment(paymentId, bill, bill.getTotalAmount(), 
-                                    paymentContext.getCurrentPaymentMethod());
-        
-        boolean paymentSuccessful = paymentContext.processPayment(payment, paymentDetails);
-        
-        payments.put(paymentId, payment);
+        // Free the booked dates so the vehicle can be sold for them again
+        releaseBookedDates(reservation);
         
-        if (paymentSuccessful) {
-            logger.info("Payment processed successfully: " + paymentId);
-        } else {
-            logger.warning("Payment failed: " + paymentId);
+        logger.info("Cancelled reservation: " + reservationId);
+        return true;
+    }
+    
+    /**
+     * Starts moving reservations through their lifecycle by date: scheduled
+     * reservations are activated on their start date, and on their end date active
+     * ones are completed and scheduled ones, never picked up, expire. Either way the
+     * vehicle is released. The first run catches up on dates already passed.
+     * 
+     * @param period How often to check for a new day
+     * @param unit Unit of the period
+     */
+    public synchronized void startLifecycleScheduler(long period, TimeUnit unit) {
+        if (lifecycleTicker != null) {
+            throw new IllegalStateException("Lifecycle scheduler is already running");
+        }
+        if (period <= 0) {
+            throw new IllegalArgumentException("Lifecycle check period must be positive");
         }
         
-        return payment;
+        lifecycleTicker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reservation-lifecycle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lifecycleTicker.scheduleWithFixedDelay(() -> {
+            try {
+                advanceReservationLifecycle(LocalDate.now());
+            } catch (RuntimeException e) {
+                logger.warning("Reservation lifecycle run failed: " + e.getMessage());
+            }
+        }, 0, period, unit);
     }
     
-    // ================== SYSTEM UTILITIES ==================
+    /**
+     * Stops the lifecycle scheduler. Reservations keep their timers and catch up
+     * once it is started again.
+     */
+    public synchronized void stopLifecycleScheduler() {
+        if (lifecycleTicker != null) {
+            lifecycleTicker.shutdown();
+            lifecycleTicker = null;
+        }
+    }
     
     /**
-     * Finds a vehicle by ID across all stores.
+     * Fires every reservation start and end date up to the given day, as the
+     * lifecycle scheduler does for the current date.
      * 
-     * @param vehicleId Vehicle ID to find
-     * @return Vehicle if found, null otherwise
+     * @param today Day to advance to
+     * @return Number of lifecycle transitions fired
      */
-    private Vehicle findVehicleById(String vehicleId) {
-        for (Store store : stores.values()) {
-            Vehicle vehicle = store.getInventoryManagement().getVehicleById(vehicleId);
-            if (vehicle != null) {
-                return vehicle;
-            }
+    public int advanceReservationLifecycle(LocalDate today) {
+        int fired = lifecycleScheduler.advanceTo(today);
+        if (fired > 0) {
+            logger.info("Fired " + fired + " reservation lifecycle transitions up to " + today);
         }
-        return null;
+        return fired;
     }
     
     /**
-     * Finds the store that contains a specific vehicle.
-     * 
-     * @param vehicleId Vehicle ID to search for
-     * @return Store containing the vehicle, null if not found
+     * Completes an active reservation and frees its vehicle.
+     * Transitions made by the system hold the reservation's lock from the status check
+     * through the journal append, so the status cannot change in between.
      */
-    private Store findStoreByVehicle(String vehicleId) {
-        for (Store store : stores.values()) {
-            if (store.getInventoryManagement().vehicleExists(vehicleId)) {
-                return store;
+    private void completeReservation(Reservation reservation) {
+        // Journaled before anything changes, like a cancellation
+        synchronized (reservation) {
+            if (reservation.getStatus() != ReservationStatus.ACTIVE) {
+                return;
             }
+            journal(JournalRecordType.COMPLETE_RESERVATION, out -> out.writeUTF(reservation.getReservationId()));
+            reservation.completeReservation();
         }
-        return null;
+        releaseReservedVehicle(reservation);
+        logger.info("Completed reservation: " + reservation.getReservationId());
     }
     
     /**
-     * Gets comprehensive system statistics.
-     * 
-     * @return Map containing system statistics
+     * Activates a reservation on its start date and marks its vehicle rented out.
+     * A vehicle out of service cannot be picked up; the reservation then expires.
+     */
+    private void activateReservation(Reservation reservation) {
+        // Journaled before anything changes, like a cancellation
+        synchronized (reservation) {
+            if (reservation.getStatus() != ReservationStatus.SCHEDULED
+                    || !reservation.getVehicle().getStatus().isInService()) {
+                return;
+            }
+            journal(JournalRecordType.ACTIVATE_RESERVATION, out -> out.writeUTF(reservation.getReservationId()));
+            reservation.activateReservation();
+        }
+        markVehicleRented(reservation);
+        logger.info("Activated reservation: " + reservation.getReservationId());
+    }
+    
+    private void replayActivateReservation(String reservationId) {
+        Reservation reservation = requireReservation(reservationId);
+        boolean activated;
+        synchronized (reservation) {
+            activated = reservation.activateReservation();
+        }
+        if (activated) {
+            markVehicleRented(reservation);
+        }
+    }
+    
+    private void replayCompleteReservation(String reservationId) {
+        Reservation reservation = requireReservation(reservationId);
+        boolean completed;
+        synchronized (reservation) {
+            // Journals written before pickups were recorded hold no activation record
+            reservation.activateReservation();
+            completed = reservation.completeReservation();
+        }
+        if (completed) {
+            releaseReservedVehicle(reservation);
+        }
+    }
+    
+    private Reservation requireReservation(String reservationId) {
+        Reservation reservation = reservations.get(reservationId);
+        if (reservation == null) {
+            throw new IllegalStateException("Unknown reservation " + reservationId);
+        }
+        return reservation;
+    }
+    
+    private void releaseBookedDates(Reservation reservation) {
+        Store store = findStoreByVehicle(reservation.getVehicle().getVehicleId());
+        if (store != null) {
+            store.getInventoryManagement().releaseBooking(reservation);
+        }
+    }
+    
+    private void releaseReservedVehicle(Reservation reservation) {
+        Vehicle vehicle = reservation.getVehicle();
+        Store store = findStoreByVehicle(vehicle.getVehicleId());
+        if (store == null) {
+            return;
+        }
+        store.getInventoryManagement().releaseBooking(reservation);
+        // The next renter may already have picked the vehicle up, e.g. on the same day
+        synchronized (vehicle) {
+            if (!vehicle.getAvailabilityCalendar().hasActiveBooking()) {
+                store.getInventoryManagement().releaseVehicle(vehicle.getVehicleId());
+            }
+        }
+    }
+    
+    /**
+     * Marks the vehicle of a reservation just picked up as rented out, so it leaves
+     * the vehicles available right now until it is returned.
+     */
+    private void markVehicleRented(Reservation reservation) {
+        Vehicle vehicle = reservation.getVehicle();
+        // Same lock as the release, so a same-day hand-over never ends with the vehicle available
+        synchronized (vehicle) {
+            vehicle.compareAndSetStatus(VehicleStatus.AVAILABLE, VehicleStatus.RESERVED);
+        }
+    }
+    
+    /**
+     * Gets a reservation by ID.
+     * 
+     * @param reservationId Reservation ID
+     * @return Reservation if found, null otherwise
+     */
+    public Reservation getReservationById(String reservationId) {
+        return reservations.get(reservationId);
+    }
+    
+    // ================== BILLING AND PAYMENT ==================
+    
+    /**
+     * Generates a bill for a reservation.
+     * 
+     * @param reservationId Reservation ID
+     * @return Generated bill
+     * @throws InvalidReservationException if reservation not found
+     */
+    public Bill generateBill(String reservationId) throws InvalidReservationException {
+        Reservation reservation = reservations.get(reservationId);
+        
+        if (reservation == null) {
+            throw new InvalidReservationException("Reservation not found: " + reservationId);
+        }
+        
+        PricingStrategy pricing = pricingStrategy;
+        Bill bill = placeBill(generateBillId(), reservation, pricing.getTaxPercent(),
+                pricing.getAdditionalFeesCents(reservation.getVehicle().getVehicleType()));
+        
+        logger.info("Generated bill: " + bill.getBillId() + " for reservation " + reservationId);
+        return bill;
+    }
+    
+    private Bill placeBill(String billId, Reservation reservation, int taxPercent, long additionalFeesCents) {
+        Bill bill = new Bill(billId, reservation, taxPercent, additionalFeesCents);
+        bill.setObserver(statistics);
+        
+        journalAndApply(JournalRecordType.GENERATE_BILL, out -> StateCodec.writeBill(out, bill),
+                () -> bills.put(billId, bill));
+        return bill;
+    }
+    
+    /**
+     * Processes a payment using the provided payment context.
+     * 
+     * @param paymentContext Configured payment context with strategy
+     * @param billId Bill ID to pay
+     * @param paymentDetails Payment details (strategy-specific)
+     * @return Created payment
+     * @throws CarRentalException if payment cannot be processed
+     */
+    public Payment processPayment(PaymentContext paymentContext, String billId, 
+                                Object paymentDetails) throws CarRentalException {
+        
+        Bill bill = bills.get(billId);
+        if (bill == null) {
+            throw new InvalidReservationException("Bill not found: " + billId);
+        }
+        
+        // Claimed for the whole attempt, so a concurrent payment of the bill cannot charge it again
+        if (!bill.tryStartPayment()) {
+            throw new InvalidReservationException(bill.isPaid() ? "Bill already paid: " + billId
+                    : "Bill payment already in progress: " + billId);
+        }
+        try {
+            String paymentId = generatePaymentId();
+            Payment payment = new Payment(paymentId, bill, bill.getTotalAmount(), 
+                                        paymentContext.getCurrentPaymentMethod());
+            
+            paymentContext.processPayment(payment, paymentDetails);
+            recordPayment(payment);
+            
+            return payment;
+        } finally {
+            bill.finishPayment();
+        }
+    }
+    
+    /**
+     * Processes a payment without blocking the caller on the payment gateway.
+     * The bill ID is the idempotency key: concurrent calls for the same bill share
+     * one payment attempt, and once it succeeds further calls are rejected as for
+     * {@link #processPayment}.
+     * 
+     * @param paymentContext Configured payment context with strategy
+     * @param billId Bill ID to pay
+     * @param paymentDetails Payment details (strategy-specific)
+     * @return Future completed with the processed payment, successful or not; completed
+     *         exceptionally with InvalidReservationException if the bill is unknown, already
+     *         paid or being paid another way, or with TimeoutException if the gateway does
+     *         not answer in time
+     */
+    public CompletableFuture<Payment> processPaymentAsync(PaymentContext paymentContext, String billId,
+                                                          Object paymentDetails) {
+        Bill bill = bills.get(billId);
+        if (bill == null) {
+            return CompletableFuture.failedFuture(new InvalidReservationException("Bill not found: " + billId));
+        }
+        
+        // The bill is claimed only when no attempt is in flight, atomically with registering one,
+        // and held until the gateway call is over
+        return paymentProcessor.submit(billId, paymentContext, () -> {
+            if (!bill.tryStartPayment()) {
+                throw new CompletionException(new InvalidReservationException(bill.isPaid()
+                        ? "Bill already paid: " + billId : "Bill payment already in progress: " + billId));
+            }
+            return new Payment(generatePaymentId(), bill, bill.getTotalAmount(),
+                    paymentContext.getCurrentPaymentMethod());
+        }, paymentDetails, this::recordPayment, bill::finishPayment);
+    }
+    
+    /**
+     * Settles many bills in one pass, e.g. a store's cash payments at day end.
+     * 
+     * Items are validated in parallel (bill exists, is unpaid and appears once in
+     * the batch, details are valid for the strategy), then each bill is claimed so no
+     * other payment can charge it meanwhile, and the bills are grouped by strategy so
+     * each strategy settles its share in one call. A group's payments are recorded as
+     * soon as it is settled; a strategy that fails fails only its own group's payments.
+     * Invalid or already claimed items are rejected without creating a payment.
+     * 
+     * @param items Bills to settle with their strategy and payment details
+     * @return Per-item results, in the order of the items
+     * @throws IllegalArgumentException if items is null
+     */
+    public List<SettlementResult> settlePayments(List<SettlementItem> items) {
+        return paymentSettlement.settle(items);
+    }
+    
+    private void recordPayment(Payment payment) {
+        storePayment(payment);
+        
+        if (payment.getStatus().isSuccessful()) {
+            logger.info("Payment processed successfully: " + payment.getPaymentId());
+        } else {
+            logger.warning("Payment failed: " + payment.getPaymentId());
+        }
+    }
+    
+    private void storePayment(Payment payment) {
+        // Only the outcome is journaled; replay never charges again
+        journalAndApply(JournalRecordType.PROCESS_PAYMENT, out -> StateCodec.writePayment(out, payment),
+                () -> payments.put(payment.getPaymentId(), payment));
+    }
+    
+    // ================== PERSISTENCE ==================
+    
+    /**
+     * Enables the write-ahead journal and restores the state recorded in it.
+     * Every later mutation is appended to the journal. Appends are group-committed
+     * by a background writer, so callers never wait for the disk.
+     * 
+     * @param path Journal file, created if missing
+     * @throws IOException if the journal cannot be read or opened
+     * @throws IllegalStateException if a journal is already enabled or the system already holds state
+     */
+    public void enableJournal(Path path) throws IOException {
+        enableJournal(path, null);
+    }
+    
+    /**
+     * Restores the latest snapshot, replays the journal records written after it and
+     * enables the journal. An unreadable snapshot is ignored in favour of a full
+     * journal replay, which the journal always allows since it is never truncated.
+     * 
+     * @param journalPath Journal file, created if missing
+     * @param snapshotPath Snapshot file, may be null or missing
+     * @throws IOException if the journal cannot be read or opened, or a verified
+     *         snapshot fails to load
+     * @throws IllegalStateException if a journal is already enabled or the system already holds state
+     */
+    public synchronized void enableJournal(Path journalPath, Path snapshotPath) throws IOException {
+        if (journal != null) {
+            throw new IllegalStateException("Journal already enabled: " + journal.getPath());
+        }
+        if (!isEmpty()) {
+            throw new IllegalStateException("Journal must be enabled before any state is added");
+        }
+        
+        long snapshotLsn = 0;
+        if (snapshotPath != null && Files.exists(snapshotPath)) {
+            try {
+                snapshotLsn = SnapshotFile.read(snapshotPath, snapshotCodec::read);
+                logger.info("Loaded snapshot at LSN " + snapshotLsn + ": " + snapshotPath);
+            } catch (IOException e) {
+                // Corrupt files are rejected before anything is loaded; fail if state is half-built
+                if (!isEmpty()) {
+                    throw e;
+                }
+                logger.warning("Ignoring unreadable snapshot " + snapshotPath + ": " + e.getMessage());
+            }
+        }
+        
+        // Replayed with the field still null, so replayed mutations are not journaled again
+        RentalJournal opened = RentalJournal.open(journalPath, snapshotLsn, journalReplayer);
+        journal = opened;
+        logger.info("Journal enabled at LSN " + opened.getLastLsn() + ": " + journalPath);
+    }
+    
+    private boolean isEmpty() {
+        return users.isEmpty() && stores.isEmpty() && locations.isEmpty() && reservations.isEmpty();
+    }
+    
+    /**
+     * Blocks until every mutation made so far is on disk.
+     * 
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void flushJournal() throws InterruptedException {
+        RentalJournal current = journal;
+        if (current != null) {
+            current.flush();
+        }
+    }
+    
+    /**
+     * Stops scheduled snapshots, then flushes and closes the journal.
+     * Later mutations are no longer recorded.
+     * 
+     * @throws IOException if the journal file cannot be closed
+     */
+    public synchronized void closeJournal() throws IOException {
+        stopSnapshots();
+        RentalJournal current = journal;
+        if (current != null) {
+            journal = null;
+            current.close();
+        }
+    }
+    
+    /**
+     * Writes a point-in-time snapshot of users, locations, stores with their vehicles,
+     * reservations, bills and payments.
+     * 
+     * The snapshot is fuzzy: writers keep running while it is written and are only
+     * held for the instant its journal LSN is taken. Every mutation journaled up to
+     * that LSN is in the snapshot; later ones may or may not be, and replaying them
+     * on top is idempotent.
+     * 
+     * @param path Snapshot file, replaced atomically
+     * @return Journal LSN the snapshot is consistent with
+     * @throws IOException if the snapshot cannot be written
+     * @throws IllegalStateException if the journal is not enabled
+     */
+    public synchronized long writeSnapshot(Path path) throws IOException {
+        RentalJournal current = journal;
+        if (current == null) {
+            throw new IllegalStateException("Snapshots require the journal to be enabled");
+        }
+        
+        long lsn;
+        snapshotGate.writeLock().lock();
+        try {
+            lsn = current.getLastLsn();
+        } finally {
+            snapshotGate.writeLock().unlock();
+        }
+        
+        // The journal must cover the snapshot, or a crash could leave it behind the snapshot's LSN
+        try {
+            current.awaitDurable(lsn);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while flushing the journal");
+        }
+        
+        long started = System.nanoTime();
+        SnapshotFile.write(path, lsn, snapshotCodec::write);
+        logger.info("Wrote snapshot at LSN " + lsn + " in " 
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) + " ms: " + path);
+        return lsn;
+    }
+    
+    /**
+     * Writes a snapshot periodically on a background thread.
+     * 
+     * @param path Snapshot file, replaced atomically each time
+     * @param period Time between the end of one snapshot and the start of the next
+     * @param unit Unit of the period
+     * @throws IllegalStateException if snapshots are already scheduled or the journal is not enabled
+     */
+    public synchronized void scheduleSnapshots(Path path, long period, TimeUnit unit) {
+        if (journal == null) {
+            throw new IllegalStateException("Snapshots require the journal to be enabled");
+        }
+        if (snapshotScheduler != null) {
+            throw new IllegalStateException("Snapshots are already scheduled");
+        }
+        if (period <= 0) {
+            throw new IllegalArgumentException("Snapshot period must be positive");
+        }
+        
+        snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rental-snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        snapshotScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                writeSnapshot(path);
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Scheduled snapshot failed: " + e.getMessage());
+            }
+        }, period, period, unit);
+    }
+    
+    /**
+     * Stops scheduled snapshots. A snapshot in progress still completes.
+     */
+    public synchronized void stopSnapshots() {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdown();
+            snapshotScheduler = null;
+        }
+    }
+    
+    /**
+     * Journals a mutation and applies it while holding the snapshot gate, so a
+     * snapshot never takes an LSN whose mutation is not visible yet.
+     */
+    private void journalAndApply(JournalRecordType type, RentalJournal.RecordWriter writer, Runnable apply) {
+        snapshotGate.readLock().lock();
+        try {
+            journal(type, writer);
+            apply.run();
+        } finally {
+            snapshotGate.readLock().unlock();
+        }
+    }
+    
+    private void journal(JournalRecordType type, RentalJournal.RecordWriter writer) {
+        RentalJournal current = journal;
+        if (current != null) {
+            current.append(type, writer);
+        }
+    }
+    
+    private void journalVehicleAdded(Store store, Vehicle vehicle) {
+        journal(JournalRecordType.ADD_VEHICLE, out -> {
+            out.writeUTF(store.getStoreId());
+            StateCodec.writeVehicle(out, vehicle);
+        });
+    }
+    
+    // ================== SYSTEM UTILITIES ==================
+    
+    /**
+     * Finds a vehicle by ID across all stores.
+     * Uses the system-wide vehicle index, so lookup is O(1) regardless of store count.
+     * 
+     * @param vehicleId Vehicle ID to find
+     * @return Vehicle if found, null otherwise
+     */
+    public Vehicle findVehicleById(String vehicleId) {
+        IndexedVehicle indexedVehicle = vehicleIndex.get(vehicleId);
+        return indexedVehicle != null ? indexedVehicle.vehicle : null;
+    }
+    
+    /**
+     * Finds the store that contains a specific vehicle.
+     * 
+     * @param vehicleId Vehicle ID to search for
+     * @return Store containing the vehicle, null if not found
+     */
+    public Store findStoreByVehicle(String vehicleId) {
+        IndexedVehicle indexedVehicle = vehicleIndex.get(vehicleId);
+        return indexedVehicle != null ? indexedVehicle.store : null;
+    }
+    
+    private void updateAttributeIndexes(Vehicle vehicle) {
+        boolean present = isIndexed(vehicle);
+        priceIndex.update(vehicle, present);
+        modelIndex.update(vehicle, present);
+        brandIndex.update(vehicle, present);
+        updateColumnarFleet(vehicle);
+    }
+    
+    private void updateColumnarFleet(Vehicle vehicle) {
+        ColumnarFleet fleet = columnarFleet;
+        if (fleet == null) {
+            return;
+        }
+        // Same per-vehicle lock as the other indexes: the last update reads the latest index entry
+        synchronized (vehicle) {
+            IndexedVehicle indexedVehicle = vehicleIndex.get(vehicle.getVehicleId());
+            boolean present = indexedVehicle != null && indexedVehicle.vehicle == vehicle;
+            fleet.update(vehicle, present ? indexedVehicle.store.getStoreId() : null, present);
+        }
+    }
+    
+    private boolean isIndexed(Vehicle vehicle) {
+        IndexedVehicle indexedVehicle = vehicleIndex.get(vehicle.getVehicleId());
+        return indexedVehicle != null && indexedVehicle.vehicle == vehicle;
+    }
+    
+    /**
+     * Subscribes to a store's inventory and indexes the vehicles it already holds.
+     * The observer is registered first so vehicles added concurrently are not missed.
+     * 
+     * @param store Newly added store
+     */
+    private void indexStoreVehicles(Store store) {
+        VehicleInventoryManagement inventory = store.getInventoryManagement();
+        inventory.addObserver(vehicleIndexUpdater);
+        
+        for (Vehicle vehicle : inventory.getAllVehicles()) {
+            journalVehicleAdded(store, vehicle);
+            IndexedVehicle entry = new IndexedVehicle(store, vehicle);
+            vehicleIndex.put(vehicle.getVehicleId(), entry);
+            
+            // The vehicle may have been removed while we were back-filling
+            if (inventory.getVehicleById(vehicle.getVehicleId()) != vehicle) {
+                vehicleIndex.remove(vehicle.getVehicleId(), entry);
+            }
+            updateAttributeIndexes(vehicle);
+        }
+    }
+    
+    /**
+     * Performs the transitions the lifecycle scheduler fires.
+     */
+    private class LifecycleTransitions implements ReservationLifecycleScheduler.TransitionHandler {
+        
+        @Override
+        public void onStartDateReached(Reservation reservation) {
+            activateReservation(reservation);
+        }
+        
+        @Override
+        public void onEndDateReached(Reservation reservation) {
+            if (reservation.getStatus() == ReservationStatus.ACTIVE) {
+                completeReservation(reservation);
+            } else if (cancelReservation(reservation.getReservationId())) {
+                // Never picked up, so only the dates were held; the cancellation released them
+                logger.info("Expired reservation never picked up: " + reservation.getReservationId());
+            }
+        }
+    }
+    
+    /**
+     * Follows transitions made by calling a reservation's own activate, complete or
+     * cancel methods: journals them and picks up, returns or frees the vehicle as the
+     * system's own transitions do. Those hold the reservation's lock and are skipped.
+     */
+    private class DirectTransitionFollower implements ReservationObserver {
+        
+        @Override
+        public void onStatusChanged(Reservation reservation, ReservationStatus oldStatus, ReservationStatus newStatus) {
+            if (Thread.holdsLock(reservation)) {
+                return;
+            }
+            switch (newStatus) {
+                case ACTIVE:
+                    follow(reservation, JournalRecordType.ACTIVATE_RESERVATION, () -> markVehicleRented(reservation));
+                    break;
+                case COMPLETED:
+                    follow(reservation, JournalRecordType.COMPLETE_RESERVATION, () -> releaseReservedVehicle(reservation));
+                    break;
+                case CANCELLED:
+                    follow(reservation, JournalRecordType.CANCEL_RESERVATION, () -> releaseBookedDates(reservation));
+                    break;
+                default:
+                    break;
+            }
+        }
+        
+        private void follow(Reservation reservation, JournalRecordType type, Runnable apply) {
+            String reservationId = reservation.getReservationId();
+            try {
+                journal(type, out -> out.writeUTF(reservationId));
+            } catch (RuntimeException e) {
+                // The transition has happened; it is applied anyway and the other observers still hear of it
+                logger.severe("Could not journal " + type + " of reservation " + reservationId + ": " + e.getMessage());
+            }
+            apply.run();
+        }
+    }
+    
+    /**
+     * The system's state as snapshots and journal replay see it.
+     */
+    private class PersistentState implements RentalState {
+        
+        @Override
+        public Collection<Location> getLocations() {
+            return locations.values();
+        }
+        
+        @Override
+        public Collection<User> getUsers() {
+            return users.values();
+        }
+        
+        @Override
+        public Collection<Store> getStores() {
+            return stores.values();
+        }
+        
+        @Override
+        public Collection<Reservation> getReservations() {
+            return reservations.values();
+        }
+        
+        @Override
+        public Collection<Bill> getBills() {
+            return bills.values();
+        }
+        
+        @Override
+        public Collection<Payment> getPayments() {
+            return payments.values();
+        }
+        
+        @Override
+        public Location getLocation(String locationId) {
+            return locations.get(locationId);
+        }
+        
+        @Override
+        public User getUser(String userId) {
+            return users.get(userId);
+        }
+        
+        @Override
+        public Store getStore(String storeId) {
+            return stores.get(storeId);
+        }
+        
+        @Override
+        public Reservation getReservation(String reservationId) {
+            return reservations.get(reservationId);
+        }
+        
+        @Override
+        public Bill getBill(String billId) {
+            return bills.get(billId);
+        }
+        
+        @Override
+        public Payment getPayment(String paymentId) {
+            return payments.get(paymentId);
+        }
+        
+        @Override
+        public Vehicle findVehicle(String vehicleId) {
+            return findVehicleById(vehicleId);
+        }
+        
+        @Override
+        public Store findInventoryStore(Vehicle vehicle) {
+            IndexedVehicle indexedVehicle = vehicleIndex.get(vehicle.getVehicleId());
+            return indexedVehicle != null && indexedVehicle.vehicle == vehicle ? indexedVehicle.store : null;
+        }
+        
+        @Override
+        public void addLocation(Location location) {
+            VehicleRentalSystem.this.addLocation(location);
+        }
+        
+        @Override
+        public void restoreUser(User user) {
+            users.put(user.getUserId(), user);
+        }
+        
+        @Override
+        public void registerUser(User user) {
+            VehicleRentalSystem.this.registerUser(user);
+        }
+        
+        @Override
+        public void addStore(Store store) {
+            VehicleRentalSystem.this.addStore(store);
+        }
+        
+        @Override
+        public void restoreReservation(Reservation reservation, Store store, ReservationStatus status) {
+            reservation.addObserver(statistics);
+            // Finished reservations no longer hold their dates
+            if (status != ReservationStatus.CANCELLED && status != ReservationStatus.COMPLETED
+                    && !reservation.getVehicle().getAvailabilityCalendar().tryBook(reservation)) {
+                throw new IllegalStateException("Reservation " + reservation.getReservationId() + " cannot be booked");
+            }
+            
+            switch (status) {
+                case CANCELLED:
+                    reservation.cancelReservation();
+                    break;
+                case COMPLETED:
+                    reservation.activateReservation();
+                    reservation.completeReservation();
+                    break;
+                case ACTIVE:
+                    reservation.activateReservation();
+                    break;
+                default:
+                    break;
+            }
+            // Followed only from here, so restoring the recorded status has no side effects
+            reservation.addObserver(directTransitionFollower);
+            
+            store.addReservation(reservation);
+            reservation.getUser().addReservation(reservation);
+            reservations.put(reservation.getReservationId(), reservation);
+            lifecycleScheduler.schedule(reservation);
+        }
+        
+        @Override
+        public Bill restoreBill(String billId, Reservation reservation, int taxPercent, long additionalFeesCents) {
+            return placeBill(billId, reservation, taxPercent, additionalFeesCents);
+        }
+        
+        @Override
+        public void restorePayment(Payment payment) {
+            payments.put(payment.getPaymentId(), payment);
+        }
+        
+        @Override
+        public boolean cancelReservation(String reservationId) {
+            return VehicleRentalSystem.this.cancelReservation(reservationId);
+        }
+        
+        @Override
+        public void replayActivation(String reservationId) {
+            replayActivateReservation(reservationId);
+        }
+        
+        @Override
+        public void replayCompletion(String reservationId) {
+            replayCompleteReservation(reservationId);
+        }
+    }
+    
+    /**
+     * Keeps the system-wide vehicle index in sync with store inventories.
+     */
+    private class VehicleIndexUpdater implements InventoryObserver {
+        
+        @Override
+        public void onVehicleAdded(VehicleInventoryManagement inventory, Vehicle vehicle) {
+            Store store = stores.get(inventory.getStoreId());
+            if (store == null) {
+                return;
+            }
+            
+            journalVehicleAdded(store, vehicle);
+            IndexedVehicle previous = vehicleIndex.put(vehicle.getVehicleId(), new IndexedVehicle(store, vehicle));
+            if (previous != null && previous.store != store) {
+                logger.warning("Vehicle " + vehicle.getVehicleId() + " moved from store " 
+                        + previous.store.getStoreId() + " to " + store.getStoreId());
+            }
+            updateAttributeIndexes(vehicle);
+        }
+        
+        @Override
+        public void onVehicleRemoved(VehicleInventoryManagement inventory, Vehicle vehicle) {
+            journal(JournalRecordType.REMOVE_VEHICLE, out -> {
+                out.writeUTF(inventory.getStoreId());
+                out.writeUTF(vehicle.getVehicleId());
+            });
+            vehicleIndex.computeIfPresent(vehicle.getVehicleId(), 
+                    (id, entry) -> entry.vehicle == vehicle ? null : entry);
+            updateAttributeIndexes(vehicle);
+        }
+        
+        @Override
+        public void onPriceChanged(VehicleInventoryManagement inventory, Vehicle vehicle, double oldPrice, double newPrice) {
+            updateAttributeIndexes(vehicle);
+        }
+        
+        @Override
+        public void onDescriptionChanged(VehicleInventoryManagement inventory, Vehicle vehicle) {
+            updateAttributeIndexes(vehicle);
+        }
+        
+        @Override
+        public void onVehicleUpdated(VehicleInventoryManagement inventory, Vehicle vehicle) {
+            updateColumnarFleet(vehicle);
+        }
+    }
+    
+    /**
+     * Entry of the system-wide vehicle index.
+     */
+    private static final class IndexedVehicle {
+        private final Store store;
+        private final Vehicle vehicle;
+        
+        private IndexedVehicle(Store store, Vehicle vehicle) {
+            this.store = store;
+            this.vehicle = vehicle;
+        }
+    }
+    
+    /**
+     * Gets comprehensive system statistics.
+     * Reservation, bill and vehicle figures come from live counters, so the cost
+     * does not grow with history or fleet size.
+     * 
+     * @return Map containing system statistics
      */
     public Map<String, Object> getSystemStatistics() {
         Map<String, Object> stats = new HashMap<>();
         
+        int operationalStores = 0;
+        for (Store store : stores.values()) {
+            if (store.isOperational()) {
+                operationalStores++;
+            }
+        }
+        
         stats.put("Total Users", users.size());
         stats.put("Total Stores", stores.size());
-        stats.put("Operational Stores", getOperationalStores().size());
+        stats.put("Operational Stores", operationalStores);
         stats.put("Total Locations", locations.size());
         stats.put("Total Reservations", reservations.size());
-        stats.put("Active Reservations", reservations.values().stream()
-                .filter(r -> r.getStatus().isActive()).count());
+        stats.put("Active Reservations", statistics.getActiveReservations());
         stats.put("Total Bills", bills.size());
-        stats.put("Paid Bills", bills.values().stream().filter(Bill::isPaid).count());
+        stats.put("Paid Bills", statistics.getPaidBills());
         stats.put("Total Payments", payments.size());
+        stats.put("Total Vehicles", (int) statistics.getTotalVehicles());
+        stats.put("Available Vehicles", (int) statistics.getAvailableVehicles());
         
-        // Vehicle statistics across all stores
-        int totalVehicles = 0;
-        int availableVehicles = 0;
-        for (Store store : stores.values()) {
-            totalVehicles += store.getInventoryManagement().getTotalVehicleCount();
-            availableVehicles += store.getInventoryManagement().getAvailableVehicleCount();
+        return stats;
+    }
+    
+    /**
+     * Starts keeping a columnar copy of the fleet: type, status, price, seats, year
+     * and mileage in primitive arrays, model, brand and store dictionary-encoded.
+     * From then on searches across all stores, strategy scans and fleet statistics
+     * run as loops over those arrays. Costs under 100 bytes per vehicle.
+     */
+    public synchronized void enableColumnarFleet() {
+        if (columnarFleet != null) {
+            return;
         }
         
-        stats.put("Total Vehicles", totalVehicles);
-        stats.put("Available Vehicles", availableVehicles);
-        
-        return stats;
+        // Published first, so vehicles changed during the back-fill are not missed,
+        // but readers stay on the indexes until it holds the whole fleet
+        ColumnarFleet fleet = new ColumnarFleet();
+        columnarFleet = fleet;
+        for (IndexedVehicle indexedVehicle : vehicleIndex.values()) {
+            updateColumnarFleet(indexedVehicle.vehicle);
+        }
+        columnarFleetReady = true;
+        logger.info("Columnar fleet enabled with " + fleet.size() + " vehicles");
+    }
+    
+    public boolean isColumnarFleetEnabled() {
+        return columnarFleetReady;
+    }
+    
+    /**
+     * Gets the columnar fleet if it can answer reads, i.e. it is enabled and back-filled.
+     */
+    private ColumnarFleet readableColumnarFleet() {
+        return columnarFleetReady ? columnarFleet : null;
+    }
+    
+    /**
+     * Gets fleet-wide vehicle statistics: counts by status and type and the average
+     * daily cost, manufacturing year and mileage, computed in one pass over the
+     * columnar fleet.
+     * 
+     * @return Map containing fleet statistics
+     * @throws IllegalStateException if the columnar fleet is not enabled
+     */
+    public Map<String, Object> getFleetStatistics() {
+        ColumnarFleet fleet = readableColumnarFleet();
+        if (fleet == null) {
+            throw new IllegalStateException("Columnar fleet is not enabled");
+        }
+        return fleet.getStatistics();
     }
     
     // ID generation methods
     private String generateReservationId() {
-        return "RES_" + System.currentTimeMillis() + "_" + 
-               UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        return idGenerator.generateId("RES");
     }
     
     private String generateBillId() {
-        return "BILL_" + System.currentTimeMillis() + "_" + 
-               UUID.randomUUID().toString().substring(0, 6).toUpperCase();
+        return idGenerator.generateId("BILL");
     }
     
     private String generatePaymentId() {
-        return "PAY_" + System.currentTimeMillis() + "_" + 
-               UUID.randomUUID().toString().substring(0, 6).toUpperCase();
+        return idGenerator.generateId("PAY");
+    }
+    
+    /**
+     * Replaces the ID generation strategy used for reservations, bills and payments.
+     * 
+     * @param idGenerator New ID generation strategy
+     */
+    public void setIdGenerator(IdGenerationStrategy idGenerator) {
+        if (idGenerator == null) {
+            throw new IllegalArgumentException("ID generator cannot be null");
+        }
+        this.idGenerator = idGenerator;
+        logger.info("ID generation strategy set to: " + idGenerator.getStrategyName());
+    }
+    
+    public IdGenerationStrategy getIdGenerator() {
+        return idGenerator;
+    }
+    
+    /**
+     * Replaces the pricing strategy for new reservations and bills. Existing
+     * reservations and bills keep their prices.
+     * 
+     * @param pricingStrategy New pricing strategy
+     */
+    public void setPricingStrategy(PricingStrategy pricingStrategy) {
+        if (pricingStrategy == null) {
+            throw new IllegalArgumentException("Pricing strategy cannot be null");
+        }
+        this.pricingStrategy = pricingStrategy;
+        logger.info("Pricing strategy set to: " + pricingStrategy.getStrategyName());
+    }
+    
+    public PricingStrategy getPricingStrategy() {
+        return pricingStrategy;
+    }
+    
+    /**
+     * Replaces the processor behind {@link #processPaymentAsync}, e.g. to run gateway
+     * calls on another executor or with other concurrency limits.
+     * 
+     * @param paymentProcessor New asynchronous payment processor
+     */
+    public void setPaymentProcessor(AsyncPaymentProcessor paymentProcessor) {
+        if (paymentProcessor == null) {
+            throw new IllegalArgumentException("Payment processor cannot be null");
+        }
+        this.paymentProcessor = paymentProcessor;
+    }
+    
+    public AsyncPaymentProcessor getPaymentProcessor() {
+        return paymentProcessor;
     }
     
     // Getters
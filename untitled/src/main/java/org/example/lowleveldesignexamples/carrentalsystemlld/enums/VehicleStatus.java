@@ -30,6 +30,14 @@ public enum VehicleStatus {
         return this == AVAILABLE;
     }
 
+    /**
+     * Vehicles that are rented out can still be booked for later dates;
+     * only maintenance and retirement take a vehicle out of service.
+     */
+    public boolean isInService() {
+        return this == AVAILABLE || this == RESERVED;
+    }
+
     @Override
     public String toString() {
         return displayName;
@@ -0,0 +1,117 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.model;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.ReservationStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Date-range availability calendar for a single vehicle.
+ * Holds the vehicle's booked reservations as half-open intervals [startDate, endDate).
+ *
+ * Booked intervals never overlap, so ordering them by start date is enough to act as an
+ * interval tree: the only bookings that can collide with a new range are the one starting
+ * at or before it and the one starting after it. Both are found in O(log n).
+ */
+public class AvailabilityCalendar {
+
+    // Start date -> reservation; intervals are disjoint by construction
+    private final TreeMap<LocalDate, Reservation> bookings;
+
+    public AvailabilityCalendar() {
+        this.bookings = new TreeMap<>();
+    }
+
+    /**
+     * Checks whether the vehicle is free for the whole date range.
+     *
+     * @param startDate First rental day (inclusive)
+     * @param endDate Return day (exclusive)
+     * @return true if no booking overlaps the range
+     */
+    public synchronized boolean isAvailable(LocalDate startDate, LocalDate endDate) {
+        return !overlapsBooking(startDate, effectiveEnd(startDate, endDate));
+    }
+
+    /**
+     * Books the reservation's date range if it does not overlap an existing booking.
+     * Check and insert happen under the calendar's own lock, so concurrent bookings for
+     * the same vehicle serialize only against each other.
+     *
+     * @param reservation Reservation to book
+     * @return true if the range was booked, false if it overlaps another booking
+     */
+    public synchronized boolean tryBook(Reservation reservation) {
+        LocalDate startDate = reservation.getStartDate();
+        if (overlapsBooking(startDate, effectiveEnd(startDate, reservation.getEndDate()))) {
+            return false;
+        }
+
+        bookings.put(startDate, reservation);
+        return true;
+    }
+
+    /**
+     * Frees the date range held by a reservation.
+     *
+     * @param reservation Reservation to release
+     * @return true if the reservation was booked in this calendar
+     */
+    public synchronized boolean release(Reservation reservation) {
+        return bookings.remove(reservation.getStartDate(), reservation);
+    }
+
+    /**
+     * Gets the bookings in start date order.
+     *
+     * @return List of booked reservations
+     */
+    public synchronized List<Reservation> getBookings() {
+        return new ArrayList<>(bookings.values());
+    }
+
+    /**
+     * Checks whether one of the bookings has been picked up and not yet returned.
+     *
+     * @return true if a booked reservation is active
+     */
+    public synchronized boolean hasActiveBooking() {
+        for (Reservation reservation : bookings.values()) {
+            if (reservation.getStatus() == ReservationStatus.ACTIVE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of booked reservations.
+     *
+     * @return Booking count
+     */
+    public synchronized int getBookingCount() {
+        return bookings.size();
+    }
+
+    private boolean overlapsBooking(LocalDate startDate, LocalDate endDate) {
+        // The latest booking starting on or before the range overlaps if it ends after our start
+        Map.Entry<LocalDate, Reservation> before = bookings.floorEntry(startDate);
+        if (before != null && effectiveEnd(before.getKey(), before.getValue().getEndDate()).isAfter(startDate)) {
+            return true;
+        }
+
+        // The earliest booking starting after our start overlaps if it starts before our end
+        LocalDate nextStart = bookings.higherKey(startDate);
+        return nextStart != null && nextStart.isBefore(endDate);
+    }
+
+    /**
+     * Same-day rentals are billed as one day, so they occupy [startDate, startDate + 1).
+     */
+    private static LocalDate effectiveEnd(LocalDate startDate, LocalDate endDate) {
+        return endDate.isAfter(startDate) ? endDate : startDate.plusDays(1);
+    }
+}
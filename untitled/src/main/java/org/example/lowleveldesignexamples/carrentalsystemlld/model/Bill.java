@@ -1,113 +1,179 @@
 package org.example.lowleveldesignexamples.carrentalsystemlld.model;
 
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Represents a bill for a vehicle reservation.
  * Contains detailed cost breakdown and billing information.
+ * 
+ * Amounts are held in whole cents so the breakdown always adds up exactly.
+ * The printable details are rendered only when asked for.
  */
 public class Bill {
+    public static final int DEFAULT_TAX_PERCENT = 10;
+    public static final long PROCESSING_FEE_CENTS = 5000;
+
     private String billId;
     private Reservation reservation;
     private LocalDateTime billDate;
-    private double baseCost;
-    private double taxAmount;
-    private double additionalFees;
-    private double discountAmount;
-    private double totalAmount;
-    private boolean isPaid;
-    private String billDetails;
+    private long baseCostCents;
+    private int taxPercent;
+    private long taxCents;
+    private long additionalFeesCents;
+    private long discountCents;
+    private long totalCents;
+    private final AtomicBoolean isPaid;
+    // Held by the one payment attempt allowed to charge the bill at a time
+    private final AtomicBoolean paymentInProgress = new AtomicBoolean(false);
+    private volatile BillObserver observer;
 
+    /**
+     * Creates a bill with the default tax rate and fees.
+     */
     public Bill(String billId, Reservation reservation) {
+        this(billId, reservation, DEFAULT_TAX_PERCENT,
+                defaultAdditionalFeesCents(reservation.getVehicle().getVehicleType()));
+    }
+
+    /**
+     * Creates a bill with the given tax rate and fees, e.g. as set by a pricing strategy.
+     *
+     * @param taxPercent Tax as a percentage of the base cost
+     * @param additionalFeesCents Processing, insurance and other fees, in cents
+     */
+    public Bill(String billId, Reservation reservation, int taxPercent, long additionalFeesCents) {
+        if (taxPercent < 0 || additionalFeesCents < 0) {
+            throw new IllegalArgumentException("Tax and fees cannot be negative");
+        }
         this.billId = billId;
         this.reservation = reservation;
         this.billDate = LocalDateTime.now();
-        this.baseCost = reservation.getTotalCost();
-        this.isPaid = false;
+        this.baseCostCents = Money.toCents(reservation.getTotalCost());
+        this.taxPercent = taxPercent;
+        this.additionalFeesCents = additionalFeesCents;
+        this.isPaid = new AtomicBoolean(false);
         calculateBillAmounts();
-        generateBillDetails();
     }
 
     /**
-     * Calculates tax, fees, and total amount for the bill.
+     * Gets the default fees for a vehicle type: a fixed processing fee plus insurance.
      */
-    private void calculateBillAmounts() {
-        // Calculate tax (10% of base cost)
-        this.taxAmount = baseCost * 0.10;
-        
-        // Additional fees (processing fee, insurance, etc.)
-        this.additionalFees = 50.0; // Fixed processing fee
-        
-        // Add insurance fee based on vehicle type
-        switch (reservation.getVehicle().getVehicleType()) {
+    public static long defaultAdditionalFeesCents(VehicleType vehicleType) {
+        switch (vehicleType) {
             case CAR:
-                additionalFees += 20.0;
-                break;
+                return PROCESSING_FEE_CENTS + 2000;
             case MOTORCYCLE:
-                additionalFees += 15.0;
-                break;
+                return PROCESSING_FEE_CENTS + 1500;
             case TRUCK:
-                additionalFees += 40.0;
-                break;
+                return PROCESSING_FEE_CENTS + 4000;
             case VAN:
-                additionalFees += 30.0;
-                break;
+                return PROCESSING_FEE_CENTS + 3000;
+            default:
+                return PROCESSING_FEE_CENTS;
         }
-        
-        // Calculate total
-        this.totalAmount = baseCost + taxAmount + additionalFees - discountAmount;
+    }
+
+    /**
+     * Calculates tax and total amount for the bill.
+     */
+    private void calculateBillAmounts() {
+        this.taxCents = Money.percentOf(baseCostCents, taxPercent);
+        this.totalCents = baseCostCents + taxCents + additionalFeesCents - discountCents;
     }
 
     /**
      * Applies a discount to the bill.
      */
     public void applyDiscount(double discountAmount) {
-        this.discountAmount = Math.max(0, discountAmount);
-        this.totalAmount = baseCost + taxAmount + additionalFees - this.discountAmount;
-        generateBillDetails();
+        this.discountCents = Math.max(0, Money.toCents(discountAmount));
+        this.totalCents = baseCostCents + taxCents + additionalFeesCents - discountCents;
     }
 
     /**
-     * Generates detailed bill description.
+     * Writes the detailed bill description to the given output.
      */
-    private void generateBillDetails() {
-        StringBuilder details = new StringBuilder();
-        details.append("BILL DETAILS\n");
-        details.append("============\n");
-        details.append("Reservation ID: ").append(reservation.getReservationId()).append("\n");
-        details.append("Vehicle: ").append(reservation.getVehicle().getBrand())
-               .append(" ").append(reservation.getVehicle().getModel()).append("\n");
-        details.append("Rental Period: ").append(reservation.getStartDate())
-               .append(" to ").append(reservation.getEndDate()).append("\n");
-        details.append("Rental Days: ").append(reservation.getRentalDays()).append("\n");
-        details.append("\nCOST BREAKDOWN\n");
-        details.append("--------------\n");
-        details.append(String.format("Base Cost: $%.2f\n", baseCost));
-        details.append(String.format("Tax (10%%): $%.2f\n", taxAmount));
-        details.append(String.format("Additional Fees: $%.2f\n", additionalFees));
-        if (discountAmount > 0) {
-            details.append(String.format("Discount: -$%.2f\n", discountAmount));
+    public void appendBillDetails(Appendable out) throws IOException {
+        out.append("BILL DETAILS\n");
+        out.append("============\n");
+        out.append("Reservation ID: ").append(reservation.getReservationId()).append('\n');
+        out.append("Vehicle: ").append(reservation.getVehicle().getBrand())
+           .append(' ').append(reservation.getVehicle().getModel()).append('\n');
+        out.append("Rental Period: ").append(String.valueOf(reservation.getStartDate()))
+           .append(" to ").append(String.valueOf(reservation.getEndDate())).append('\n');
+        out.append("Rental Days: ").append(Long.toString(reservation.getRentalDays())).append('\n');
+        out.append("\nCOST BREAKDOWN\n");
+        out.append("--------------\n");
+        appendLine(out, "Base Cost: ", baseCostCents);
+        out.append("Tax (").append(Integer.toString(taxPercent)).append("%): ");
+        Money.appendAmount(out, taxCents);
+        out.append('\n');
+        appendLine(out, "Additional Fees: ", additionalFeesCents);
+        if (discountCents > 0) {
+            appendLine(out, "Discount: -", discountCents);
         }
-        details.append("================\n");
-        details.append(String.format("TOTAL AMOUNT: $%.2f\n", totalAmount));
-        
-        this.billDetails = details.toString();
+        out.append("================\n");
+        appendLine(out, "TOTAL AMOUNT: ", totalCents);
+    }
+
+    private static void appendLine(Appendable out, String label, long cents) throws IOException {
+        out.append(label);
+        Money.appendAmount(out, cents);
+        out.append('\n');
     }
 
     /**
      * Marks the bill as paid.
      */
     public void markAsPaid() {
-        this.isPaid = true;
+        if (isPaid.compareAndSet(false, true)) {
+            notifyPaidStatusChanged(true);
+        }
+    }
+
+    /**
+     * Claims the bill for a payment attempt, so concurrent attempts cannot charge it twice.
+     * The attempt must call {@link #finishPayment()} once it is over, successful or not.
+     * 
+     * @return true if claimed, false if the bill is paid or another attempt holds it
+     */
+    public boolean tryStartPayment() {
+        if (isPaid.get() || !paymentInProgress.compareAndSet(false, true)) {
+            return false;
+        }
+        // The previous attempt may have paid the bill just before giving up its claim
+        if (isPaid.get()) {
+            paymentInProgress.set(false);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Ends the payment attempt holding the bill; a successful one has marked it paid.
+     */
+    public void finishPayment() {
+        paymentInProgress.set(false);
+    }
+
+    private void notifyPaidStatusChanged(boolean paid) {
+        BillObserver currentObserver = observer;
+        if (currentObserver != null) {
+            currentObserver.onPaidStatusChanged(this, paid);
+        }
     }
 
     /**
      * Gets the bill summary for display.
      */
     public String getBillSummary() {
-        return String.format("Bill %s - Total: $%.2f - Status: %s", 
-                           billId, totalAmount, isPaid ? "PAID" : "UNPAID");
+        return "Bill " + billId + " - Total: " + Money.format(totalCents)
+                + " - Status: " + (isPaid.get() ? "PAID" : "UNPAID");
     }
 
     // Getters and Setters
@@ -125,9 +191,8 @@ public class Bill {
 
     public void setReservation(Reservation reservation) {
         this.reservation = reservation;
-        this.baseCost = reservation.getTotalCost();
+        this.baseCostCents = Money.toCents(reservation.getTotalCost());
         calculateBillAmounts();
-        generateBillDetails();
     }
 
     public LocalDateTime getBillDate() {
@@ -139,35 +204,80 @@ public class Bill {
     }
 
     public double getBaseCost() {
-        return baseCost;
+        return Money.toAmount(baseCostCents);
+    }
+
+    public int getTaxPercent() {
+        return taxPercent;
     }
 
     public double getTaxAmount() {
-        return taxAmount;
+        return Money.toAmount(taxCents);
     }
 
     public double getAdditionalFees() {
-        return additionalFees;
+        return Money.toAmount(additionalFeesCents);
     }
 
     public double getDiscountAmount() {
-        return discountAmount;
+        return Money.toAmount(discountCents);
     }
 
     public double getTotalAmount() {
-        return totalAmount;
+        return Money.toAmount(totalCents);
+    }
+
+    public long getBaseCostCents() {
+        return baseCostCents;
+    }
+
+    public long getTaxCents() {
+        return taxCents;
+    }
+
+    public long getAdditionalFeesCents() {
+        return additionalFeesCents;
+    }
+
+    public long getDiscountCents() {
+        return discountCents;
+    }
+
+    public long getTotalCents() {
+        return totalCents;
     }
 
     public boolean isPaid() {
-        return isPaid;
+        return isPaid.get();
     }
 
     public void setPaid(boolean paid) {
-        isPaid = paid;
+        if (isPaid.getAndSet(paid) != paid) {
+            notifyPaidStatusChanged(paid);
+        }
+    }
+
+    public BillObserver getObserver() {
+        return observer;
+    }
+
+    public void setObserver(BillObserver observer) {
+        this.observer = observer;
     }
 
+    /**
+     * Renders the detailed bill description. Not cached, so it always reflects
+     * the current amounts.
+     */
     public String getBillDetails() {
-        return billDetails;
+        StringBuilder details = new StringBuilder(384);
+        try {
+            appendBillDetails(details);
+        } catch (IOException e) {
+            // StringBuilder does not throw
+            throw new UncheckedIOException(e);
+        }
+        return details.toString();
     }
 
     @Override
@@ -187,8 +297,8 @@ public class Bill {
     public String toString() {
         return "Bill{" +
                 "billId='" + billId + '\'' +
-                ", totalAmount=" + totalAmount +
-                ", isPaid=" + isPaid +
+                ", totalAmount=" + Money.toAmount(totalCents) +
+                ", isPaid=" + isPaid.get() +
                 '}';
     }
 }
@@ -0,0 +1,18 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.model;
+
+/**
+ * Observer interface for bill payment state changes.
+ *
+ * Design Pattern: Observer Pattern
+ * Purpose: Lets counters follow paid/unpaid transitions without rescanning bills.
+ */
+public interface BillObserver {
+
+    /**
+     * Called once whenever the bill moves between unpaid and paid.
+     *
+     * @param bill Changed bill
+     * @param paid Whether the bill is now paid
+     */
+    void onPaidStatusChanged(Bill bill, boolean paid);
+}
@@ -0,0 +1,63 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Helpers for amounts held as whole cents.
+ * Cent amounts add and subtract exactly, unlike dollar amounts in a double.
+ */
+public final class Money {
+
+    private Money() {
+    }
+
+    /**
+     * Converts a dollar amount to cents, rounding half away from zero.
+     */
+    public static long toCents(double amount) {
+        return amount < 0 ? -Math.round(-amount * 100) : Math.round(amount * 100);
+    }
+
+    /**
+     * Converts cents to a dollar amount.
+     */
+    public static double toAmount(long cents) {
+        return cents / 100.0;
+    }
+
+    /**
+     * Takes a percentage of an amount, rounding half up to the nearest cent.
+     */
+    public static long percentOf(long cents, int percent) {
+        long scaled = cents * percent;
+        return scaled < 0 ? -((-scaled + 50) / 100) : (scaled + 50) / 100;
+    }
+
+    /**
+     * Appends an amount as "$1234.50", without going through a formatter.
+     */
+    public static void appendAmount(Appendable out, long cents) throws IOException {
+        if (cents < 0) {
+            out.append('-');
+            cents = -cents;
+        }
+        long fraction = cents % 100;
+        out.append('$').append(Long.toString(cents / 100)).append('.')
+                .append((char) ('0' + fraction / 10)).append((char) ('0' + fraction % 10));
+    }
+
+    /**
+     * Formats an amount as "$1234.50".
+     */
+    public static String format(long cents) {
+        StringBuilder text = new StringBuilder(16);
+        try {
+            appendAmount(text, cents);
+        } catch (IOException e) {
+            // StringBuilder does not throw
+            throw new UncheckedIOException(e);
+        }
+        return text.toString();
+    }
+}
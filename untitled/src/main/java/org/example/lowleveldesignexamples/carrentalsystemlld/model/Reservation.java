@@ -5,7 +5,10 @@ import org.example.lowleveldesignexamples.carrentalsystemlld.enums.ReservationSt
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Represents a vehicle reservation in the car rental system.
@@ -20,9 +23,12 @@ public class Reservation {
     private LocalDate endDate;
     private Location pickupLocation;
     private Location dropLocation;
-    private ReservationStatus status;
+    // Atomic so concurrent activate/cancel calls cannot both win
+    private final AtomicReference<ReservationStatus> status;
     private double totalCost;
     private String notes;
+    // Statistics and the owning store's index both follow status transitions
+    private final List<ReservationObserver> observers = new CopyOnWriteArrayList<>();
 
     public Reservation(String reservationId, User user, Vehicle vehicle,
                       LocalDate startDate, LocalDate endDate,
@@ -35,7 +41,7 @@ public class Reservation {
         this.endDate = endDate;
         this.pickupLocation = pickupLocation;
         this.dropLocation = dropLocation;
-        this.status = ReservationStatus.SCHEDULED;
+        this.status = new AtomicReference<>(ReservationStatus.SCHEDULED);
         this.totalCost = calculateTotalCost();
     }
 
@@ -59,28 +65,48 @@ public class Reservation {
 
     /**
      * Activates the reservation (vehicle picked up).
+     *
+     * @return true if the reservation was in the required state and has moved
      */
-    public void activateReservation() {
-        if (status == ReservationStatus.SCHEDULED) {
-            this.status = ReservationStatus.ACTIVE;
-        }
+    public boolean activateReservation() {
+        return transition(ReservationStatus.SCHEDULED, ReservationStatus.ACTIVE);
     }
 
     /**
      * Completes the reservation (vehicle returned).
+     *
+     * @return true if the reservation was in the required state and has moved
      */
-    public void completeReservation() {
-        if (status == ReservationStatus.ACTIVE) {
-            this.status = ReservationStatus.COMPLETED;
-        }
+    public boolean completeReservation() {
+        return transition(ReservationStatus.ACTIVE, ReservationStatus.COMPLETED);
     }
 
     /**
      * Cancels the reservation.
+     *
+     * @return true if the reservation was in the required state and has moved
+     */
+    public boolean cancelReservation() {
+        return transition(ReservationStatus.SCHEDULED, ReservationStatus.CANCELLED);
+    }
+
+    /**
+     * Atomically moves the reservation between two states and notifies the observers.
+     *
+     * @return true if the reservation was in the expected state and has moved
      */
-    public void cancelReservation() {
-        if (status == ReservationStatus.SCHEDULED) {
-            this.status = ReservationStatus.CANCELLED;
+    private boolean transition(ReservationStatus expectedStatus, ReservationStatus newStatus) {
+        if (!status.compareAndSet(expectedStatus, newStatus)) {
+            return false;
+        }
+
+        notifyStatusChanged(expectedStatus, newStatus);
+        return true;
+    }
+
+    private void notifyStatusChanged(ReservationStatus oldStatus, ReservationStatus newStatus) {
+        for (ReservationObserver observer : observers) {
+            observer.onStatusChanged(this, oldStatus, newStatus);
         }
     }
 
@@ -160,11 +186,34 @@ public class Reservation {
     }
 
     public ReservationStatus getStatus() {
-        return status;
+        return status.get();
     }
 
     public void setStatus(ReservationStatus status) {
-        this.status = status;
+        ReservationStatus oldStatus = this.status.getAndSet(status);
+        if (oldStatus != status) {
+            notifyStatusChanged(oldStatus, status);
+        }
+    }
+
+    /**
+     * Registers an observer for status transitions.
+     *
+     * @param observer Observer to add
+     */
+    public void addObserver(ReservationObserver observer) {
+        if (observer != null && !observers.contains(observer)) {
+            observers.add(observer);
+        }
+    }
+
+    /**
+     * Unregisters a status observer.
+     *
+     * @param observer Observer to remove
+     */
+    public void removeObserver(ReservationObserver observer) {
+        observers.remove(observer);
     }
 
     public double getTotalCost() {
@@ -204,7 +253,7 @@ public class Reservation {
                 ", vehicle=" + vehicle.getModel() +
                 ", startDate=" + startDate +
                 ", endDate=" + endDate +
-                ", status=" + status +
+                ", status=" + status.get() +
                 ", totalCost=" + totalCost +
                 '}';
     }
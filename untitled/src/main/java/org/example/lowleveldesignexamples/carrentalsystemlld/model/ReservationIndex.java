@@ -0,0 +1,155 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.model;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.ReservationStatus;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrent indexes over a store's reservations: by reservation ID, by user ID and
+ * by status, with an atomic counter per status so lookups and counts cost O(1).
+ * Every index keeps reservations in the order they were added, keyed by a sequence
+ * number taken on insertion.
+ *
+ * Subscribes to every indexed reservation and re-files it from its current status on
+ * each transition, the same way InventoryIndex re-indexes vehicles.
+ */
+class ReservationIndex implements ReservationObserver {
+
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final Map<String, Long> sequencesById;
+    private final ConcurrentSkipListMap<Long, Reservation> reservationsInOrder;
+    private final Map<String, ConcurrentSkipListMap<Long, Reservation>> reservationsByUser;
+    private final Map<ReservationStatus, ConcurrentSkipListMap<Long, Reservation>> reservationsByStatus;
+    private final Map<ReservationStatus, AtomicInteger> statusCounts;
+
+    ReservationIndex() {
+        this.sequencesById = new ConcurrentHashMap<>();
+        this.reservationsInOrder = new ConcurrentSkipListMap<>();
+        this.reservationsByUser = new ConcurrentHashMap<>();
+        this.reservationsByStatus = new EnumMap<>(ReservationStatus.class);
+        this.statusCounts = new EnumMap<>(ReservationStatus.class);
+
+        // Fully populated up front and never structurally modified, so concurrent reads are safe
+        for (ReservationStatus status : ReservationStatus.values()) {
+            reservationsByStatus.put(status, new ConcurrentSkipListMap<>());
+            statusCounts.put(status, new AtomicInteger());
+        }
+    }
+
+    /**
+     * Indexes a reservation.
+     *
+     * @return false if a reservation with the same ID is already indexed
+     */
+    boolean add(Reservation reservation) {
+        Long sequence = nextSequence.incrementAndGet();
+        if (sequencesById.putIfAbsent(reservation.getReservationId(), sequence) != null) {
+            return false;
+        }
+        reservationsInOrder.put(sequence, reservation);
+        reservationsByUser.computeIfAbsent(userId(reservation), id -> new ConcurrentSkipListMap<>())
+                .put(sequence, reservation);
+
+        // Subscribe before filing, so a transition in between is not lost
+        reservation.addObserver(this);
+        refile(reservation, sequence);
+        return true;
+    }
+
+    /**
+     * Removes a reservation from every index.
+     *
+     * @return The removed reservation, or null if it was not indexed
+     */
+    Reservation remove(String reservationId) {
+        Long sequence = sequencesById.get(reservationId);
+        // Cleared from the ordered index first, so a concurrent add of the same ID only succeeds after
+        Reservation reservation = sequence != null ? reservationsInOrder.remove(sequence) : null;
+        if (reservation == null) {
+            return null;
+        }
+        reservation.removeObserver(this);
+
+        Map<Long, Reservation> userReservations = reservationsByUser.get(userId(reservation));
+        if (userReservations != null) {
+            userReservations.remove(sequence);
+        }
+        refile(reservation, sequence);
+        sequencesById.remove(reservationId, sequence);
+        return reservation;
+    }
+
+    @Override
+    public void onStatusChanged(Reservation reservation, ReservationStatus oldStatus, ReservationStatus newStatus) {
+        Long sequence = sequencesById.get(reservation.getReservationId());
+        if (sequence != null) {
+            refile(reservation, sequence);
+        }
+    }
+
+    Reservation getById(String reservationId) {
+        Long sequence = sequencesById.get(reservationId);
+        return sequence != null ? reservationsInOrder.get(sequence) : null;
+    }
+
+    /**
+     * Gets every reservation, in the order they were added.
+     */
+    Collection<Reservation> getAll() {
+        return Collections.unmodifiableCollection(reservationsInOrder.values());
+    }
+
+    /**
+     * Gets a user's reservations, in the order they were added.
+     */
+    Collection<Reservation> getByUser(String userId) {
+        Map<Long, Reservation> userReservations = reservationsByUser.get(userId);
+        return userReservations != null ? Collections.unmodifiableCollection(userReservations.values())
+                : Collections.emptyList();
+    }
+
+    /**
+     * Gets the reservations in a status, in the order they were added.
+     */
+    Collection<Reservation> getByStatus(ReservationStatus status) {
+        return Collections.unmodifiableCollection(reservationsByStatus.get(status).values());
+    }
+
+    int getStatusCount(ReservationStatus status) {
+        return statusCounts.get(status).get();
+    }
+
+    int size() {
+        return reservationsInOrder.size();
+    }
+
+    private void refile(Reservation reservation, Long sequence) {
+        // Per-reservation lock: the last re-file to run always reads the latest status
+        synchronized (reservation) {
+            boolean present = reservationsInOrder.get(sequence) == reservation;
+            ReservationStatus currentStatus = present ? reservation.getStatus() : null;
+
+            for (ReservationStatus status : ReservationStatus.values()) {
+                Map<Long, Reservation> filed = reservationsByStatus.get(status);
+                if (status == currentStatus) {
+                    if (filed.putIfAbsent(sequence, reservation) == null) {
+                        statusCounts.get(status).incrementAndGet();
+                    }
+                } else if (filed.remove(sequence, reservation)) {
+                    statusCounts.get(status).decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private static String userId(Reservation reservation) {
+        return reservation.getUser().getUserId();
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.model;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.ReservationStatus;
+
+/**
+ * Observer interface for reservation lifecycle transitions.
+ *
+ * Design Pattern: Observer Pattern
+ * Purpose: Lets counters and indexes follow reservation state without rescanning
+ * reservation history.
+ */
+public interface ReservationObserver {
+
+    /**
+     * Called once for every status transition of the reservation.
+     *
+     * @param reservation Changed reservation
+     * @param oldStatus Previous status
+     * @param newStatus Current status
+     */
+    void onStatusChanged(Reservation reservation, ReservationStatus oldStatus, ReservationStatus newStatus);
+}
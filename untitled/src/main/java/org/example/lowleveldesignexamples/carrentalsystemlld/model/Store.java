@@ -1,11 +1,11 @@
 package org.example.lowleveldesignexamples.carrentalsystemlld.model;
 
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.ReservationStatus;
 import org.example.lowleveldesignexamples.carrentalsystemlld.repository.VehicleInventoryManagement;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * Represents a rental store/location in the car rental system.
@@ -16,7 +16,8 @@ public class Store {
     private String storeName;
     private Location location;
     private VehicleInventoryManagement inventoryManagement;
-    private List<Reservation> reservations;
+    // Reservations indexed by ID, user and status
+    private final ReservationIndex reservations;
     private String contactPhone;
     private String managerName;
     private boolean isOperational;
@@ -29,19 +30,20 @@ public class Store {
         this.contactPhone = contactPhone;
         this.managerName = managerName;
         this.inventoryManagement = new VehicleInventoryManagement(storeId);
-        this.reservations = new ArrayList<>();
+        this.reservations = new ReservationIndex();
         this.isOperational = true;
     }
 
     /**
      * Adds a reservation to this store.
+     * Thread-safe; the store then follows the reservation's status transitions.
+     * Reservations are listed in the order they were added.
      * 
      * @param reservation Reservation to add
+     * @return true if added, false if it is null or a reservation with its ID is already in the store
      */
-    public void addReservation(Reservation reservation) {
-        if (reservation != null) {
-            reservations.add(reservation);
-        }
+    public boolean addReservation(Reservation reservation) {
+        return reservation != null && reservations.add(reservation);
     }
 
     /**
@@ -51,44 +53,59 @@ public class Store {
      * @return true if reservation was removed, false if not found
      */
     public boolean removeReservation(String reservationId) {
-        return reservations.removeIf(reservation -> 
-                reservation.getReservationId().equals(reservationId));
+        return reservations.remove(reservationId) != null;
     }
 
     /**
-     * Gets a reservation by ID.
+     * Gets a reservation by ID in O(1).
      * 
      * @param reservationId ID of the reservation to find
      * @return Reservation if found, null otherwise
      */
     public Reservation getReservationById(String reservationId) {
-        return reservations.stream()
-                .filter(reservation -> reservation.getReservationId().equals(reservationId))
-                .findFirst()
-                .orElse(null);
+        return reservations.getById(reservationId);
     }
 
     /**
      * Gets all active reservations for this store.
+     * Served from the status index in O(result).
      * 
      * @return List of active reservations
      */
     public List<Reservation> getActiveReservations() {
-        return reservations.stream()
-                .filter(reservation -> reservation.getStatus().isActive())
-                .collect(Collectors.toList());
+        return getReservationsByStatus(ReservationStatus.ACTIVE);
+    }
+
+    /**
+     * Gets the reservations in a given status.
+     * Served from the status index in O(result).
+     * 
+     * @param status Reservation status
+     * @return List of reservations in the status, in the order they were added
+     */
+    public List<Reservation> getReservationsByStatus(ReservationStatus status) {
+        return new ArrayList<>(reservations.getByStatus(status));
+    }
+
+    /**
+     * Gets the number of reservations in a given status in O(1).
+     * 
+     * @param status Reservation status
+     * @return Reservation count for the status
+     */
+    public int getReservationCount(ReservationStatus status) {
+        return reservations.getStatusCount(status);
     }
 
     /**
      * Gets all reservations for a specific user.
+     * Served from the user index in O(result).
      * 
      * @param userId ID of the user
-     * @return List of reservations for the user
+     * @return List of reservations for the user, in the order they were added
      */
     public List<Reservation> getReservationsForUser(String userId) {
-        return reservations.stream()
-                .filter(reservation -> reservation.getUser().getUserId().equals(userId))
-                .collect(Collectors.toList());
+        return new ArrayList<>(reservations.getByUser(userId));
     }
 
     /**
@@ -105,7 +122,7 @@ public class Store {
         summary.append("Status: ").append(isOperational ? "Operational" : "Closed").append("\n");
         summary.append("Total Vehicles: ").append(inventoryManagement.getTotalVehicleCount()).append("\n");
         summary.append("Available Vehicles: ").append(inventoryManagement.getAvailableVehicleCount()).append("\n");
-        summary.append("Active Reservations: ").append(getActiveReservations().size()).append("\n");
+        summary.append("Active Reservations: ").append(getReservationCount(ReservationStatus.ACTIVE)).append("\n");
         
         return summary.toString();
     }
@@ -154,7 +171,7 @@ public class Store {
     }
 
     public List<Reservation> getReservations() {
-        return new ArrayList<>(reservations);
+        return new ArrayList<>(reservations.getAll());
     }
 
     public String getContactPhone() {
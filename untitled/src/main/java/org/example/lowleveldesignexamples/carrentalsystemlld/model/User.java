@@ -3,6 +3,7 @@ package org.example.lowleveldesignexamples.carrentalsystemlld.model;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Represents a user in the car rental system.
@@ -25,7 +26,7 @@ public class User {
         this.phone = phone;
         this.drivingLicense = drivingLicense;
         this.address = address;
-        this.rentalHistory = new ArrayList<>();
+        this.rentalHistory = new CopyOnWriteArrayList<>();
     }
 
     // Getters and Setters
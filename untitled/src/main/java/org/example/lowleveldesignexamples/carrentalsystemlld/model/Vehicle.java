@@ -1,6 +1,8 @@
 package org.example.lowleveldesignexamples.carrentalsystemlld.model;
 
+import java.time.LocalDate;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleStatus;
 import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
@@ -13,14 +15,20 @@ public abstract class Vehicle {
     protected String vehicleId;
     protected String vehicleNumber;
     protected VehicleType vehicleType;
-    protected VehicleStatus status;
-    protected double dailyRentalCost;
-    protected String model;
-    protected String brand;
+    // Atomic so reservation paths can claim a vehicle with compare-and-set instead of a lock
+    private final AtomicReference<VehicleStatus> status;
+    // Volatile so index re-keying on another thread reads the latest price
+    protected volatile double dailyRentalCost;
+    // Volatile for the same reason: the text indexes re-read them on change
+    protected volatile String model;
+    protected volatile String brand;
     protected int manufacturingYear;
     protected long kmDriven;
     protected int seatingCapacity;
     protected String fuelType;
+    private final AvailabilityCalendar availabilityCalendar;
+    // Owning inventory, notified so it can maintain its secondary indexes
+    private volatile VehicleObserver observer;
 
     public Vehicle(String vehicleId, String vehicleNumber, VehicleType vehicleType,
                    double dailyRentalCost, String model, String brand, 
@@ -28,7 +36,7 @@ public abstract class Vehicle {
         this.vehicleId = vehicleId;
         this.vehicleNumber = vehicleNumber;
         this.vehicleType = vehicleType;
-        this.status = VehicleStatus.AVAILABLE;
+        this.status = new AtomicReference<>(VehicleStatus.AVAILABLE);
         this.dailyRentalCost = dailyRentalCost;
         this.model = model;
         this.brand = brand;
@@ -36,6 +44,7 @@ public abstract class Vehicle {
         this.seatingCapacity = seatingCapacity;
         this.fuelType = fuelType;
         this.kmDriven = 0;
+        this.availabilityCalendar = new AvailabilityCalendar();
     }
 
     /**
@@ -71,15 +80,50 @@ public abstract class Vehicle {
     }
 
     public void setVehicleType(VehicleType vehicleType) {
+        VehicleType oldType = this.vehicleType;
         this.vehicleType = vehicleType;
+        
+        VehicleObserver currentObserver = observer;
+        if (currentObserver != null && oldType != vehicleType) {
+            currentObserver.onTypeChanged(this, oldType, vehicleType);
+        }
     }
 
     public VehicleStatus getStatus() {
-        return status;
+        return status.get();
     }
 
     public void setStatus(VehicleStatus status) {
-        this.status = status;
+        VehicleStatus oldStatus = this.status.getAndSet(status);
+        if (oldStatus != status) {
+            notifyStatusChanged(oldStatus, status);
+        }
+    }
+
+    /**
+     * Atomically moves the vehicle to a new status if it is currently in the expected one.
+     * Only one of several concurrent callers with the same expected status can succeed.
+     *
+     * @param expectedStatus Status the vehicle must currently have
+     * @param newStatus Status to move to
+     * @return true if the transition happened, false if the current status differed
+     */
+    public boolean compareAndSetStatus(VehicleStatus expectedStatus, VehicleStatus newStatus) {
+        if (!status.compareAndSet(expectedStatus, newStatus)) {
+            return false;
+        }
+        
+        if (expectedStatus != newStatus) {
+            notifyStatusChanged(expectedStatus, newStatus);
+        }
+        return true;
+    }
+
+    private void notifyStatusChanged(VehicleStatus oldStatus, VehicleStatus newStatus) {
+        VehicleObserver currentObserver = observer;
+        if (currentObserver != null) {
+            currentObserver.onStatusChanged(this, oldStatus, newStatus);
+        }
     }
 
     public double getDailyRentalCost() {
@@ -87,7 +131,13 @@ public abstract class Vehicle {
     }
 
     public void setDailyRentalCost(double dailyRentalCost) {
+        double oldDailyRentalCost = this.dailyRentalCost;
         this.dailyRentalCost = dailyRentalCost;
+
+        VehicleObserver currentObserver = observer;
+        if (currentObserver != null && Double.compare(oldDailyRentalCost, dailyRentalCost) != 0) {
+            currentObserver.onPriceChanged(this, oldDailyRentalCost, dailyRentalCost);
+        }
     }
 
     public String getModel() {
@@ -95,7 +145,13 @@ public abstract class Vehicle {
     }
 
     public void setModel(String model) {
+        String oldModel = this.model;
         this.model = model;
+
+        VehicleObserver currentObserver = observer;
+        if (currentObserver != null && !Objects.equals(oldModel, model)) {
+            currentObserver.onModelChanged(this, oldModel, model);
+        }
     }
 
     public String getBrand() {
@@ -103,7 +159,13 @@ public abstract class Vehicle {
     }
 
     public void setBrand(String brand) {
+        String oldBrand = this.brand;
         this.brand = brand;
+
+        VehicleObserver currentObserver = observer;
+        if (currentObserver != null && !Objects.equals(oldBrand, brand)) {
+            currentObserver.onBrandChanged(this, oldBrand, brand);
+        }
     }
 
     public int getManufacturingYear() {
@@ -111,7 +173,13 @@ public abstract class Vehicle {
     }
 
     public void setManufacturingYear(int manufacturingYear) {
+        int oldManufacturingYear = this.manufacturingYear;
         this.manufacturingYear = manufacturingYear;
+
+        VehicleObserver currentObserver = observer;
+        if (currentObserver != null && oldManufacturingYear != manufacturingYear) {
+            currentObserver.onUsageChanged(this);
+        }
     }
 
     public long getKmDriven() {
@@ -119,7 +187,13 @@ public abstract class Vehicle {
     }
 
     public void setKmDriven(long kmDriven) {
+        long oldKmDriven = this.kmDriven;
         this.kmDriven = kmDriven;
+
+        VehicleObserver currentObserver = observer;
+        if (currentObserver != null && oldKmDriven != kmDriven) {
+            currentObserver.onUsageChanged(this);
+        }
     }
 
     public int getSeatingCapacity() {
@@ -127,7 +201,25 @@ public abstract class Vehicle {
     }
 
     public void setSeatingCapacity(int seatingCapacity) {
+        int oldSeatingCapacity = this.seatingCapacity;
         this.seatingCapacity = seatingCapacity;
+
+        VehicleObserver currentObserver = observer;
+        if (currentObserver != null && oldSeatingCapacity != seatingCapacity) {
+            currentObserver.onSeatingCapacityChanged(this, oldSeatingCapacity, seatingCapacity);
+        }
+    }
+
+    public AvailabilityCalendar getAvailabilityCalendar() {
+        return availabilityCalendar;
+    }
+
+    public VehicleObserver getObserver() {
+        return observer;
+    }
+
+    public void setObserver(VehicleObserver observer) {
+        this.observer = observer;
     }
 
     public String getFuelType() {
@@ -142,7 +234,18 @@ public abstract class Vehicle {
      * Checks if vehicle is available for rental.
      */
     public boolean isAvailableForRental() {
-        return status.isAvailableForRental();
+        return status.get().isAvailableForRental();
+    }
+
+    /**
+     * Checks if vehicle can be rented for a date range: it must be in service and
+     * have no booking overlapping the range.
+     *
+     * @param startDate First rental day (inclusive)
+     * @param endDate Return day (exclusive)
+     */
+    public boolean isAvailableForRental(LocalDate startDate, LocalDate endDate) {
+        return status.get().isInService() && availabilityCalendar.isAvailable(startDate, endDate);
     }
 
     @Override
@@ -161,6 +264,6 @@ public abstract class Vehicle {
     @Override
     public String toString() {
         return String.format("%s{vehicleId='%s', vehicleNumber='%s', model='%s', brand='%s', status=%s}", 
-                           getClass().getSimpleName(), vehicleId, vehicleNumber, model, brand, status);
+                           getClass().getSimpleName(), vehicleId, vehicleNumber, model, brand, status.get());
     }
 }
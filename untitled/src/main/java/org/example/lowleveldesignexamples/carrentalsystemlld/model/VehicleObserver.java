@@ -0,0 +1,81 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.model;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleStatus;
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
+
+/**
+ * Observer interface for changes to indexed vehicle attributes.
+ *
+ * Design Pattern: Observer Pattern
+ * Purpose: Lets the owning inventory keep its secondary indexes up to date when
+ * a vehicle is changed directly through its setters.
+ */
+public interface VehicleObserver {
+
+    /**
+     * Called after the vehicle's status has changed.
+     *
+     * @param vehicle Changed vehicle
+     * @param oldStatus Previous status
+     * @param newStatus Current status
+     */
+    void onStatusChanged(Vehicle vehicle, VehicleStatus oldStatus, VehicleStatus newStatus);
+
+    /**
+     * Called after the vehicle's type has changed.
+     *
+     * @param vehicle Changed vehicle
+     * @param oldType Previous type
+     * @param newType Current type
+     */
+    default void onTypeChanged(Vehicle vehicle, VehicleType oldType, VehicleType newType) {
+    }
+
+    /**
+     * Called after the vehicle's seating capacity has changed.
+     *
+     * @param vehicle Changed vehicle
+     * @param oldSeatingCapacity Previous seating capacity
+     * @param newSeatingCapacity Current seating capacity
+     */
+    default void onSeatingCapacityChanged(Vehicle vehicle, int oldSeatingCapacity, int newSeatingCapacity) {
+    }
+
+    /**
+     * Called after the vehicle's daily rental cost has changed.
+     *
+     * @param vehicle Changed vehicle
+     * @param oldPrice Previous daily rental cost
+     * @param newPrice Current daily rental cost
+     */
+    default void onPriceChanged(Vehicle vehicle, double oldPrice, double newPrice) {
+    }
+
+    /**
+     * Called after the vehicle's model name has changed.
+     *
+     * @param vehicle Changed vehicle
+     * @param oldModel Previous model name
+     * @param newModel Current model name
+     */
+    default void onModelChanged(Vehicle vehicle, String oldModel, String newModel) {
+    }
+
+    /**
+     * Called after the vehicle's brand has changed.
+     *
+     * @param vehicle Changed vehicle
+     * @param oldBrand Previous brand
+     * @param newBrand Current brand
+     */
+    default void onBrandChanged(Vehicle vehicle, String oldBrand, String newBrand) {
+    }
+
+    /**
+     * Called after the vehicle's manufacturing year or mileage has changed.
+     *
+     * @param vehicle Changed vehicle
+     */
+    default void onUsageChanged(Vehicle vehicle) {
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.persistence;
+
+/**
+ * Kinds of state mutations recorded in the rental journal.
+ * The byte codes are part of the on-disk format and must never be reused.
+ */
+public enum JournalRecordType {
+    REGISTER_USER(1),
+    ADD_LOCATION(2),
+    ADD_STORE(3),
+    ADD_VEHICLE(4),
+    REMOVE_VEHICLE(5),
+    CREATE_RESERVATION(6),
+    CANCEL_RESERVATION(7),
+    GENERATE_BILL(8),
+    PROCESS_PAYMENT(9),
+    COMPLETE_RESERVATION(10),
+    ACTIVATE_RESERVATION(11);
+
+    private static final JournalRecordType[] BY_CODE = new JournalRecordType[16];
+
+    static {
+        for (JournalRecordType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+
+    JournalRecordType(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    /**
+     * Resolves an on-disk type code.
+     *
+     * @param code Type code
+     * @return Record type, or null if the code is unknown
+     */
+    public static JournalRecordType fromCode(byte code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
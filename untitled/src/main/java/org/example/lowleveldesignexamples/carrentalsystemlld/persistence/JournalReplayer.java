@@ -0,0 +1,85 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.persistence;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Store;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.User;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+
+import java.io.DataInput;
+import java.io.IOException;
+
+/**
+ * Re-applies {@link RentalJournal} records to the rental state. Records already
+ * reflected in a fuzzy snapshot are skipped, so replay is idempotent.
+ */
+public final class JournalReplayer implements RentalJournal.RecordHandler {
+
+    private final RentalState state;
+    private final StateRestorer restorer;
+
+    public JournalReplayer(RentalState state) {
+        this.state = state;
+        this.restorer = new StateRestorer(state);
+    }
+
+    @Override
+    public void apply(long lsn, JournalRecordType type, DataInput in) throws IOException {
+        switch (type) {
+            case REGISTER_USER:
+                User user = StateCodec.readUser(in);
+                if (state.getUser(user.getUserId()) == null) {
+                    state.registerUser(user);
+                }
+                break;
+            case ADD_LOCATION:
+                state.addLocation(StateCodec.readLocation(in));
+                break;
+            case ADD_STORE:
+                Store store = StateCodec.readStore(in);
+                if (state.getStore(store.getStoreId()) == null) {
+                    state.addStore(store);
+                }
+                break;
+            case ADD_VEHICLE:
+                replayAddVehicle(in);
+                break;
+            case REMOVE_VEHICLE:
+                replayRemoveVehicle(in);
+                break;
+            case CREATE_RESERVATION:
+                restorer.restoreReservation(in, null);
+                break;
+            case CANCEL_RESERVATION:
+                state.cancelReservation(in.readUTF());
+                break;
+            case COMPLETE_RESERVATION:
+                state.replayCompletion(in.readUTF());
+                break;
+            case ACTIVATE_RESERVATION:
+                state.replayActivation(in.readUTF());
+                break;
+            case GENERATE_BILL:
+                restorer.restoreBill(in, false);
+                break;
+            case PROCESS_PAYMENT:
+                restorer.restorePayment(in);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported journal record: " + type);
+        }
+    }
+
+    private void replayAddVehicle(DataInput in) throws IOException {
+        Store store = restorer.requireStore(in.readUTF());
+        Vehicle vehicle = StateCodec.readVehicle(in);
+
+        // A store's back-fill and a concurrent add may both have recorded the vehicle
+        if (!store.getInventoryManagement().vehicleExists(vehicle.getVehicleId())) {
+            store.getInventoryManagement().addVehicle(vehicle);
+        }
+    }
+
+    private void replayRemoveVehicle(DataInput in) throws IOException {
+        Store store = restorer.requireStore(in.readUTF());
+        store.getInventoryManagement().removeVehicle(in.readUTF());
+    }
+}
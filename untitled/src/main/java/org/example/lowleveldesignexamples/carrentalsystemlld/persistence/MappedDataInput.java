@@ -0,0 +1,157 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.persistence;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * {@link DataInput} over a memory-mapped region of a file.
+ *
+ * Reads go straight to the page cache without copying through a stream buffer.
+ * The file is mapped in windows of up to 1 GiB, so regions larger than a single
+ * {@link MappedByteBuffer} can hold are supported; a window is remapped whenever
+ * a value would cross its end.
+ */
+public class MappedDataInput implements DataInput {
+
+    private static final long WINDOW_BYTES = 1L << 30;
+
+    private final FileChannel channel;
+    private final long end;
+    private long windowStart;
+    private MappedByteBuffer window;
+
+    /**
+     * @param channel Channel open for reading
+     * @param start First byte to read
+     * @param end End of the readable region (exclusive)
+     * @throws IOException if the region cannot be mapped
+     */
+    public MappedDataInput(FileChannel channel, long start, long end) throws IOException {
+        if (start < 0 || end < start || end > channel.size()) {
+            throw new IllegalArgumentException("Invalid region [" + start + ", " + end + ")");
+        }
+        this.channel = channel;
+        this.end = end;
+        map(start);
+    }
+
+    /**
+     * Gets the file position of the next byte to read.
+     *
+     * @return Absolute file position
+     */
+    public long position() {
+        return windowStart + window.position();
+    }
+
+    private void map(long position) throws IOException {
+        windowStart = position;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_BYTES, end - position));
+    }
+
+    /**
+     * Makes sure the current window holds the next {@code bytes} bytes.
+     */
+    private MappedByteBuffer require(int bytes) throws IOException {
+        if (window.remaining() < bytes) {
+            long position = position();
+            if (end - position < bytes) {
+                throw new EOFException();
+            }
+            map(position);
+        }
+        return window;
+    }
+
+    @Override
+    public void readFully(byte[] b) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    @Override
+    public void readFully(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            MappedByteBuffer buffer = require(1);
+            int chunk = Math.min(len, buffer.remaining());
+            buffer.get(b, off, chunk);
+            off += chunk;
+            len -= chunk;
+        }
+    }
+
+    @Override
+    public int skipBytes(int n) throws IOException {
+        long position = position();
+        int skipped = (int) Math.max(0, Math.min(n, end - position));
+        if (skipped <= window.remaining()) {
+            window.position(window.position() + skipped);
+        } else {
+            map(position + skipped);
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return require(1).get() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        return require(1).get();
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return require(1).get() & 0xFF;
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        return require(2).getShort();
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        return require(2).getShort() & 0xFFFF;
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        return require(2).getChar();
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        return require(4).getInt();
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        return require(8).getLong();
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        return require(4).getFloat();
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        return require(8).getDouble();
+    }
+
+    @Override
+    public String readLine() {
+        throw new UnsupportedOperationException("Binary input has no lines");
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+}
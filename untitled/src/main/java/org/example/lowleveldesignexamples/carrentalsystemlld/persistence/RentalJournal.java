@@ -0,0 +1,395 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only, binary write-ahead journal on local disk.
+ *
+ * Record layout (big-endian):
+ * <pre>
+ * int  bodyLength
+ * long lsn          log sequence number, strictly increasing from 1
+ * byte type         {@link JournalRecordType} code
+ * byte[bodyLength]  body, written through {@link DataOutput}
+ * int  crc32c       over lsn, type and body
+ * </pre>
+ *
+ * Group commit: callers serialize their record on their own thread and hand it to a
+ * single writer thread under a short lock. The writer drains everything queued since
+ * its last flush, writes it with one gathering write and one fsync. Appending never
+ * waits for the disk; callers that need the record on disk before continuing use
+ * {@link #awaitDurable(long)}. A crash loses at most the batch being flushed.
+ *
+ * On open, every complete record is replayed in order. A torn or corrupt tail, as
+ * left by a crash mid-write, is truncated.
+ */
+public class RentalJournal implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(RentalJournal.class.getName());
+
+    private static final int LENGTH_BYTES = 4;
+    private static final int LSN_BYTES = 8;
+    private static final int HEADER_BYTES = LENGTH_BYTES + LSN_BYTES + 1;
+    private static final int CRC_BYTES = 4;
+    private static final int MAX_BODY_BYTES = 1 << 20;
+
+    // Per-thread serialization buffer, so appends allocate only the final record array
+    private static final ThreadLocal<RecordBuffer> BUFFERS = ThreadLocal.withInitial(RecordBuffer::new);
+
+    /**
+     * Writes the body of a journal record.
+     */
+    @FunctionalInterface
+    public interface RecordWriter {
+        void write(DataOutput out) throws IOException;
+    }
+
+    /**
+     * Applies a journal record during replay.
+     */
+    @FunctionalInterface
+    public interface RecordHandler {
+        void apply(long lsn, JournalRecordType type, DataInput in) throws IOException;
+    }
+
+    private final Path path;
+    private final FileChannel channel;
+    private final Thread writerThread;
+
+    private final Object appendLock = new Object();
+    // Guarded by appendLock
+    private List<byte[]> pending = new ArrayList<>();
+    private long lastLsn;
+    private boolean writerWaiting;
+    private boolean closed;
+
+    private final Object durableLock = new Object();
+    private volatile long durableLsn;
+    private volatile IOException failure;
+
+    private RentalJournal(Path path, FileChannel channel, long lastLsn) {
+        this.path = path;
+        this.channel = channel;
+        this.lastLsn = lastLsn;
+        this.durableLsn = lastLsn;
+        this.writerThread = new Thread(this::writeLoop, "rental-journal-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Opens (or creates) a journal, replays the records after the given LSN and
+     * positions it for appending.
+     *
+     * @param path Journal file
+     * @param afterLsn Records up to and including this LSN are skipped, e.g. because
+     *                 a snapshot already contains them; 0 replays everything
+     * @param handler Callback applying each replayed record
+     * @return Open journal
+     * @throws IOException if the file cannot be read or opened for writing
+     */
+    public static RentalJournal open(Path path, long afterLsn, RecordHandler handler) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long lastLsn = replay(channel, afterLsn, handler);
+            channel.position(channel.size());
+            logger.info("Opened journal " + path + " at LSN " + lastLsn);
+            return new RentalJournal(path, channel, Math.max(lastLsn, afterLsn));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Replays the journal and truncates any torn tail.
+     *
+     * @return LSN of the last intact record, 0 if there is none
+     */
+    private static long replay(FileChannel channel, long afterLsn, RecordHandler handler) throws IOException {
+        channel.position(0);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+        CRC32C crc = new CRC32C();
+
+        long position = 0;
+        long lastLsn = 0;
+        int replayed = 0;
+        while (true) {
+            byte[] record;
+            int expectedCrc;
+            try {
+                int bodyLength = in.readInt();
+                if (bodyLength < 0 || bodyLength > MAX_BODY_BYTES) {
+                    break;
+                }
+                record = new byte[LSN_BYTES + 1 + bodyLength];
+                in.readFully(record);
+                expectedCrc = in.readInt();
+            } catch (EOFException e) {
+                break;
+            }
+
+            crc.reset();
+            crc.update(record);
+            long lsn = readLong(record, 0);
+            if ((int) crc.getValue() != expectedCrc || lsn <= lastLsn) {
+                break;
+            }
+            JournalRecordType type = JournalRecordType.fromCode(record[LSN_BYTES]);
+            if (type == null) {
+                break;
+            }
+
+            if (lsn > afterLsn) {
+                DataInput body = new DataInputStream(
+                        new ByteArrayInputStream(record, LSN_BYTES + 1, record.length - LSN_BYTES - 1));
+                try {
+                    handler.apply(lsn, type, body);
+                    replayed++;
+                } catch (RuntimeException e) {
+                    // One bad record must not keep the rest of the state from loading
+                    logger.warning("Skipped journal record " + lsn + " (" + type + "): " + e.getMessage());
+                }
+            }
+            lastLsn = lsn;
+            position += LENGTH_BYTES + record.length + CRC_BYTES;
+        }
+
+        if (position < channel.size()) {
+            logger.warning("Truncating " + (channel.size() - position) + " bytes of torn journal tail");
+            channel.truncate(position);
+            channel.force(true);
+        }
+        logger.info("Replayed " + replayed + " journal records");
+        return lastLsn;
+    }
+
+    /**
+     * Appends a record. Returns once the record is queued for the next group commit,
+     * without waiting for the disk.
+     *
+     * @param type Record type
+     * @param writer Writes the record body
+     * @return LSN assigned to the record
+     * @throws IllegalStateException if the journal is closed or has failed
+     */
+    public long append(JournalRecordType type, RecordWriter writer) {
+        RecordBuffer buffer = BUFFERS.get();
+        byte[] record;
+        try {
+            buffer.reset();
+            buffer.data.writeInt(0);
+            buffer.data.writeLong(0);
+            buffer.data.writeByte(type.getCode());
+            writer.write(buffer.data);
+            record = buffer.toRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int bodyLength = record.length - HEADER_BYTES - CRC_BYTES;
+        if (bodyLength > MAX_BODY_BYTES) {
+            throw new IllegalArgumentException("Journal record too large: " + bodyLength + " bytes");
+        }
+        writeInt(record, 0, bodyLength);
+
+        synchronized (appendLock) {
+            if (closed || failure != null) {
+                throw new IllegalStateException("Journal is not writable: " + path, failure);
+            }
+            // LSN and CRC are set under the lock so LSN order always matches file order
+            long lsn = ++lastLsn;
+            writeLong(record, LENGTH_BYTES, lsn);
+            buffer.crc.reset();
+            buffer.crc.update(record, LENGTH_BYTES, record.length - LENGTH_BYTES - CRC_BYTES);
+            writeInt(record, record.length - CRC_BYTES, (int) buffer.crc.getValue());
+
+            pending.add(record);
+            if (writerWaiting) {
+                appendLock.notify();
+            }
+            return lsn;
+        }
+    }
+
+    /**
+     * Blocks until the record with the given LSN, and every record before it, is on disk.
+     *
+     * @param lsn LSN returned by {@link #append}
+     * @throws InterruptedException if interrupted while waiting
+     * @throws UncheckedIOException if the journal failed before the record was written
+     */
+    public void awaitDurable(long lsn) throws InterruptedException {
+        synchronized (durableLock) {
+            while (durableLsn < lsn) {
+                if (failure != null) {
+                    throw new UncheckedIOException(failure);
+                }
+                durableLock.wait();
+            }
+        }
+    }
+
+    /**
+     * Blocks until everything appended so far is on disk.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void flush() throws InterruptedException {
+        long lsn;
+        synchronized (appendLock) {
+            lsn = lastLsn;
+        }
+        awaitDurable(lsn);
+    }
+
+    private void writeLoop() {
+        List<byte[]> batch = new ArrayList<>();
+        while (true) {
+            long batchLsn;
+            synchronized (appendLock) {
+                while (pending.isEmpty() && !closed) {
+                    writerWaiting = true;
+                    try {
+                        appendLock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } finally {
+                        writerWaiting = false;
+                    }
+                }
+                if (pending.isEmpty()) {
+                    return;
+                }
+                // Swap buffers: appenders keep going while this batch is written
+                List<byte[]> full = pending;
+                pending = batch;
+                batch = full;
+                batchLsn = lastLsn;
+            }
+
+            try {
+                ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+                for (int i = 0; i < buffers.length; i++) {
+                    buffers[i] = ByteBuffer.wrap(batch.get(i));
+                }
+                long remaining = 0;
+                for (ByteBuffer b : buffers) {
+                    remaining += b.remaining();
+                }
+                while (remaining > 0) {
+                    remaining -= channel.write(buffers);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                logger.severe("Journal write failed, journal is now read-only: " + e.getMessage());
+                failure = e;
+                synchronized (durableLock) {
+                    durableLock.notifyAll();
+                }
+                return;
+            }
+            batch.clear();
+
+            durableLsn = batchLsn;
+            synchronized (durableLock) {
+                durableLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Flushes pending records, stops the writer and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (appendLock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            appendLock.notify();
+        }
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        logger.info("Closed journal " + path + " at LSN " + durableLsn);
+    }
+
+    public long getLastLsn() {
+        synchronized (appendLock) {
+            return lastLsn;
+        }
+    }
+
+    public long getDurableLsn() {
+        return durableLsn;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    private static void writeLong(byte[] bytes, int offset, long value) {
+        writeInt(bytes, offset, (int) (value >>> 32));
+        writeInt(bytes, offset + 4, (int) value);
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * Reusable serialization buffer with its own checksum.
+     */
+    private static final class RecordBuffer extends ByteArrayOutputStream {
+        private final DataOutputStream data = new DataOutputStream(this);
+        private final CRC32C crc = new CRC32C();
+
+        private RecordBuffer() {
+            super(256);
+        }
+
+        /**
+         * Copies the serialized record, leaving room for the trailing CRC.
+         */
+        private byte[] toRecord() {
+            return Arrays.copyOf(buf, count + CRC_BYTES);
+        }
+    }
+}
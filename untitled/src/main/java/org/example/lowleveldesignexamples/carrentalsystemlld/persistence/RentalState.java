@@ -0,0 +1,91 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.persistence;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.ReservationStatus;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Bill;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Location;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Payment;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Reservation;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Store;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.User;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+
+import java.util.Collection;
+
+/**
+ * The rental system state as seen by snapshots and journal replay.
+ *
+ * Restoring methods apply recorded state as it was, without the validation or
+ * pricing of the live path. They are only called while the journal is not enabled
+ * yet, so nothing restored is journaled again.
+ */
+public interface RentalState {
+
+    Collection<Location> getLocations();
+
+    Collection<User> getUsers();
+
+    Collection<Store> getStores();
+
+    Collection<Reservation> getReservations();
+
+    Collection<Bill> getBills();
+
+    Collection<Payment> getPayments();
+
+    Location getLocation(String locationId);
+
+    User getUser(String userId);
+
+    Store getStore(String storeId);
+
+    Reservation getReservation(String reservationId);
+
+    Bill getBill(String billId);
+
+    Payment getPayment(String paymentId);
+
+    /**
+     * @return Vehicle currently in an inventory under this ID, null if none
+     */
+    Vehicle findVehicle(String vehicleId);
+
+    /**
+     * @return Store whose inventory holds this very vehicle, null once it has been removed
+     */
+    Store findInventoryStore(Vehicle vehicle);
+
+    void addLocation(Location location);
+
+    /**
+     * Adds a user without the duplicate check or logging of registration.
+     */
+    void restoreUser(User user);
+
+    void registerUser(User user);
+
+    void addStore(Store store);
+
+    /**
+     * Books a reservation's dates unless it is finished, brings it to the recorded
+     * status and attaches it to its store, user and lifecycle timers.
+     *
+     * @throws IllegalStateException if the dates are already booked
+     */
+    void restoreReservation(Reservation reservation, Store store, ReservationStatus status);
+
+    Bill restoreBill(String billId, Reservation reservation, int taxPercent, long additionalFeesCents);
+
+    void restorePayment(Payment payment);
+
+    boolean cancelReservation(String reservationId);
+
+    /**
+     * Picks a reservation up again, marking its vehicle rented if it was not active yet.
+     */
+    void replayActivation(String reservationId);
+
+    /**
+     * Completes a reservation again, releasing its vehicle if it was not completed yet.
+     */
+    void replayCompletion(String reservationId);
+}
@@ -0,0 +1,181 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.persistence;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Bill;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Location;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Payment;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Reservation;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Store;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.User;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Writes and loads the content of a {@link SnapshotFile}: users, locations, stores
+ * with their vehicles, reservations, bills and payments.
+ *
+ * Each section is a run of entries, each preceded by true and ended by false, so the
+ * state needs no consistent size while traversed.
+ */
+public final class SnapshotCodec {
+
+    private static final Logger logger = Logger.getLogger(SnapshotCodec.class.getName());
+
+    private final RentalState state;
+    private final StateRestorer restorer;
+
+    public SnapshotCodec(RentalState state) {
+        this.state = state;
+        this.restorer = new StateRestorer(state);
+    }
+
+    /**
+     * Writes the snapshot content.
+     *
+     * Entries only refer to entries written before them. Users, locations and stores
+     * are never removed, so one missing from its section was added after the LSN was
+     * taken, and so was any entry referring to it: such entries are left to the journal.
+     * A reservation whose vehicle has since been removed from its inventory carries
+     * the vehicle itself.
+     */
+    public void write(DataOutput out) throws IOException {
+        Set<String> writtenLocations = new HashSet<>();
+        for (Location location : state.getLocations()) {
+            out.writeBoolean(true);
+            StateCodec.writeLocation(out, location);
+            writtenLocations.add(location.getLocationId());
+        }
+        out.writeBoolean(false);
+
+        Set<String> writtenUsers = new HashSet<>();
+        for (User user : state.getUsers()) {
+            out.writeBoolean(true);
+            StateCodec.writeUser(out, user);
+            writtenUsers.add(user.getUserId());
+        }
+        out.writeBoolean(false);
+
+        Set<String> writtenStores = new HashSet<>();
+        Set<Vehicle> writtenVehicles = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Store store : state.getStores()) {
+            out.writeBoolean(true);
+            StateCodec.writeStore(out, store);
+            for (Vehicle vehicle : store.getInventoryManagement().getAllVehicles()) {
+                out.writeBoolean(true);
+                StateCodec.writeVehicle(out, vehicle);
+                writtenVehicles.add(vehicle);
+            }
+            out.writeBoolean(false);
+            writtenStores.add(store.getStoreId());
+        }
+        out.writeBoolean(false);
+
+        Set<String> writtenReservations = new HashSet<>();
+        for (Reservation reservation : state.getReservations()) {
+            Vehicle vehicle = reservation.getVehicle();
+            Store inventoryStore = state.findInventoryStore(vehicle);
+            Store store = inventoryStore != null ? inventoryStore : findReservationStore(reservation);
+            boolean detached = !writtenVehicles.contains(vehicle);
+            if (!writtenUsers.contains(reservation.getUser().getUserId())
+                    || !writtenLocations.contains(reservation.getPickupLocation().getLocationId())
+                    || !writtenLocations.contains(reservation.getDropLocation().getLocationId())
+                    || !writtenStores.contains(store.getStoreId())
+                    || (detached && inventoryStore != null)) {
+                continue;
+            }
+            out.writeBoolean(true);
+            StateCodec.writeReservation(out, reservation);
+            out.writeUTF(reservation.getStatus().name());
+            out.writeUTF(store.getStoreId());
+            out.writeBoolean(detached);
+            if (detached) {
+                StateCodec.writeVehicle(out, vehicle);
+            }
+            writtenReservations.add(reservation.getReservationId());
+        }
+        out.writeBoolean(false);
+
+        Set<String> writtenBills = new HashSet<>();
+        for (Bill bill : state.getBills()) {
+            if (!writtenReservations.contains(bill.getReservation().getReservationId())) {
+                continue;
+            }
+            out.writeBoolean(true);
+            StateCodec.writeBill(out, bill);
+            out.writeBoolean(bill.isPaid());
+            writtenBills.add(bill.getBillId());
+        }
+        out.writeBoolean(false);
+
+        for (Payment payment : state.getPayments()) {
+            if (!writtenBills.contains(payment.getBill().getBillId())) {
+                continue;
+            }
+            out.writeBoolean(true);
+            StateCodec.writePayment(out, payment);
+        }
+        out.writeBoolean(false);
+    }
+
+    /**
+     * Finds the store that took a reservation whose vehicle is gone from its
+     * inventory; the reservation stays with that store.
+     */
+    private Store findReservationStore(Reservation reservation) {
+        for (Store store : state.getStores()) {
+            if (store.getReservationById(reservation.getReservationId()) != null) {
+                return store;
+            }
+        }
+        throw new IllegalStateException("Reservation " + reservation.getReservationId() + " is in no store");
+    }
+
+    /**
+     * Loads the snapshot content. Every entry must resolve; one that does not means
+     * the snapshot is inconsistent, and the load fails rather than drop it.
+     */
+    public void read(DataInput in) throws IOException {
+        while (in.readBoolean()) {
+            state.addLocation(StateCodec.readLocation(in));
+        }
+        while (in.readBoolean()) {
+            state.restoreUser(StateCodec.readUser(in));
+        }
+        while (in.readBoolean()) {
+            Store store = StateCodec.readStore(in);
+            while (in.readBoolean()) {
+                store.getInventoryManagement().addVehicle(StateCodec.readVehicle(in));
+            }
+            state.addStore(store);
+        }
+
+        try {
+            // All reservations of a removed vehicle share one instance, as they did when written
+            Map<String, Vehicle> detachedVehicles = new HashMap<>();
+            while (in.readBoolean()) {
+                restorer.restoreReservation(in, detachedVehicles);
+            }
+            while (in.readBoolean()) {
+                restorer.restoreBill(in, true);
+            }
+            while (in.readBoolean()) {
+                restorer.restorePayment(in);
+            }
+        } catch (IllegalStateException e) {
+            throw new IOException("Inconsistent snapshot: " + e.getMessage(), e);
+        }
+
+        logger.info("Restored " + state.getUsers().size() + " users, " + state.getStores().size() + " stores, "
+                + state.getReservations().size() + " reservations, " + state.getBills().size() + " bills, "
+                + state.getPayments().size() + " payments");
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.persistence;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Point-in-time snapshot file of the rental system state.
+ *
+ * Layout (big-endian):
+ * <pre>
+ * int  magic    "RSNP"
+ * int  version
+ * long lsn      journal LSN the snapshot is consistent with; later records must be replayed
+ * ...           content, written through {@link DataOutput}
+ * int  crc32c   over everything before it
+ * </pre>
+ *
+ * Snapshots are written to a temporary file and atomically renamed, so a crash while
+ * writing leaves the previous snapshot in place. They are read through a memory
+ * mapping, and the checksum is verified before any content is handed to the reader.
+ */
+public final class SnapshotFile {
+
+    private static final int MAGIC = 0x52534E50;
+    private static final int VERSION = 3;
+    private static final int HEADER_BYTES = 16;
+    private static final int CRC_BYTES = 4;
+    private static final long CHECKSUM_WINDOW_BYTES = 1L << 30;
+
+    /**
+     * Writes the snapshot content.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(DataOutput out) throws IOException;
+    }
+
+    /**
+     * Reads the snapshot content.
+     */
+    @FunctionalInterface
+    public interface ContentReader {
+        void read(DataInput in) throws IOException;
+    }
+
+    private SnapshotFile() {
+    }
+
+    /**
+     * Writes a snapshot, replacing any existing one only once it is complete and on disk.
+     *
+     * @param path Snapshot file
+     * @param lsn Journal LSN the content is consistent with
+     * @param writer Writes the content
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(Path path, long lsn, ContentWriter writer) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+            // Buffer in front of the checksum, so it is updated per chunk rather than per byte
+            CRC32C crc = new CRC32C();
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new CheckedOutputStream(file, crc), 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(lsn);
+            writer.write(out);
+            out.flush();
+
+            new DataOutputStream(file).writeInt((int) crc.getValue());
+            file.getChannel().force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Verifies and reads a snapshot.
+     *
+     * @param path Snapshot file
+     * @param reader Reads the content; invoked only if the file is intact
+     * @return Journal LSN the snapshot is consistent with
+     * @throws IOException if the file is truncated, corrupt or of an unknown version,
+     *         or the reader fails
+     */
+    public static long read(Path path, ContentReader reader) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + CRC_BYTES) {
+                throw new IOException("Snapshot is truncated: " + path);
+            }
+            long contentEnd = size - CRC_BYTES;
+            if (checksum(channel, contentEnd) != readTrailer(channel, contentEnd)) {
+                throw new IOException("Snapshot checksum mismatch: " + path);
+            }
+
+            MappedDataInput in = new MappedDataInput(channel, 0, contentEnd);
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a snapshot file: " + path);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + ": " + path);
+            }
+            long lsn = in.readLong();
+
+            reader.read(in);
+            if (in.position() != contentEnd) {
+                throw new IOException("Snapshot has " + (contentEnd - in.position()) + " unread bytes: " + path);
+            }
+            return lsn;
+        }
+    }
+
+    private static int checksum(FileChannel channel, long length) throws IOException {
+        CRC32C crc = new CRC32C();
+        for (long position = 0; position < length; position += CHECKSUM_WINDOW_BYTES) {
+            crc.update(channel.map(FileChannel.MapMode.READ_ONLY, position,
+                    Math.min(CHECKSUM_WINDOW_BYTES, length - position)));
+        }
+        return (int) crc.getValue();
+    }
+
+    private static int readTrailer(FileChannel channel, long position) throws IOException {
+        ByteBuffer trailer = ByteBuffer.allocate(CRC_BYTES);
+        while (trailer.hasRemaining()) {
+            if (channel.read(trailer, position + trailer.position()) < 0) {
+                throw new IOException("Snapshot is truncated");
+            }
+        }
+        return trailer.getInt(0);
+    }
+}
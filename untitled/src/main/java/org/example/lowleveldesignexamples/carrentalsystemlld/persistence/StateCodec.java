@@ -0,0 +1,166 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.persistence;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleStatus;
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
+import org.example.lowleveldesignexamples.carrentalsystemlld.factory.VehicleFactory;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Bill;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Location;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Money;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Payment;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Reservation;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Store;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.User;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Binary encoding of domain entities for the journal and snapshots.
+ * Enums are written by name and dates as epoch days, so reordering enum constants
+ * does not corrupt existing files.
+ */
+public final class StateCodec {
+
+    private StateCodec() {
+    }
+
+    public static void writeUser(DataOutput out, User user) throws IOException {
+        writeString(out, user.getUserId());
+        writeString(out, user.getName());
+        writeString(out, user.getEmail());
+        writeString(out, user.getPhone());
+        writeString(out, user.getDrivingLicense());
+        writeString(out, user.getAddress());
+    }
+
+    public static User readUser(DataInput in) throws IOException {
+        return new User(readString(in), readString(in), readString(in),
+                readString(in), readString(in), readString(in));
+    }
+
+    public static void writeLocation(DataOutput out, Location location) throws IOException {
+        writeString(out, location.getLocationId());
+        writeString(out, location.getAddress());
+        writeString(out, location.getCity());
+        writeString(out, location.getState());
+        writeString(out, location.getZipCode());
+        writeString(out, location.getCountry());
+        out.writeDouble(location.getLatitude());
+        out.writeDouble(location.getLongitude());
+    }
+
+    public static Location readLocation(DataInput in) throws IOException {
+        return new Location(readString(in), readString(in), readString(in),
+                readString(in), readString(in), readString(in), in.readDouble(), in.readDouble());
+    }
+
+    /**
+     * Writes a store's own fields and location; its vehicles are recorded separately.
+     */
+    public static void writeStore(DataOutput out, Store store) throws IOException {
+        writeString(out, store.getStoreId());
+        writeString(out, store.getStoreName());
+        writeString(out, store.getContactPhone());
+        writeString(out, store.getManagerName());
+        out.writeBoolean(store.isOperational());
+
+        Location location = store.getLocation();
+        out.writeBoolean(location != null);
+        if (location != null) {
+            writeLocation(out, location);
+        }
+    }
+
+    public static Store readStore(DataInput in) throws IOException {
+        String storeId = readString(in);
+        String storeName = readString(in);
+        String contactPhone = readString(in);
+        String managerName = readString(in);
+        boolean operational = in.readBoolean();
+        Location location = in.readBoolean() ? readLocation(in) : null;
+
+        Store store = new Store(storeId, storeName, location, contactPhone, managerName);
+        store.setOperational(operational);
+        return store;
+    }
+
+    /**
+     * Writes the fields common to every vehicle type. Type-specific features are
+     * restored with the factory defaults.
+     */
+    public static void writeVehicle(DataOutput out, Vehicle vehicle) throws IOException {
+        out.writeUTF(vehicle.getVehicleType().name());
+        writeString(out, vehicle.getVehicleId());
+        writeString(out, vehicle.getVehicleNumber());
+        out.writeDouble(vehicle.getDailyRentalCost());
+        writeString(out, vehicle.getModel());
+        writeString(out, vehicle.getBrand());
+        out.writeInt(vehicle.getManufacturingYear());
+        out.writeInt(vehicle.getSeatingCapacity());
+        out.writeLong(vehicle.getKmDriven());
+        writeString(out, vehicle.getFuelType());
+        out.writeUTF(vehicle.getStatus().name());
+    }
+
+    public static Vehicle readVehicle(DataInput in) throws IOException {
+        VehicleType type = VehicleType.valueOf(in.readUTF());
+        Vehicle vehicle = VehicleFactory.createVehicle(type, readString(in), readString(in),
+                in.readDouble(), readString(in), readString(in), in.readInt());
+        vehicle.setSeatingCapacity(in.readInt());
+        vehicle.setKmDriven(in.readLong());
+        vehicle.setFuelType(readString(in));
+        vehicle.setStatus(VehicleStatus.valueOf(in.readUTF()));
+        return vehicle;
+    }
+
+    public static void writeReservation(DataOutput out, Reservation reservation) throws IOException {
+        out.writeUTF(reservation.getReservationId());
+        out.writeUTF(reservation.getUser().getUserId());
+        out.writeUTF(reservation.getVehicle().getVehicleId());
+        writeDate(out, reservation.getStartDate());
+        writeDate(out, reservation.getEndDate());
+        out.writeUTF(reservation.getPickupLocation().getLocationId());
+        out.writeUTF(reservation.getDropLocation().getLocationId());
+        // The quoted price is kept, so restoring never reprices with later rules
+        out.writeLong(Money.toCents(reservation.getTotalCost()));
+    }
+
+    public static void writeBill(DataOutput out, Bill bill) throws IOException {
+        out.writeUTF(bill.getBillId());
+        out.writeUTF(bill.getReservation().getReservationId());
+        out.writeInt(bill.getTaxPercent());
+        out.writeLong(bill.getAdditionalFeesCents());
+    }
+
+    public static void writePayment(DataOutput out, Payment payment) throws IOException {
+        out.writeUTF(payment.getPaymentId());
+        out.writeUTF(payment.getBill().getBillId());
+        out.writeDouble(payment.getAmount());
+        writeString(out, payment.getPaymentMethod());
+        out.writeUTF(payment.getStatus().name());
+        writeString(out, payment.getTransactionId());
+        writeString(out, payment.getFailureReason());
+    }
+
+    public static void writeDate(DataOutput out, LocalDate date) throws IOException {
+        out.writeLong(date.toEpochDay());
+    }
+
+    public static LocalDate readDate(DataInput in) throws IOException {
+        return LocalDate.ofEpochDay(in.readLong());
+    }
+
+    public static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    public static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.persistence;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.PaymentStatus;
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.ReservationStatus;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Bill;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Location;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Money;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Payment;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Reservation;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Store;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.User;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Decodes reservations, bills and payments written by {@link StateCodec} and restores
+ * them into the rental state. Shared by snapshot loading and journal replay; entries
+ * already present are skipped, so replaying over a fuzzy snapshot is idempotent.
+ */
+final class StateRestorer {
+
+    private final RentalState state;
+
+    StateRestorer(RentalState state) {
+        this.state = state;
+    }
+
+    /**
+     * Restores a reservation as recorded, without the date checks or logging of
+     * the live path.
+     *
+     * @param detachedVehicles Vehicles no longer in any inventory, by ID, for snapshot
+     *        entries; null for journal records, which are always scheduled and name
+     *        a vehicle that is still in its inventory
+     */
+    void restoreReservation(DataInput in, Map<String, Vehicle> detachedVehicles) throws IOException {
+        String reservationId = in.readUTF();
+        User user = state.getUser(in.readUTF());
+        String vehicleId = in.readUTF();
+        LocalDate startDate = StateCodec.readDate(in);
+        LocalDate endDate = StateCodec.readDate(in);
+        Location pickupLocation = state.getLocation(in.readUTF());
+        Location dropLocation = state.getLocation(in.readUTF());
+        long totalCostCents = in.readLong();
+
+        ReservationStatus status = ReservationStatus.SCHEDULED;
+        Store store = null;
+        Vehicle vehicle = null;
+        if (detachedVehicles != null) {
+            status = ReservationStatus.valueOf(in.readUTF());
+            store = state.getStore(in.readUTF());
+            if (in.readBoolean()) {
+                Vehicle recorded = StateCodec.readVehicle(in);
+                vehicle = detachedVehicles.computeIfAbsent(vehicleId, id -> recorded);
+            }
+        }
+        if (vehicle == null) {
+            vehicle = state.findVehicle(vehicleId);
+            if (vehicle != null && store == null) {
+                store = state.findInventoryStore(vehicle);
+            }
+        }
+
+        if (state.getReservation(reservationId) != null) {
+            return;
+        }
+        if (user == null || store == null || vehicle == null || pickupLocation == null || dropLocation == null) {
+            throw new IllegalStateException("Reservation " + reservationId + " refers to unknown state");
+        }
+
+        Reservation reservation = new Reservation(reservationId, user, vehicle,
+                startDate, endDate, pickupLocation, dropLocation);
+        reservation.setTotalCost(Money.toAmount(totalCostCents));
+        state.restoreReservation(reservation, store, status);
+    }
+
+    /**
+     * @param withPaidFlag Whether the entry carries the paid flag; journal records never do
+     */
+    void restoreBill(DataInput in, boolean withPaidFlag) throws IOException {
+        String billId = in.readUTF();
+        String reservationId = in.readUTF();
+        int taxPercent = in.readInt();
+        long additionalFeesCents = in.readLong();
+        boolean paid = withPaidFlag && in.readBoolean();
+
+        if (state.getBill(billId) != null) {
+            return;
+        }
+        Reservation reservation = state.getReservation(reservationId);
+        if (reservation == null) {
+            throw new IllegalStateException("Bill " + billId + " refers to unknown reservation " + reservationId);
+        }
+
+        Bill bill = state.restoreBill(billId, reservation, taxPercent, additionalFeesCents);
+        if (paid) {
+            bill.markAsPaid();
+        }
+    }
+
+    /**
+     * Restores a payment with its recorded outcome; nothing is charged again.
+     */
+    void restorePayment(DataInput in) throws IOException {
+        String paymentId = in.readUTF();
+        String billId = in.readUTF();
+        double amount = in.readDouble();
+        String paymentMethod = StateCodec.readString(in);
+        PaymentStatus status = PaymentStatus.valueOf(in.readUTF());
+        String transactionId = StateCodec.readString(in);
+        String failureReason = StateCodec.readString(in);
+
+        if (state.getPayment(paymentId) != null) {
+            return;
+        }
+        Bill bill = state.getBill(billId);
+        if (bill == null) {
+            throw new IllegalStateException("Payment " + paymentId + " refers to unknown bill " + billId);
+        }
+
+        Payment payment = new Payment(paymentId, bill, amount, paymentMethod);
+        if (status == PaymentStatus.COMPLETED) {
+            payment.processPaymentSuccess(transactionId);
+        } else if (status == PaymentStatus.FAILED) {
+            payment.processPaymentFailure(failureReason);
+        } else {
+            payment.setStatus(status);
+            payment.setTransactionId(transactionId);
+        }
+        state.restorePayment(payment);
+    }
+
+    Store requireStore(String storeId) {
+        Store store = state.getStore(storeId);
+        if (store == null) {
+            throw new IllegalStateException("Unknown store: " + storeId);
+        }
+        return store;
+    }
+}
@@ -0,0 +1,327 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.repository;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleStatus;
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.VehicleSearchQuery;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Column-oriented copy of the fleet's searchable attributes, for full-fleet scans.
+ *
+ * One primitive array per attribute (type, status, price, seats, year, mileage), with
+ * model, brand and store dictionary-encoded as int codes. A scan is a loop over dense
+ * arrays instead of a pointer chase through Vehicle objects and their String fields,
+ * and text criteria are matched once per distinct model or brand, not once per
+ * vehicle. Only rows that pass every column filter touch their Vehicle object.
+ *
+ * Rows stay dense: a removed vehicle's row is filled with the last row. Updates take
+ * the write lock and scans the read lock, so every scan sees a consistent table.
+ */
+public class ColumnarFleet {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final VehicleType[] TYPES = VehicleType.values();
+    private static final VehicleStatus[] STATUSES = VehicleStatus.values();
+    private static final byte AVAILABLE = (byte) VehicleStatus.AVAILABLE.ordinal();
+    private static final boolean[] IN_SERVICE = new boolean[STATUSES.length];
+
+    static {
+        for (VehicleStatus status : STATUSES) {
+            IN_SERVICE[status.ordinal()] = status.isInService();
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private int size;
+    private Vehicle[] vehicles;
+    private byte[] types;
+    private byte[] statuses;
+    private double[] prices;
+    private int[] seats;
+    private int[] years;
+    private long[] kmDriven;
+    private int[] modelCodes;
+    private int[] brandCodes;
+    private int[] storeCodes;
+    private final Map<Vehicle, Integer> rows;
+    private final Dictionary models;
+    private final Dictionary brands;
+    private final Dictionary stores;
+
+    public ColumnarFleet() {
+        this.rows = new IdentityHashMap<>();
+        this.models = new Dictionary();
+        this.brands = new Dictionary();
+        this.stores = new Dictionary();
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Brings the vehicle's row in line with its current attributes.
+     *
+     * @param vehicle Vehicle to (re-)store
+     * @param storeId Store holding the vehicle
+     * @param present Whether the vehicle is currently part of the fleet
+     */
+    public void update(Vehicle vehicle, String storeId, boolean present) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rows.get(vehicle);
+            if (!present) {
+                if (row != null) {
+                    removeRow(row);
+                }
+                return;
+            }
+            if (row == null) {
+                if (size == vehicles.length) {
+                    allocate(size * 2);
+                }
+                row = size++;
+                rows.put(vehicle, row);
+            }
+            writeRow(row, vehicle, storeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds vehicles matching every vehicle-level criterion of a query, including
+     * availability, in stores passing the store filter. Results match
+     * {@link VehicleSearchQuery#matches}, in row order.
+     *
+     * @param query Search query
+     * @param storeFilter Accepts the store IDs to search; asked once per store
+     * @param results Collection receiving the matching vehicles
+     */
+    public void findVehicles(VehicleSearchQuery query, Predicate<String> storeFilter,
+                             Collection<? super Vehicle> results) {
+        int type = query.getVehicleType() != null ? query.getVehicleType().ordinal() : -1;
+        double minPrice = query.getMinPrice();
+        double maxPrice = query.getMaxPrice();
+        int minSeats = query.getMinSeats();
+        boolean dateWindow = query.hasDateWindow();
+        LocalDate startDate = query.getStartDate();
+        LocalDate endDate = query.getEndDate();
+        String text = query.getModelText();
+
+        lock.readLock().lock();
+        try {
+            boolean[] storeMatches = stores.matching(storeFilter);
+            boolean[] modelMatches = text != null
+                    ? models.matching(model -> VehicleSearchQuery.containsIgnoreCase(model, text)) : null;
+            boolean[] brandMatches = text != null && query.isMatchBrand()
+                    ? brands.matching(brand -> VehicleSearchQuery.containsIgnoreCase(brand, text)) : null;
+
+            for (int row = 0; row < size; row++) {
+                if (type >= 0 && types[row] != type) {
+                    continue;
+                }
+                int status = statuses[row];
+                if (dateWindow ? !IN_SERVICE[status] : status != AVAILABLE) {
+                    continue;
+                }
+                double price = prices[row];
+                if (price < minPrice || price > maxPrice || seats[row] < minSeats) {
+                    continue;
+                }
+                if (!storeMatches[storeCodes[row]]) {
+                    continue;
+                }
+                if (modelMatches != null && !modelMatches[modelCodes[row]]
+                        && !(brandMatches != null && brandMatches[brandCodes[row]])) {
+                    continue;
+                }
+                // Calendar lookup only for rows that already match
+                if (dateWindow && !vehicles[row].getAvailabilityCalendar().isAvailable(startDate, endDate)) {
+                    continue;
+                }
+                results.add(vehicles[row]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Collects the vehicles of the stores passing the filter that could still be
+     * rented, filtered on the status column alone.
+     *
+     * @param availableNow true for vehicles available right now, false for every vehicle in service
+     * @param storeFilter Accepts the store IDs to collect from; asked once per store
+     * @param results Collection receiving the vehicles
+     */
+    public void collectVehicles(boolean availableNow, Predicate<String> storeFilter,
+                                Collection<? super Vehicle> results) {
+        lock.readLock().lock();
+        try {
+            boolean[] storeMatches = stores.matching(storeFilter);
+            for (int row = 0; row < size; row++) {
+                int status = statuses[row];
+                if ((availableNow ? status == AVAILABLE : IN_SERVICE[status]) && storeMatches[storeCodes[row]]) {
+                    results.add(vehicles[row]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets fleet-wide statistics in one pass over the columns: the counts reported by
+     * {@link VehicleInventoryManagement#getInventoryStatistics()}, plus averages.
+     *
+     * @return Map containing fleet statistics
+     */
+    public Map<String, Object> getStatistics() {
+        int[] typeCounts = new int[TYPES.length];
+        int[] statusCounts = new int[STATUSES.length];
+        double priceSum = 0;
+        long yearSum = 0;
+        long kmSum = 0;
+        int count;
+        int distinctModels;
+        int distinctBrands;
+
+        lock.readLock().lock();
+        try {
+            count = size;
+            for (int row = 0; row < count; row++) {
+                typeCounts[types[row]]++;
+                statusCounts[statuses[row]]++;
+                priceSum += prices[row];
+                yearSum += years[row];
+                kmSum += kmDriven[row];
+            }
+            distinctModels = models.size();
+            distinctBrands = brands.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("Total Vehicles", count);
+        stats.put("Available", statusCounts[VehicleStatus.AVAILABLE.ordinal()]);
+        stats.put("Reserved", statusCounts[VehicleStatus.RESERVED.ordinal()]);
+        stats.put("In Maintenance", statusCounts[VehicleStatus.MAINTENANCE.ordinal()]);
+        stats.put("Retired", statusCounts[VehicleStatus.RETIRED.ordinal()]);
+        for (VehicleType type : TYPES) {
+            stats.put(type.getDisplayName() + "s", typeCounts[type.ordinal()]);
+        }
+        stats.put("Average Daily Cost", count > 0 ? priceSum / count : 0.0);
+        stats.put("Average Manufacturing Year", count > 0 ? (double) yearSum / count : 0.0);
+        stats.put("Average Km Driven", count > 0 ? (double) kmSum / count : 0.0);
+        stats.put("Distinct Models", distinctModels);
+        stats.put("Distinct Brands", distinctBrands);
+        return stats;
+    }
+
+    private void writeRow(int row, Vehicle vehicle, String storeId) {
+        vehicles[row] = vehicle;
+        types[row] = (byte) vehicle.getVehicleType().ordinal();
+        statuses[row] = (byte) vehicle.getStatus().ordinal();
+        prices[row] = vehicle.getDailyRentalCost();
+        seats[row] = vehicle.getSeatingCapacity();
+        years[row] = vehicle.getManufacturingYear();
+        kmDriven[row] = vehicle.getKmDriven();
+        modelCodes[row] = models.encode(vehicle.getModel());
+        brandCodes[row] = brands.encode(vehicle.getBrand());
+        storeCodes[row] = stores.encode(storeId);
+    }
+
+    /**
+     * Fills the row with the last row, keeping the table dense.
+     */
+    private void removeRow(int row) {
+        Vehicle removed = vehicles[row];
+        int last = --size;
+        if (row != last) {
+            Vehicle moved = vehicles[last];
+            vehicles[row] = moved;
+            types[row] = types[last];
+            statuses[row] = statuses[last];
+            prices[row] = prices[last];
+            seats[row] = seats[last];
+            years[row] = years[last];
+            kmDriven[row] = kmDriven[last];
+            modelCodes[row] = modelCodes[last];
+            brandCodes[row] = brandCodes[last];
+            storeCodes[row] = storeCodes[last];
+            rows.put(moved, row);
+        }
+        vehicles[last] = null;
+        rows.remove(removed);
+    }
+
+    private void allocate(int capacity) {
+        vehicles = vehicles == null ? new Vehicle[capacity] : Arrays.copyOf(vehicles, capacity);
+        types = types == null ? new byte[capacity] : Arrays.copyOf(types, capacity);
+        statuses = statuses == null ? new byte[capacity] : Arrays.copyOf(statuses, capacity);
+        prices = prices == null ? new double[capacity] : Arrays.copyOf(prices, capacity);
+        seats = seats == null ? new int[capacity] : Arrays.copyOf(seats, capacity);
+        years = years == null ? new int[capacity] : Arrays.copyOf(years, capacity);
+        kmDriven = kmDriven == null ? new long[capacity] : Arrays.copyOf(kmDriven, capacity);
+        modelCodes = modelCodes == null ? new int[capacity] : Arrays.copyOf(modelCodes, capacity);
+        brandCodes = brandCodes == null ? new int[capacity] : Arrays.copyOf(brandCodes, capacity);
+        storeCodes = storeCodes == null ? new int[capacity] : Arrays.copyOf(storeCodes, capacity);
+    }
+
+    /**
+     * Assigns each distinct string a dense int code. Codes are never reused, so a
+     * dictionary grows with the distinct values ever seen, not with the fleet.
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private String[] values = new String[16];
+
+        int encode(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = codes.size();
+                if (code == values.length) {
+                    values = Arrays.copyOf(values, code * 2);
+                }
+                values[code] = value;
+                codes.put(value, code);
+            }
+            return code;
+        }
+
+        int size() {
+            return codes.size();
+        }
+
+        /**
+         * Evaluates a filter once per code.
+         */
+        boolean[] matching(Predicate<String> filter) {
+            boolean[] matches = new boolean[codes.size()];
+            for (int code = 0; code < matches.length; code++) {
+                matches[code] = filter.test(values[code]);
+            }
+            return matches;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.repository;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleStatus;
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Incrementally maintained secondary indexes over a store's vehicles.
+ * Keeps vehicle sets by type, by status and available-by-type, each with an atomic
+ * counter, so inventory queries cost O(result) and counts cost O(1). Seat buckets,
+ * sorted by seating capacity, answer minimum-seats lookups with a tail view, a
+ * {@link PriceIndex} answers price ranges cheapest first, and one {@link TextIndex}
+ * each over model and brand answers partial name lookups.
+ *
+ * Vehicles are re-indexed from their current state rather than by applying the
+ * reported old/new values, so notifications that arrive out of order still leave
+ * the index matching the vehicle.
+ */
+class InventoryIndex {
+
+    private final Map<VehicleType, Set<Vehicle>> vehiclesByType;
+    private final Map<VehicleStatus, Set<Vehicle>> vehiclesByStatus;
+    private final Map<VehicleType, Set<Vehicle>> availableVehiclesByType;
+    private final NavigableMap<Integer, Set<Vehicle>> vehiclesBySeats;
+    private final PriceIndex priceIndex;
+    private final TextIndex modelIndex;
+    private final TextIndex brandIndex;
+
+    private final Map<VehicleType, AtomicInteger> typeCounts;
+    private final Map<VehicleStatus, AtomicInteger> statusCounts;
+    private final Map<VehicleType, AtomicInteger> availableTypeCounts;
+
+    InventoryIndex() {
+        this.vehiclesByType = new EnumMap<>(VehicleType.class);
+        this.vehiclesByStatus = new EnumMap<>(VehicleStatus.class);
+        this.availableVehiclesByType = new EnumMap<>(VehicleType.class);
+        this.vehiclesBySeats = new ConcurrentSkipListMap<>();
+        this.priceIndex = new PriceIndex();
+        this.modelIndex = new TextIndex(Vehicle::getModel);
+        this.brandIndex = new TextIndex(Vehicle::getBrand);
+        this.typeCounts = new EnumMap<>(VehicleType.class);
+        this.statusCounts = new EnumMap<>(VehicleStatus.class);
+        this.availableTypeCounts = new EnumMap<>(VehicleType.class);
+
+        // Maps are fully populated up front and never structurally modified afterwards,
+        // which is what makes concurrent reads of the EnumMaps safe
+        for (VehicleType type : VehicleType.values()) {
+            vehiclesByType.put(type, ConcurrentHashMap.newKeySet());
+            availableVehiclesByType.put(type, ConcurrentHashMap.newKeySet());
+            typeCounts.put(type, new AtomicInteger());
+            availableTypeCounts.put(type, new AtomicInteger());
+        }
+        for (VehicleStatus status : VehicleStatus.values()) {
+            vehiclesByStatus.put(status, ConcurrentHashMap.newKeySet());
+            statusCounts.put(status, new AtomicInteger());
+        }
+    }
+
+    /**
+     * Brings the vehicle's index entries in line with its current type, status, seats, price, model and brand.
+     *
+     * @param vehicle Vehicle to re-index
+     * @param present Whether the vehicle is currently part of the inventory
+     * @return +1 if the vehicle became available, -1 if it stopped being available, 0 otherwise
+     */
+    int reindex(Vehicle vehicle, boolean present) {
+        // Per-vehicle lock: the last re-index to run always reads the latest state
+        synchronized (vehicle) {
+            VehicleType currentType = present ? vehicle.getVehicleType() : null;
+            VehicleStatus currentStatus = present ? vehicle.getStatus() : null;
+            int currentSeats = present ? vehicle.getSeatingCapacity() : -1;
+            boolean available = present && currentStatus == VehicleStatus.AVAILABLE;
+
+            for (VehicleType type : VehicleType.values()) {
+                update(vehiclesByType.get(type), typeCounts.get(type), vehicle, type == currentType);
+                update(availableVehiclesByType.get(type), availableTypeCounts.get(type), vehicle,
+                        available && type == currentType);
+            }
+            if (present) {
+                vehiclesBySeats.computeIfAbsent(currentSeats, seats -> ConcurrentHashMap.newKeySet());
+            }
+            // Buckets are never dropped and there are only a handful of distinct seat counts
+            for (Map.Entry<Integer, Set<Vehicle>> bucket : vehiclesBySeats.entrySet()) {
+                if (bucket.getKey() == currentSeats) {
+                    bucket.getValue().add(vehicle);
+                } else {
+                    bucket.getValue().remove(vehicle);
+                }
+            }
+
+            priceIndex.update(vehicle, present);
+            modelIndex.update(vehicle, present);
+            brandIndex.update(vehicle, present);
+
+            int availabilityChange = 0;
+            for (VehicleStatus status : VehicleStatus.values()) {
+                boolean changed = update(vehiclesByStatus.get(status), statusCounts.get(status), vehicle,
+                        status == currentStatus);
+                if (changed && status == VehicleStatus.AVAILABLE) {
+                    availabilityChange = available ? 1 : -1;
+                }
+            }
+            return availabilityChange;
+        }
+    }
+
+    Set<Vehicle> getVehiclesByType(VehicleType type) {
+        return Collections.unmodifiableSet(vehiclesByType.get(type));
+    }
+
+    Set<Vehicle> getVehiclesByStatus(VehicleStatus status) {
+        return Collections.unmodifiableSet(vehiclesByStatus.get(status));
+    }
+
+    Set<Vehicle> getAvailableVehiclesByType(VehicleType type) {
+        return Collections.unmodifiableSet(availableVehiclesByType.get(type));
+    }
+
+    /**
+     * Returns the seat buckets holding vehicles with at least the given seating capacity.
+     *
+     * @param minSeats Minimum seating capacity
+     * @return Live, read-only view of the matching buckets
+     */
+    Collection<Set<Vehicle>> getSeatBuckets(int minSeats) {
+        return Collections.unmodifiableCollection(vehiclesBySeats.tailMap(minSeats, true).values());
+    }
+
+    /**
+     * Counts vehicles with at least the given seating capacity, in O(distinct seat counts).
+     */
+    int getMinSeatsCount(int minSeats) {
+        int count = 0;
+        for (Set<Vehicle> bucket : vehiclesBySeats.tailMap(minSeats, true).values()) {
+            count += bucket.size();
+        }
+        return count;
+    }
+
+    PriceIndex getPriceIndex() {
+        return priceIndex;
+    }
+
+    TextIndex getModelIndex() {
+        return modelIndex;
+    }
+
+    TextIndex getBrandIndex() {
+        return brandIndex;
+    }
+
+    int getTypeCount(VehicleType type) {
+        return typeCounts.get(type).get();
+    }
+
+    int getStatusCount(VehicleStatus status) {
+        return statusCounts.get(status).get();
+    }
+
+    int getAvailableTypeCount(VehicleType type) {
+        return availableTypeCounts.get(type).get();
+    }
+
+    private static boolean update(Set<Vehicle> set, AtomicInteger counter, Vehicle vehicle, boolean member) {
+        // Counters move only when set membership actually changes, so they always match the sets
+        if (member) {
+            if (set.add(vehicle)) {
+                counter.incrementAndGet();
+                return true;
+            }
+        } else if (set.remove(vehicle)) {
+            counter.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.repository;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+
+/**
+ * Observer interface for changes to a store's vehicle inventory.
+ *
+ * Design Pattern: Observer Pattern
+ * Purpose: Lets system-wide indexes stay in sync with per-store inventories
+ * without the inventory knowing who depends on it.
+ */
+public interface InventoryObserver {
+
+    /**
+     * Called after a vehicle has been added to the inventory.
+     *
+     * @param inventory Inventory the vehicle was added to
+     * @param vehicle Added vehicle
+     */
+    void onVehicleAdded(VehicleInventoryManagement inventory, Vehicle vehicle);
+
+    /**
+     * Called after a vehicle has been removed from the inventory.
+     *
+     * @param inventory Inventory the vehicle was removed from
+     * @param vehicle Removed vehicle
+     */
+    void onVehicleRemoved(VehicleInventoryManagement inventory, Vehicle vehicle);
+
+    /**
+     * Called when a vehicle enters or leaves the inventory's available set, including
+     * when an available vehicle is added or removed. Fired exactly once per change.
+     *
+     * @param inventory Inventory holding the vehicle
+     * @param vehicle Changed vehicle
+     * @param available Whether the vehicle is now available for rental
+     */
+    default void onAvailabilityChanged(VehicleInventoryManagement inventory, Vehicle vehicle, boolean available) {
+    }
+
+    /**
+     * Called after the daily rental cost of a vehicle in the inventory has changed.
+     *
+     * @param inventory Inventory holding the vehicle
+     * @param vehicle Changed vehicle
+     * @param oldPrice Previous daily rental cost
+     * @param newPrice Current daily rental cost
+     */
+    default void onPriceChanged(VehicleInventoryManagement inventory, Vehicle vehicle, double oldPrice, double newPrice) {
+    }
+
+    /**
+     * Called after the model name or brand of a vehicle in the inventory has changed.
+     *
+     * @param inventory Inventory holding the vehicle
+     * @param vehicle Changed vehicle
+     */
+    default void onDescriptionChanged(VehicleInventoryManagement inventory, Vehicle vehicle) {
+    }
+
+    /**
+     * Called after any attribute of a vehicle in the inventory has changed: status,
+     * type, seats, price, model, brand, manufacturing year or mileage. Fired after
+     * the specific callbacks, for observers that mirror whole vehicles.
+     *
+     * @param inventory Inventory holding the vehicle
+     * @param vehicle Changed vehicle
+     */
+    default void onVehicleUpdated(VehicleInventoryManagement inventory, Vehicle vehicle) {
+    }
+}
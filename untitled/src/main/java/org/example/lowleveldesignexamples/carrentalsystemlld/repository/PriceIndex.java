@@ -0,0 +1,232 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.repository;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.SearchCursor;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.VehicleSearchPage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Concurrent index of vehicles sorted by daily rental cost.
+ * Range queries cost O(log n + k) and results come out cheapest first, which makes
+ * "cheapest N" and paging a walk over the head of the range.
+ *
+ * Entries are keyed by (price, vehicleId) as captured at indexing time, so a price
+ * change never corrupts the skip-list ordering; the vehicle is re-keyed instead.
+ */
+public class PriceIndex {
+
+    private final NavigableMap<PriceKey, Vehicle> vehiclesByPrice;
+    // Key each vehicle is currently stored under, needed to remove it after its price changed
+    private final Map<Vehicle, PriceKey> indexedKeys;
+
+    public PriceIndex() {
+        this.vehiclesByPrice = new ConcurrentSkipListMap<>();
+        this.indexedKeys = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Brings the vehicle's entry in line with its current price.
+     *
+     * @param vehicle Vehicle to re-index
+     * @param present Whether the vehicle is currently part of the indexed set
+     */
+    public void update(Vehicle vehicle, boolean present) {
+        // Same per-vehicle lock as InventoryIndex: the last update always reads the latest price
+        synchronized (vehicle) {
+            PriceKey currentKey = present ? new PriceKey(vehicle.getDailyRentalCost(), vehicle.getVehicleId()) : null;
+            PriceKey indexedKey = indexedKeys.get(vehicle);
+
+            if (indexedKey != null && !indexedKey.equals(currentKey)) {
+                vehiclesByPrice.remove(indexedKey, vehicle);
+                indexedKeys.remove(vehicle);
+            }
+            if (currentKey != null && !currentKey.equals(indexedKey)) {
+                vehiclesByPrice.put(currentKey, vehicle);
+                indexedKeys.put(vehicle, currentKey);
+            }
+        }
+    }
+
+    /**
+     * Gets the vehicles whose daily cost lies within the range, cheapest first.
+     *
+     * @param minPrice Minimum daily cost (inclusive)
+     * @param maxPrice Maximum daily cost (inclusive)
+     * @return Live, read-only view of the matching vehicles
+     */
+    public Collection<Vehicle> getVehiclesInRange(double minPrice, double maxPrice) {
+        return Collections.unmodifiableCollection(range(minPrice, maxPrice).values());
+    }
+
+    /**
+     * Counts vehicles in a price range, stopping early once the limit is reached.
+     * Lets callers compare the range's selectivity against other indexes in O(log n + limit).
+     *
+     * @param minPrice Minimum daily cost (inclusive)
+     * @param maxPrice Maximum daily cost (inclusive)
+     * @param limit Count at which to stop
+     * @return Number of vehicles in the range, capped at limit
+     */
+    public int countInRange(double minPrice, double maxPrice, int limit) {
+        int count = 0;
+        Iterator<Vehicle> iterator = range(minPrice, maxPrice).values().iterator();
+        while (count < limit && iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Gets one page of vehicles in a price range, cheapest first.
+     *
+     * @param minPrice Minimum daily cost (inclusive)
+     * @param maxPrice Maximum daily cost (inclusive)
+     * @param filter Additional filter, e.g. availability
+     * @param offset Number of matching vehicles to skip
+     * @param limit Maximum number of vehicles to return
+     * @return Matching vehicles in ascending price order
+     */
+    public List<Vehicle> findInRange(double minPrice, double maxPrice, Predicate<Vehicle> filter,
+                                     int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit cannot be negative");
+        }
+
+        List<Vehicle> page = new ArrayList<>(Math.min(limit, 64));
+        int skipped = 0;
+        for (Vehicle vehicle : range(minPrice, maxPrice).values()) {
+            if (page.size() == limit) {
+                break;
+            }
+            if (!filter.test(vehicle)) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                page.add(vehicle);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Gets the cheapest vehicles passing the filter.
+     *
+     * @param count Maximum number of vehicles to return
+     * @param filter Additional filter, e.g. availability
+     * @return Up to count vehicles in ascending price order
+     */
+    public List<Vehicle> findCheapest(int count, Predicate<Vehicle> filter) {
+        return findInRange(0, Double.MAX_VALUE, filter, 0, count);
+    }
+
+    /**
+     * Streams the vehicles in a price range, cheapest first. The stream walks the skip
+     * list lazily, so a filter followed by skip and limit stops at the last vehicle it
+     * needs instead of visiting the whole range.
+     *
+     * @param minPrice Minimum daily cost (inclusive)
+     * @param maxPrice Maximum daily cost (inclusive)
+     * @return Sequential stream of the vehicles in ascending price order
+     */
+    public Stream<Vehicle> streamInRange(double minPrice, double maxPrice) {
+        return range(minPrice, maxPrice).values().stream();
+    }
+
+    /**
+     * Gets the page of vehicles in a price range that follows a cursor, cheapest first.
+     * Seeking to the cursor costs O(log n), then entries are visited only until the
+     * page is full.
+     *
+     * @param minPrice Minimum daily cost (inclusive)
+     * @param maxPrice Maximum daily cost (inclusive)
+     * @param filter Additional filter, e.g. availability
+     * @param after Cursor from the previous page, or null for the first page
+     * @param limit Maximum number of vehicles to return
+     * @return Matching vehicles in ascending price order, with the cursor of the next page
+     */
+    public VehicleSearchPage findPage(double minPrice, double maxPrice, Predicate<Vehicle> filter,
+                                      SearchCursor after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive");
+        }
+
+        NavigableMap<PriceKey, Vehicle> entries = range(minPrice, maxPrice);
+        if (after != null) {
+            entries = entries.tailMap(new PriceKey(after.getPrice(), after.getVehicleId()), false);
+        }
+
+        List<Vehicle> page = new ArrayList<>(Math.min(limit, 64));
+        PriceKey last = null;
+        for (Map.Entry<PriceKey, Vehicle> entry : entries.entrySet()) {
+            if (filter.test(entry.getValue())) {
+                page.add(entry.getValue());
+                last = entry.getKey();
+                if (page.size() == limit) {
+                    break;
+                }
+            }
+        }
+        // The key the vehicle was indexed under, not its current price, keeps the cursor on the list
+        SearchCursor next = page.size() == limit ? new SearchCursor(last.price, last.vehicleId) : null;
+        return new VehicleSearchPage(page, next);
+    }
+
+    public int size() {
+        return vehiclesByPrice.size();
+    }
+
+    private NavigableMap<PriceKey, Vehicle> range(double minPrice, double maxPrice) {
+        if (minPrice > maxPrice) {
+            throw new IllegalArgumentException("Invalid price range");
+        }
+        // "" sorts before every vehicle ID, so these bounds cover all IDs at the edge prices
+        return vehiclesByPrice.subMap(new PriceKey(minPrice, ""), true,
+                new PriceKey(Math.nextUp(maxPrice), ""), false);
+    }
+
+    /**
+     * Sort key of the index. The vehicle ID breaks ties between equal prices.
+     */
+    private static final class PriceKey implements Comparable<PriceKey> {
+        private final double price;
+        private final String vehicleId;
+
+        private PriceKey(double price, String vehicleId) {
+            this.price = price;
+            this.vehicleId = vehicleId;
+        }
+
+        @Override
+        public int compareTo(PriceKey other) {
+            int byPrice = Double.compare(price, other.price);
+            return byPrice != 0 ? byPrice : vehicleId.compareTo(other.vehicleId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PriceKey)) return false;
+            PriceKey other = (PriceKey) o;
+            return Double.compare(price, other.price) == 0 && vehicleId.equals(other.vehicleId);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Double.hashCode(price) + vehicleId.hashCode();
+        }
+    }
+}
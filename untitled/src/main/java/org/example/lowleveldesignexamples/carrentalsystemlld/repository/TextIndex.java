@@ -0,0 +1,322 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.repository;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.VehicleSearchQuery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * N-gram index over one text attribute of vehicles, such as model or brand.
+ * Vehicles are grouped by distinct term (case-insensitive), and every term is
+ * registered under each 1-, 2- and 3-character gram of its text.
+ *
+ * A lookup walks the gram trie for the fragment, picks the smallest posting set
+ * and verifies candidate terms with regionMatches, so queries allocate no strings.
+ * Fragments of up to three characters are answered by the posting set directly.
+ *
+ * Writes are serialized on the index; reads are lock-free.
+ */
+public class TextIndex {
+
+    private static final int MAX_GRAM = 3;
+
+    /**
+     * Autocomplete ranking: prefix matches first, then more vehicles, then alphabetical.
+     */
+    public static final Comparator<Suggestion> RANKING = Comparator
+            .comparing(Suggestion::isPrefixMatch).reversed()
+            .thenComparing(Comparator.comparingInt(Suggestion::getVehicleCount).reversed())
+            .thenComparing(Suggestion::getText, String.CASE_INSENSITIVE_ORDER);
+
+    private final Function<Vehicle, String> field;
+    private final Map<String, Term> terms;
+    private final Map<Character, GramNode> grams;
+    // Term each vehicle is currently filed under, needed to remove it after its text changed
+    private final Map<Vehicle, Term> indexedTerms;
+
+    public TextIndex(Function<Vehicle, String> field) {
+        this.field = field;
+        this.terms = new ConcurrentHashMap<>();
+        this.grams = new ConcurrentHashMap<>();
+        this.indexedTerms = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Brings the vehicle's entry in line with the current value of the indexed attribute.
+     *
+     * @param vehicle Vehicle to re-index
+     * @param present Whether the vehicle is currently part of the indexed set
+     */
+    public synchronized void update(Vehicle vehicle, boolean present) {
+        String text = present ? field.apply(vehicle) : null;
+        String key = text == null || text.trim().isEmpty() ? null : text.trim().toLowerCase(Locale.ROOT);
+        Term indexed = indexedTerms.get(vehicle);
+
+        if (indexed != null && !indexed.key.equals(key)) {
+            indexed.vehicles.remove(vehicle);
+            indexedTerms.remove(vehicle);
+            if (indexed.vehicles.isEmpty()) {
+                removeTerm(indexed);
+            }
+        }
+        if (key != null && (indexed == null || !indexed.key.equals(key))) {
+            Term term = terms.get(key);
+            if (term == null) {
+                term = new Term(key, text.trim());
+                addTerm(term);
+            }
+            term.vehicles.add(vehicle);
+            indexedTerms.put(vehicle, term);
+        }
+    }
+
+    /**
+     * Counts vehicles whose attribute matches the fragment, in O(matching terms).
+     *
+     * @param fragment Text to look for, case-insensitive
+     * @param prefixOnly Whether the fragment must match at the start of the text
+     * @return Number of matching vehicles
+     */
+    public int countMatching(String fragment, boolean prefixOnly) {
+        int count = 0;
+        for (Term term : candidateTerms(fragment)) {
+            if (term.matches(fragment, prefixOnly)) {
+                count += term.vehicles.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Visits every vehicle whose attribute matches the fragment.
+     *
+     * @param fragment Text to look for, case-insensitive
+     * @param prefixOnly Whether the fragment must match at the start of the text
+     * @param action Callback for each matching vehicle
+     */
+    public void forEachMatching(String fragment, boolean prefixOnly, Consumer<Vehicle> action) {
+        for (Term term : candidateTerms(fragment)) {
+            if (term.matches(fragment, prefixOnly)) {
+                term.vehicles.forEach(action);
+            }
+        }
+    }
+
+    /**
+     * Gets the vehicles whose attribute matches the fragment.
+     *
+     * @param fragment Text to look for, case-insensitive
+     * @param prefixOnly Whether the fragment must match at the start of the text
+     * @return List of matching vehicles
+     */
+    public List<Vehicle> findMatching(String fragment, boolean prefixOnly) {
+        List<Vehicle> results = new ArrayList<>();
+        forEachMatching(fragment, prefixOnly, results::add);
+        return results;
+    }
+
+    /**
+     * Suggests the top-k distinct terms containing the fragment, ranked by {@link #RANKING}.
+     * Uses a bounded heap, so the cost is O(matching terms * log k).
+     *
+     * @param fragment Text typed so far, case-insensitive
+     * @param limit Maximum number of suggestions
+     * @return Suggestions, best first
+     */
+    public List<Suggestion> autocomplete(String fragment, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        // Worst suggestion on top, so it is the one evicted when the heap is full
+        PriorityQueue<Suggestion> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Term term : candidateTerms(fragment)) {
+            int vehicleCount = term.vehicles.size();
+            if (vehicleCount == 0 || !term.matches(fragment, false)) {
+                continue;
+            }
+            best.add(new Suggestion(term.text, vehicleCount, term.matches(fragment, true)));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>(best);
+        suggestions.sort(RANKING);
+        return suggestions;
+    }
+
+    /**
+     * Merges ranked suggestion lists, keeping the best k.
+     * A term that is both a model and a brand keeps its higher-ranked entry.
+     *
+     * @param first Ranked suggestions
+     * @param second Ranked suggestions
+     * @param limit Maximum number of suggestions
+     * @return Merged suggestions, best first
+     */
+    public static List<Suggestion> merge(List<Suggestion> first, List<Suggestion> second, int limit) {
+        List<Suggestion> merged = new ArrayList<>(first.size() + second.size());
+        merged.addAll(first);
+        merged.addAll(second);
+        merged.sort(RANKING);
+
+        List<Suggestion> top = new ArrayList<>(Math.min(limit, merged.size()));
+        Set<String> seen = new HashSet<>();
+        for (Suggestion suggestion : merged) {
+            if (top.size() == limit) {
+                break;
+            }
+            if (seen.add(suggestion.getText().toLowerCase(Locale.ROOT))) {
+                top.add(suggestion);
+            }
+        }
+        return top;
+    }
+
+    public int getTermCount() {
+        return terms.size();
+    }
+
+    /**
+     * Gets the terms that may contain the fragment: the posting set of its rarest gram.
+     */
+    private Set<Term> candidateTerms(String fragment) {
+        int length = fragment.length();
+        if (length == 0) {
+            throw new IllegalArgumentException("Search text cannot be empty");
+        }
+        if (length <= MAX_GRAM) {
+            GramNode node = findNode(fragment, 0, length);
+            return node != null ? node.terms : Collections.emptySet();
+        }
+
+        Set<Term> rarest = null;
+        for (int start = 0; start + MAX_GRAM <= length; start++) {
+            GramNode node = findNode(fragment, start, MAX_GRAM);
+            if (node == null) {
+                return Collections.emptySet();
+            }
+            if (rarest == null || node.terms.size() < rarest.size()) {
+                rarest = node.terms;
+            }
+        }
+        return rarest;
+    }
+
+    private GramNode findNode(String text, int start, int length) {
+        // Character.valueOf is cached for ASCII, so these lookups do not allocate
+        Map<Character, GramNode> level = grams;
+        GramNode node = null;
+        for (int i = start; i < start + length; i++) {
+            node = level.get(Character.toLowerCase(text.charAt(i)));
+            if (node == null) {
+                return null;
+            }
+            level = node.children;
+        }
+        return node;
+    }
+
+    private void addTerm(Term term) {
+        terms.put(term.key, term);
+        String key = term.key;
+        for (int start = 0; start < key.length(); start++) {
+            Map<Character, GramNode> level = grams;
+            for (int i = start; i < Math.min(start + MAX_GRAM, key.length()); i++) {
+                GramNode node = level.computeIfAbsent(key.charAt(i), c -> new GramNode());
+                node.terms.add(term);
+                level = node.children;
+            }
+        }
+    }
+
+    private void removeTerm(Term term) {
+        terms.remove(term.key, term);
+        String key = term.key;
+        for (int start = 0; start < key.length(); start++) {
+            Map<Character, GramNode> level = grams;
+            for (int i = start; i < Math.min(start + MAX_GRAM, key.length()); i++) {
+                GramNode node = level.get(key.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                // Empty gram nodes are kept; their number is bounded by the alphabet
+                node.terms.remove(term);
+                level = node.children;
+            }
+        }
+    }
+
+    /**
+     * Distinct indexed text with the vehicles carrying it.
+     */
+    private static final class Term {
+        private final String key;
+        private final String text;
+        private final Set<Vehicle> vehicles;
+
+        private Term(String key, String text) {
+            this.key = key;
+            this.text = text;
+            this.vehicles = ConcurrentHashMap.newKeySet();
+        }
+
+        private boolean matches(String fragment, boolean prefixOnly) {
+            return prefixOnly
+                    ? key.regionMatches(true, 0, fragment, 0, fragment.length())
+                    : VehicleSearchQuery.containsIgnoreCase(key, fragment);
+        }
+    }
+
+    /**
+     * Node of the gram trie: terms containing the gram spelled by the path to it.
+     */
+    private static final class GramNode {
+        private final Set<Term> terms = ConcurrentHashMap.newKeySet();
+        private final Map<Character, GramNode> children = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Autocomplete result: a distinct term and how many vehicles carry it.
+     */
+    public static final class Suggestion {
+        private final String text;
+        private final int vehicleCount;
+        private final boolean prefixMatch;
+
+        public Suggestion(String text, int vehicleCount, boolean prefixMatch) {
+            this.text = text;
+            this.vehicleCount = vehicleCount;
+            this.prefixMatch = prefixMatch;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public int getVehicleCount() {
+            return vehicleCount;
+        }
+
+        public boolean isPrefixMatch() {
+            return prefixMatch;
+        }
+
+        @Override
+        public String toString() {
+            return text + " (" + vehicleCount + ")";
+        }
+    }
+}
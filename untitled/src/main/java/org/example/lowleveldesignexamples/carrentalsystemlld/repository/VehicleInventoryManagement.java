@@ -3,12 +3,21 @@ package org.example.lowleveldesignexamples.carrentalsystemlld.repository;
 import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleStatus;
 import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
 import org.example.lowleveldesignexamples.carrentalsystemlld.exceptions.VehicleNotAvailableException;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Reservation;
 import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.VehicleObserver;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.SearchCursor;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.VehicleSearchPage;
+import org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search.VehicleSearchQuery;
 
+import java.time.LocalDate;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Repository class for managing vehicle inventory.
@@ -25,10 +34,25 @@ public class VehicleInventoryManagement {
     // Using ConcurrentHashMap for thread-safe operations
     private final Map<String, Vehicle> vehicles;
     private final String storeId;
+    private final List<InventoryObserver> observers;
+    
+    // Secondary indexes by type, status, seats and price, updated as vehicles change
+    private final InventoryIndex index;
+    private final VehicleObserver indexUpdater;
+    
+    // Held shared while a change is applied and announced, exclusively while an observer
+    // subscribes with a baseline; always taken after the vehicle's own lock
+    private final ReentrantReadWriteLock observerGate = new ReentrantReadWriteLock();
+    
+    // Calendar bookings behind vehicles reserved through the deprecated reserveVehicle
+    private final Map<String, Reservation> walkInHolds = new ConcurrentHashMap<>();
     
     public VehicleInventoryManagement(String storeId) {
         this.storeId = storeId;
         this.vehicles = new ConcurrentHashMap<>();
+        this.observers = new CopyOnWriteArrayList<>();
+        this.index = new InventoryIndex();
+        this.indexUpdater = new IndexUpdater();
         logger.info("Initialized vehicle inventory for store: " + storeId);
     }
     
@@ -43,11 +67,19 @@ public class VehicleInventoryManagement {
             throw new IllegalArgumentException("Vehicle cannot be null");
         }
         
-        if (vehicles.containsKey(vehicle.getVehicleId())) {
-            throw new IllegalArgumentException("Vehicle with ID " + vehicle.getVehicleId() + " already exists");
+        synchronized (vehicle) {
+            observerGate.readLock().lock();
+            try {
+                if (vehicles.putIfAbsent(vehicle.getVehicleId(), vehicle) != null) {
+                    throw new IllegalArgumentException("Vehicle with ID " + vehicle.getVehicleId() + " already exists");
+                }
+                
+                attach(vehicle);
+                notifyVehicleAdded(vehicle);
+            } finally {
+                observerGate.readLock().unlock();
+            }
         }
-        
-        vehicles.put(vehicle.getVehicleId(), vehicle);
         logger.info("Added vehicle to inventory: " + vehicle.getVehicleId() + " - " + vehicle.getModel());
     }
     
@@ -58,10 +90,22 @@ public class VehicleInventoryManagement {
      * @return true if vehicle was removed, false if not found
      */
     public boolean removeVehicle(String vehicleId) {
-        Vehicle removedVehicle = vehicles.remove(vehicleId);
-        if (removedVehicle != null) {
-            logger.info("Removed vehicle from inventory: " + vehicleId);
-            return true;
+        Vehicle removedVehicle;
+        // The vehicle's lock must be held before the gate, so look it up first and retry if it was replaced
+        while ((removedVehicle = vehicles.get(vehicleId)) != null) {
+            synchronized (removedVehicle) {
+                observerGate.readLock().lock();
+                try {
+                    if (vehicles.remove(vehicleId, removedVehicle)) {
+                        detach(removedVehicle);
+                        notifyVehicleRemoved(removedVehicle);
+                        logger.info("Removed vehicle from inventory: " + vehicleId);
+                        return true;
+                    }
+                } finally {
+                    observerGate.readLock().unlock();
+                }
+            }
         }
         logger.warning("Attempted to remove non-existent vehicle: " + vehicleId);
         return false;
@@ -78,11 +122,18 @@ public class VehicleInventoryManagement {
             throw new IllegalArgumentException("Vehicle cannot be null");
         }
         
-        if (!vehicles.containsKey(vehicle.getVehicleId())) {
+        Vehicle previous = vehicles.replace(vehicle.getVehicleId(), vehicle);
+        if (previous == null) {
             throw new IllegalArgumentException("Vehicle with ID " + vehicle.getVehicleId() + " not found");
         }
         
-        vehicles.put(vehicle.getVehicleId(), vehicle);
+        // Observers index vehicle instances, so a replaced instance must be re-indexed
+        if (previous != vehicle) {
+            detach(previous);
+            attach(vehicle);
+            notifyVehicleRemoved(previous);
+            notifyVehicleAdded(vehicle);
+        }
         logger.info("Updated vehicle in inventory: " + vehicle.getVehicleId());
     }
     
@@ -107,46 +158,270 @@ public class VehicleInventoryManagement {
     
     /**
      * Gets all available vehicles for rental.
+     * Served from the status index in O(result).
      * 
      * @return List of available vehicles
      */
     public List<Vehicle> getAvailableVehicles() {
-        return vehicles.values().stream()
-                .filter(Vehicle::isAvailableForRental)
-                .collect(Collectors.toList());
+        return new ArrayList<>(index.getVehiclesByStatus(VehicleStatus.AVAILABLE));
     }
     
     /**
      * Gets vehicles by type.
+     * Served from the type index in O(result).
      * 
      * @param vehicleType Type of vehicles to retrieve
      * @return List of vehicles of the specified type
      */
     public List<Vehicle> getVehiclesByType(VehicleType vehicleType) {
-        return vehicles.values().stream()
-                .filter(vehicle -> vehicle.getVehicleType() == vehicleType)
-                .collect(Collectors.toList());
+        return new ArrayList<>(index.getVehiclesByType(vehicleType));
     }
     
     /**
      * Gets available vehicles by type.
+     * Served from the available-by-type index in O(result).
      * 
      * @param vehicleType Type of vehicles to retrieve
      * @return List of available vehicles of the specified type
      */
     public List<Vehicle> getAvailableVehiclesByType(VehicleType vehicleType) {
-        return vehicles.values().stream()
-                .filter(Vehicle::isAvailableForRental)
-                .filter(vehicle -> vehicle.getVehicleType() == vehicleType)
-                .collect(Collectors.toList());
+        return new ArrayList<>(index.getAvailableVehiclesByType(vehicleType));
+    }
+    
+    /**
+     * Gets vehicles in a given status.
+     * Served from the status index in O(result).
+     * 
+     * @param status Status of vehicles to retrieve
+     * @return List of vehicles in the specified status
+     */
+    public List<Vehicle> getVehiclesByStatus(VehicleStatus status) {
+        return new ArrayList<>(index.getVehiclesByStatus(status));
+    }
+    
+    /**
+     * Finds vehicles matching a composite query.
+     * 
+     * @param query Search query
+     * @return List of matching vehicles
+     */
+    public List<Vehicle> findVehicles(VehicleSearchQuery query) {
+        List<Vehicle> results = new ArrayList<>();
+        findVehicles(query, results);
+        return results;
+    }
+    
+    /**
+     * Finds vehicles matching a composite query and appends them to the given collection.
+     * Scans only the most selective index for the query: available-by-type, type,
+     * status, seat buckets, price range or model/brand text. The remaining criteria are checked per candidate.
+     * Store and city criteria are not checked here, the caller selects the stores.
+     * 
+     * @param query Search query
+     * @param results Collection receiving the matching vehicles
+     */
+    public void findVehicles(VehicleSearchQuery query, Collection<? super Vehicle> results) {
+        if (query == null) {
+            throw new IllegalArgumentException("Search query cannot be null");
+        }
+        
+        for (Collection<Vehicle> candidates : selectCandidates(query)) {
+            for (Vehicle vehicle : candidates) {
+                if (query.matches(vehicle)) {
+                    results.add(vehicle);
+                }
+            }
+        }
     }
     
     /**
-     * Reserves a vehicle (changes status to RESERVED).
+     * Picks the smallest candidate set for a query using the O(1) index counters.
+     * Without a date window only AVAILABLE vehicles can match; with one, any vehicle
+     * in service can, so the available-only indexes cannot be used.
+     */
+    private Collection<? extends Collection<Vehicle>> selectCandidates(VehicleSearchQuery query) {
+        VehicleType type = query.getVehicleType();
+        Collection<Vehicle> best;
+        int bestSize;
+        
+        if (query.hasDateWindow()) {
+            best = vehicles.values();
+            bestSize = vehicles.size();
+            if (type != null && index.getTypeCount(type) < bestSize) {
+                best = index.getVehiclesByType(type);
+                bestSize = index.getTypeCount(type);
+            }
+        } else if (type != null) {
+            best = index.getAvailableVehiclesByType(type);
+            bestSize = index.getAvailableTypeCount(type);
+        } else {
+            best = index.getVehiclesByStatus(VehicleStatus.AVAILABLE);
+            bestSize = index.getStatusCount(VehicleStatus.AVAILABLE);
+        }
+        
+        Collection<? extends Collection<Vehicle>> candidates = Collections.singletonList(best);
+        
+        int minSeats = query.getMinSeats();
+        if (minSeats > 0) {
+            int seatCount = index.getMinSeatsCount(minSeats);
+            if (seatCount < bestSize) {
+                candidates = index.getSeatBuckets(minSeats);
+                bestSize = seatCount;
+            }
+        }
+        
+        if (query.hasPriceRange()) {
+            // Counting stops at the current best size, so a wide range costs no more than scanning best
+            PriceIndex priceIndex = index.getPriceIndex();
+            int priceCount = priceIndex.countInRange(query.getMinPrice(), query.getMaxPrice(), bestSize);
+            if (priceCount < bestSize) {
+                candidates = Collections.singletonList(
+                        priceIndex.getVehiclesInRange(query.getMinPrice(), query.getMaxPrice()));
+                bestSize = priceCount;
+            }
+        }
+        
+        String text = query.getModelText();
+        if (text != null) {
+            int textCount = index.getModelIndex().countMatching(text, false);
+            if (query.isMatchBrand()) {
+                textCount += index.getBrandIndex().countMatching(text, false);
+            }
+            if (textCount < bestSize) {
+                candidates = Collections.singletonList(findByText(text, query.isMatchBrand(), false));
+            }
+        }
+        return candidates;
+    }
+    
+    /**
+     * Gets vehicles whose model, and optionally brand, contains or starts with the text.
+     * Each vehicle is returned once even if both its model and brand match.
+     */
+    private List<Vehicle> findByText(String text, boolean matchBrand, boolean prefixOnly) {
+        List<Vehicle> results = index.getModelIndex().findMatching(text, prefixOnly);
+        if (matchBrand) {
+            index.getBrandIndex().forEachMatching(text, prefixOnly, vehicle -> {
+                String model = vehicle.getModel();
+                boolean modelMatches = prefixOnly
+                        ? model != null && model.regionMatches(true, 0, text, 0, text.length())
+                        : VehicleSearchQuery.containsIgnoreCase(model, text);
+                if (!modelMatches) {
+                    results.add(vehicle);
+                }
+            });
+        }
+        return results;
+    }
+    
+    /**
+     * Gets vehicles whose model or brand contains the text, ignoring case.
+     * Served from the model and brand n-gram indexes.
+     * 
+     * @param text Text to look for
+     * @param prefixOnly Whether the text must match at the start of the model or brand
+     * @return List of matching vehicles, regardless of availability
+     */
+    public List<Vehicle> findVehiclesByModelText(String text, boolean prefixOnly) {
+        if (text == null || text.trim().isEmpty()) {
+            throw new IllegalArgumentException("Model text cannot be empty");
+        }
+        return findByText(text.trim(), true, prefixOnly);
+    }
+    
+    /**
+     * Suggests the top-k model names and brands containing the typed text.
+     * Prefix matches rank first, then terms carried by more vehicles.
+     * 
+     * @param text Text typed so far
+     * @param limit Maximum number of suggestions
+     * @return Suggestions, best first
+     */
+    public List<TextIndex.Suggestion> autocomplete(String text, int limit) {
+        if (text == null || text.trim().isEmpty()) {
+            throw new IllegalArgumentException("Autocomplete text cannot be empty");
+        }
+        return TextIndex.merge(index.getModelIndex().autocomplete(text.trim(), limit),
+                index.getBrandIndex().autocomplete(text.trim(), limit), limit);
+    }
+    
+    /**
+     * Gets available vehicles within a price range, cheapest first, one page at a time.
+     * Served from the price index in O(log n + offset + limit) when most vehicles are available.
+     * 
+     * @param minPrice Minimum daily cost (inclusive)
+     * @param maxPrice Maximum daily cost (inclusive)
+     * @param offset Number of matching vehicles to skip
+     * @param limit Maximum number of vehicles to return
+     * @return Available vehicles in ascending price order
+     */
+    public List<Vehicle> getAvailableVehiclesByPriceRange(double minPrice, double maxPrice, int offset, int limit) {
+        return index.getPriceIndex().findInRange(minPrice, maxPrice, Vehicle::isAvailableForRental, offset, limit);
+    }
+    
+    /**
+     * Gets the cheapest available vehicles.
+     * 
+     * @param count Maximum number of vehicles to return
+     * @return Up to count available vehicles in ascending price order
+     */
+    public List<Vehicle> getCheapestAvailableVehicles(int count) {
+        return index.getPriceIndex().findCheapest(count, Vehicle::isAvailableForRental);
+    }
+    
+    /**
+     * Streams the vehicles matching a composite query, cheapest first, walking the
+     * price index lazily. Store and city criteria are not checked here.
+     * 
+     * @param query Search query
+     * @return Sequential stream of matching vehicles in ascending price order
+     */
+    public Stream<Vehicle> streamVehicles(VehicleSearchQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Search query cannot be null");
+        }
+        return index.getPriceIndex().streamInRange(query.getMinPrice(), query.getMaxPrice()).filter(query::matches);
+    }
+    
+    /**
+     * Finds the page of vehicles matching a composite query that follows a cursor,
+     * cheapest first. Store and city criteria are not checked here.
+     * 
+     * @param query Search query
+     * @param after Cursor from the previous page, or null for the first page
+     * @param limit Maximum number of vehicles to return
+     * @return Matching vehicles with the cursor of the next page
+     */
+    public VehicleSearchPage findVehicles(VehicleSearchQuery query, SearchCursor after, int limit) {
+        if (query == null) {
+            throw new IllegalArgumentException("Search query cannot be null");
+        }
+        return index.getPriceIndex().findPage(query.getMinPrice(), query.getMaxPrice(), query::matches, after, limit);
+    }
+    
+    /**
+     * Gets the count of available vehicles of a type in O(1).
+     * 
+     * @param vehicleType Vehicle type
+     * @return Available vehicle count for the type
+     */
+    public int getAvailableVehicleCount(VehicleType vehicleType) {
+        return index.getAvailableTypeCount(vehicleType);
+    }
+    
+    /**
+     * Reserves a vehicle for immediate use (changes status to RESERVED).
+     * Exactly one of several concurrent callers can reserve the same vehicle.
+     * Today is booked in the vehicle's availability calendar first, so it cannot also
+     * be sold through {@link #bookVehicle(Reservation)}; later dates stay for sale.
+     * {@link #releaseVehicle(String)} frees the booking again.
      * 
      * @param vehicleId ID of the vehicle to reserve
-     * @throws VehicleNotAvailableException if vehicle is not available
+     * @throws VehicleNotAvailableException if vehicle is not available or booked today
+     * @deprecated Reserves without a renter or return date. Create a reservation through
+     *             the rental system instead, which books its whole date range.
      */
+    @Deprecated
     public void reserveVehicle(String vehicleId) throws VehicleNotAvailableException {
         Vehicle vehicle = vehicles.get(vehicleId);
         
@@ -154,24 +429,83 @@ public class VehicleInventoryManagement {
             throw new VehicleNotAvailableException("Vehicle not found: " + vehicleId);
         }
         
-        if (!vehicle.isAvailableForRental()) {
-            throw new VehicleNotAvailableException(vehicleId);
+        LocalDate today = LocalDate.now();
+        Reservation hold = new Reservation("HOLD_" + vehicleId, null, vehicle, today, today.plusDays(1), null, null);
+        // Same lock as pickups and returns, so the booking and the status change as one
+        synchronized (vehicle) {
+            if (!vehicle.getAvailabilityCalendar().tryBook(hold)) {
+                throw new VehicleNotAvailableException(vehicleId);
+            }
+            // Compare-and-set closes the check-then-act race between concurrent reservations
+            if (!vehicle.compareAndSetStatus(VehicleStatus.AVAILABLE, VehicleStatus.RESERVED)) {
+                vehicle.getAvailabilityCalendar().release(hold);
+                throw new VehicleNotAvailableException(vehicleId);
+            }
+            // Picked up at once, so returns of other bookings leave the vehicle reserved
+            hold.activateReservation();
+            walkInHolds.put(vehicleId, hold);
         }
         
-        vehicle.setStatus(VehicleStatus.RESERVED);
         logger.info("Reserved vehicle: " + vehicleId);
     }
     
+    /**
+     * Books a vehicle for a reservation's date range.
+     * The vehicle stays rentable for every other, non-overlapping date range.
+     * 
+     * @param reservation Reservation whose vehicle and dates to book
+     * @throws VehicleNotAvailableException if the vehicle is unknown, out of service,
+     *         or already booked for an overlapping range
+     */
+    public void bookVehicle(Reservation reservation) throws VehicleNotAvailableException {
+        String vehicleId = reservation.getVehicle().getVehicleId();
+        Vehicle vehicle = vehicles.get(vehicleId);
+        
+        if (vehicle == null) {
+            throw new VehicleNotAvailableException("Vehicle not found: " + vehicleId);
+        }
+        
+        if (!vehicle.getStatus().isInService() || !vehicle.getAvailabilityCalendar().tryBook(reservation)) {
+            throw new VehicleNotAvailableException(vehicleId);
+        }
+        
+        logger.info("Booked vehicle " + vehicleId + " from " + reservation.getStartDate() 
+                + " to " + reservation.getEndDate());
+    }
+    
+    /**
+     * Frees the date range a reservation held on its vehicle.
+     * 
+     * @param reservation Reservation to release
+     */
+    public void releaseBooking(Reservation reservation) {
+        Vehicle vehicle = vehicles.get(reservation.getVehicle().getVehicleId());
+        
+        if (vehicle != null && vehicle.getAvailabilityCalendar().release(reservation)) {
+            logger.info("Released booking " + reservation.getReservationId() 
+                    + " on vehicle " + vehicle.getVehicleId());
+        }
+    }
+    
     /**
      * Releases a vehicle (changes status back to AVAILABLE).
+     * Vehicles become RESERVED when the reservation lifecycle activates a booking
+     * at pickup, or through the deprecated {@link #reserveVehicle(String)}, whose
+     * booking of today is freed here; bookings themselves live in the availability
+     * calendar, see {@link #bookVehicle(Reservation)}.
      * 
      * @param vehicleId ID of the vehicle to release
      */
     public void releaseVehicle(String vehicleId) {
         Vehicle vehicle = vehicles.get(vehicleId);
         
-        if (vehicle != null && vehicle.getStatus() == VehicleStatus.RESERVED) {
-            vehicle.setStatus(VehicleStatus.AVAILABLE);
+        Reservation hold = walkInHolds.remove(vehicleId);
+        if (hold != null) {
+            hold.completeReservation();
+            hold.getVehicle().getAvailabilityCalendar().release(hold);
+        }
+        
+        if (vehicle != null && vehicle.compareAndSetStatus(VehicleStatus.RESERVED, VehicleStatus.AVAILABLE)) {
             logger.info("Released vehicle: " + vehicleId);
         }
     }
@@ -199,19 +533,14 @@ public class VehicleInventoryManagement {
         Map<String, Integer> stats = new HashMap<>();
         
         stats.put("Total Vehicles", vehicles.size());
-        stats.put("Available", (int) vehicles.values().stream()
-                .filter(Vehicle::isAvailableForRental).count());
-        stats.put("Reserved", (int) vehicles.values().stream()
-                .filter(v -> v.getStatus() == VehicleStatus.RESERVED).count());
-        stats.put("In Maintenance", (int) vehicles.values().stream()
-                .filter(v -> v.getStatus() == VehicleStatus.MAINTENANCE).count());
-        stats.put("Retired", (int) vehicles.values().stream()
-                .filter(v -> v.getStatus() == VehicleStatus.RETIRED).count());
+        stats.put("Available", index.getStatusCount(VehicleStatus.AVAILABLE));
+        stats.put("Reserved", index.getStatusCount(VehicleStatus.RESERVED));
+        stats.put("In Maintenance", index.getStatusCount(VehicleStatus.MAINTENANCE));
+        stats.put("Retired", index.getStatusCount(VehicleStatus.RETIRED));
         
         // Statistics by vehicle type
         for (VehicleType type : VehicleType.values()) {
-            stats.put(type.getDisplayName() + "s", (int) vehicles.values().stream()
-                    .filter(v -> v.getVehicleType() == type).count());
+            stats.put(type.getDisplayName() + "s", index.getTypeCount(type));
         }
         
         return stats;
@@ -242,12 +571,173 @@ public class VehicleInventoryManagement {
      * @return Available vehicle count
      */
     public int getAvailableVehicleCount() {
-        return (int) vehicles.values().stream()
-                .filter(Vehicle::isAvailableForRental)
-                .count();
+        return index.getStatusCount(VehicleStatus.AVAILABLE);
+    }
+    
+    /**
+     * Registers an observer for inventory changes.
+     * 
+     * @param observer Observer to register
+     */
+    public void addObserver(InventoryObserver observer) {
+        if (observer != null) {
+            observers.add(observer);
+        }
+    }
+    
+    /**
+     * Registers an observer together with a baseline read of the inventory, e.g. its
+     * current counts. Changes are held off meanwhile, so every change is either
+     * reflected in the baseline or announced to the observer, never both or neither.
+     * 
+     * @param observer Observer to register
+     * @param baseline Reads the inventory's current state; must not change it
+     */
+    public void addObserver(InventoryObserver observer, Consumer<VehicleInventoryManagement> baseline) {
+        if (observer == null) {
+            throw new IllegalArgumentException("Observer cannot be null");
+        }
+        
+        observerGate.writeLock().lock();
+        try {
+            observers.add(observer);
+            baseline.accept(this);
+        } finally {
+            observerGate.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Unregisters an inventory observer.
+     * 
+     * @param observer Observer to remove
+     */
+    public void removeObserver(InventoryObserver observer) {
+        observers.remove(observer);
+    }
+    
+    /**
+     * Starts tracking a vehicle that joined the inventory.
+     */
+    private void attach(Vehicle vehicle) {
+        vehicle.setObserver(indexUpdater);
+        reindex(vehicle, true);
+    }
+    
+    /**
+     * Stops tracking a vehicle that left the inventory.
+     */
+    private void detach(Vehicle vehicle) {
+        if (vehicle.getObserver() == indexUpdater) {
+            vehicle.setObserver(null);
+        }
+        reindex(vehicle, false);
+    }
+    
+    private void reindex(Vehicle vehicle, boolean present) {
+        synchronized (vehicle) {
+            observerGate.readLock().lock();
+            try {
+                int availabilityChange = index.reindex(vehicle, present);
+                if (availabilityChange != 0) {
+                    for (InventoryObserver observer : observers) {
+                        observer.onAvailabilityChanged(this, vehicle, availabilityChange > 0);
+                    }
+                }
+            } finally {
+                observerGate.readLock().unlock();
+            }
+        }
+    }
+    
+    private void notifyVehicleAdded(Vehicle vehicle) {
+        for (InventoryObserver observer : observers) {
+            observer.onVehicleAdded(this, vehicle);
+        }
+    }
+    
+    private void notifyVehicleRemoved(Vehicle vehicle) {
+        for (InventoryObserver observer : observers) {
+            observer.onVehicleRemoved(this, vehicle);
+        }
+    }
+    
+    private void notifyVehicleUpdated(Vehicle vehicle) {
+        for (InventoryObserver observer : observers) {
+            observer.onVehicleUpdated(this, vehicle);
+        }
     }
     
     public String getStoreId() {
         return storeId;
     }
+    
+    /**
+     * Re-indexes vehicles whose status or type changes through their setters.
+     */
+    private class IndexUpdater implements VehicleObserver {
+        
+        @Override
+        public void onStatusChanged(Vehicle vehicle, VehicleStatus oldStatus, VehicleStatus newStatus) {
+            onIndexedAttributeChanged(vehicle);
+        }
+        
+        @Override
+        public void onTypeChanged(Vehicle vehicle, VehicleType oldType, VehicleType newType) {
+            onIndexedAttributeChanged(vehicle);
+        }
+
+        @Override
+        public void onSeatingCapacityChanged(Vehicle vehicle, int oldSeatingCapacity, int newSeatingCapacity) {
+            onIndexedAttributeChanged(vehicle);
+        }
+
+        @Override
+        public void onPriceChanged(Vehicle vehicle, double oldPrice, double newPrice) {
+            boolean present = vehicles.get(vehicle.getVehicleId()) == vehicle;
+            reindex(vehicle, present);
+            if (present) {
+                for (InventoryObserver observer : observers) {
+                    observer.onPriceChanged(VehicleInventoryManagement.this, vehicle, oldPrice, newPrice);
+                }
+                notifyVehicleUpdated(vehicle);
+            }
+        }
+
+        @Override
+        public void onModelChanged(Vehicle vehicle, String oldModel, String newModel) {
+            onDescriptionChanged(vehicle);
+        }
+
+        @Override
+        public void onBrandChanged(Vehicle vehicle, String oldBrand, String newBrand) {
+            onDescriptionChanged(vehicle);
+        }
+
+        @Override
+        public void onUsageChanged(Vehicle vehicle) {
+            if (vehicles.get(vehicle.getVehicleId()) == vehicle) {
+                notifyVehicleUpdated(vehicle);
+            }
+        }
+
+        private void onIndexedAttributeChanged(Vehicle vehicle) {
+            boolean present = vehicles.get(vehicle.getVehicleId()) == vehicle;
+            reindex(vehicle, present);
+            if (present) {
+                notifyVehicleUpdated(vehicle);
+            }
+        }
+
+        private void onDescriptionChanged(Vehicle vehicle) {
+            boolean present = vehicles.get(vehicle.getVehicleId()) == vehicle;
+            reindex(vehicle, present);
+            if (present) {
+                for (InventoryObserver observer : observers) {
+                    observer.onDescriptionChanged(VehicleInventoryManagement.this, vehicle);
+                }
+                notifyVehicleUpdated(vehicle);
+            }
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.id;
+
+/**
+ * Strategy interface for generating entity IDs (reservations, bills, payments).
+ *
+ * Design Pattern: Strategy Pattern
+ * Purpose: Lets the rental system swap ID schemes, e.g. time-ordered Snowflake IDs
+ * in production and predictable IDs in tests, without touching the callers.
+ */
+public interface IdGenerationStrategy {
+
+    /**
+     * Generates a new unique ID.
+     *
+     * @param prefix Entity prefix, e.g. "RES"
+     * @return Unique ID starting with the prefix
+     */
+    String generateId(String prefix);
+
+    /**
+     * Gets the name of this ID generation strategy.
+     *
+     * @return Strategy name
+     */
+    String getStrategyName();
+}
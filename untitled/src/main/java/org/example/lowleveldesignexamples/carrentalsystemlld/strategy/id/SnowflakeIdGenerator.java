@@ -0,0 +1,160 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake-style generator of 64-bit, time-ordered IDs.
+ * Layout: 41 bits of milliseconds since {@link #EPOCH_MILLIS}, 10 bits of node ID
+ * and a 12-bit per-millisecond sequence.
+ *
+ * Lock-free: the (timestamp, sequence) pair lives in one AtomicLong and advances by
+ * compare-and-set. When a millisecond's 4096 sequence values run out, or the clock
+ * steps backwards, the generator borrows from the next millisecond instead of
+ * spinning, so IDs from one generator are strictly increasing.
+ *
+ * String IDs are the prefix plus the ID in fixed-width Crockford base32 (13 chars).
+ * The alphabet is in ASCII order, so IDs with the same prefix sort by creation time.
+ */
+public class SnowflakeIdGenerator implements IdGenerationStrategy {
+
+    /** 2024-01-01T00:00:00Z; leaves about 69 years of 41-bit timestamps. */
+    public static final long EPOCH_MILLIS = 1704067200000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private static final char[] BASE32 = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ENCODED_LENGTH = 13;
+
+    private final long nodeBits;
+    // (milliseconds since epoch << SEQUENCE_BITS) | sequence of the last issued ID
+    private final AtomicLong lastTimeAndSequence;
+
+    /**
+     * Creates a generator for one node. Nodes generating concurrently must use
+     * different node IDs to avoid collisions.
+     *
+     * @param nodeId Node ID between 0 and 1023
+     */
+    public SnowflakeIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.lastTimeAndSequence = new AtomicLong();
+    }
+
+    /**
+     * Generates the next numeric ID.
+     *
+     * @return Unique, strictly increasing 64-bit ID
+     */
+    public long nextId() {
+        long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        while (true) {
+            long last = lastTimeAndSequence.get();
+            // A new millisecond restarts the sequence; otherwise take the next value,
+            // which carries into the timestamp once the sequence is exhausted
+            long next = now > last ? now : last + 1;
+            if (lastTimeAndSequence.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | sequence;
+            }
+        }
+    }
+
+    @Override
+    public String generateId(String prefix) {
+        long id = nextId();
+
+        // One char[] and one String per ID
+        char[] chars = new char[prefix.length() + 1 + ENCODED_LENGTH];
+        prefix.getChars(0, prefix.length(), chars, 0);
+        chars[prefix.length()] = '_';
+        encode(id, chars, prefix.length() + 1);
+        return new String(chars);
+    }
+
+    /**
+     * Encodes an ID as fixed-width Crockford base32.
+     *
+     * @param id ID to encode
+     * @return 13-character encoding that sorts like the ID
+     */
+    public static String encode(long id) {
+        char[] chars = new char[ENCODED_LENGTH];
+        encode(id, chars, 0);
+        return new String(chars);
+    }
+
+    private static void encode(long id, char[] chars, int offset) {
+        for (int i = offset + ENCODED_LENGTH - 1; i >= offset; i--) {
+            chars[i] = BASE32[(int) (id & 31)];
+            id >>>= 5;
+        }
+    }
+
+    /**
+     * Decodes the base32 part of an ID produced by this generator.
+     *
+     * @param encoded ID, with or without its prefix
+     * @return Numeric ID
+     * @throws IllegalArgumentException if the ID is not a valid encoding
+     */
+    public static long decode(String encoded) {
+        int start = encoded.length() - ENCODED_LENGTH;
+        if (start < 0) {
+            throw new IllegalArgumentException("Invalid ID: " + encoded);
+        }
+
+        long id = 0;
+        for (int i = start; i < encoded.length(); i++) {
+            int digit = digitOf(encoded.charAt(i));
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid ID: " + encoded);
+            }
+            id = (id << 5) | digit;
+        }
+        return id;
+    }
+
+    /**
+     * Gets the creation time embedded in an ID.
+     *
+     * @param id Numeric ID
+     * @return Creation time in epoch milliseconds
+     */
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    /**
+     * Gets the ID of the node that generated an ID.
+     *
+     * @param id Numeric ID
+     * @return Node ID between 0 and 1023
+     */
+    public static int nodeIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+
+    private static int digitOf(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        char upper = Character.toUpperCase(c);
+        for (int digit = 10; digit < BASE32.length; digit++) {
+            if (BASE32[digit] == upper) {
+                return digit;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Snowflake";
+    }
+}
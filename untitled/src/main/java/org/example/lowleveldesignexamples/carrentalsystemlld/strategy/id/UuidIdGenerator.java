@@ -0,0 +1,22 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.id;
+
+import java.util.UUID;
+
+/**
+ * Original ID scheme: prefix, creation millis and a random UUID fragment.
+ * IDs are not strictly ordered and every call goes through SecureRandom; kept
+ * for deployments that rely on the old format.
+ */
+public class UuidIdGenerator implements IdGenerationStrategy {
+
+    @Override
+    public String generateId(String prefix) {
+        return prefix + "_" + System.currentTimeMillis() + "_" +
+               UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "UUID";
+    }
+}
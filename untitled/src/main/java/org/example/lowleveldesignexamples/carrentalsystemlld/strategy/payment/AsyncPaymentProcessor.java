@@ -0,0 +1,324 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Payment;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Runs payment strategies asynchronously with a concurrency limit per gateway
+ * (payment method), a timeout and an idempotency key per payment.
+ *
+ * Payments beyond a gateway's limit wait in a queue rather than on a thread, so
+ * thousands of payments can be in flight while only as many threads as the limits
+ * allow are busy calling gateways. Gateway calls run on a pluggable executor; by
+ * default a pool of daemon threads that is effectively bounded by the limits.
+ *
+ * Concurrent submissions with the same idempotency key share one gateway call.
+ * The key is released once the call finishes, so a failed payment can be retried.
+ *
+ * A timeout only completes the caller's future: the gateway call keeps its slot
+ * and still records its outcome, and a retry with the same key joins it instead
+ * of charging twice.
+ */
+public class AsyncPaymentProcessor {
+
+    private static final Logger logger = Logger.getLogger(AsyncPaymentProcessor.class.getName());
+
+    public static final int DEFAULT_CONCURRENCY_LIMIT = 64;
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final Map<String, GatewayLane> lanes;
+    private final Map<String, Integer> concurrencyLimits;
+    private final Map<String, CompletableFuture<Payment>> inFlight;
+    private volatile int defaultConcurrencyLimit;
+    private volatile Duration timeout;
+
+    /**
+     * Creates a processor with its own pool of daemon threads.
+     */
+    public AsyncPaymentProcessor() {
+        this(Executors.newCachedThreadPool(new GatewayThreadFactory()), true);
+    }
+
+    /**
+     * Creates a processor running gateway calls on the given executor, e.g. a
+     * virtual-thread-per-task executor where the runtime provides one.
+     *
+     * @param executor Executor for gateway calls; not shut down by this processor
+     */
+    public AsyncPaymentProcessor(Executor executor) {
+        this(executor, false);
+    }
+
+    private AsyncPaymentProcessor(Executor executor, boolean owned) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.executor = executor;
+        this.ownedExecutor = owned ? (ExecutorService) executor : null;
+        this.lanes = new ConcurrentHashMap<>();
+        this.concurrencyLimits = new ConcurrentHashMap<>();
+        this.inFlight = new ConcurrentHashMap<>();
+        this.defaultConcurrencyLimit = DEFAULT_CONCURRENCY_LIMIT;
+        this.timeout = DEFAULT_TIMEOUT;
+    }
+
+    /**
+     * Submits a payment, or joins the one already in flight for the same key.
+     *
+     * @param idempotencyKey Key identifying the payment attempt, e.g. the bill ID
+     * @param paymentContext Context whose current strategy processes the payment;
+     *                       captured at submission
+     * @param paymentFactory Creates the payment; called at most once per attempt and
+     *                       may throw to reject the submission
+     * @param paymentDetails Payment details (strategy-specific)
+     * @param onProcessed Called once per attempt with the processed payment, on the
+     *                    gateway thread and before any caller's future completes
+     * @return Future completed with the processed payment, successful or not, or
+     *         exceptionally with a TimeoutException once the timeout elapses
+     */
+    public CompletableFuture<Payment> submit(String idempotencyKey, PaymentContext paymentContext,
+                                             Supplier<Payment> paymentFactory, Object paymentDetails,
+                                             Consumer<Payment> onProcessed) {
+        return submit(idempotencyKey, paymentContext, paymentFactory, paymentDetails, onProcessed, null);
+    }
+
+    /**
+     * Submits a payment as {@link #submit(String, PaymentContext, Supplier, Object, Consumer)}
+     * does, and is told when the attempt is over.
+     *
+     * @param onFinished Called once per attempt when the gateway call is over, however it
+     *                   ended, e.g. to give up a claim the factory took; may be null
+     */
+    public CompletableFuture<Payment> submit(String idempotencyKey, PaymentContext paymentContext,
+                                             Supplier<Payment> paymentFactory, Object paymentDetails,
+                                             Consumer<Payment> onProcessed, Runnable onFinished) {
+        if (idempotencyKey == null || paymentContext == null || paymentFactory == null) {
+            throw new IllegalArgumentException("Idempotency key, payment context and factory are required");
+        }
+        PaymentStrategy strategy = paymentContext.getPaymentStrategy();
+        if (strategy == null) {
+            throw new IllegalStateException("Payment strategy not set");
+        }
+
+        // Only the caller that registers the key creates the payment and starts the call
+        Payment[] created = new Payment[1];
+        CompletableFuture<Payment> call;
+        try {
+            call = inFlight.computeIfAbsent(idempotencyKey, key -> {
+                created[0] = paymentFactory.get();
+                return new CompletableFuture<>();
+            });
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (created[0] != null) {
+            start(idempotencyKey, call, strategy, created[0], paymentDetails, onProcessed, onFinished);
+        }
+
+        // Each caller gets its own timeout; it never cancels the shared call
+        return call.copy().orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void start(String key, CompletableFuture<Payment> call, PaymentStrategy strategy,
+                       Payment payment, Object paymentDetails, Consumer<Payment> onProcessed,
+                       Runnable onFinished) {
+        // Released only when the gateway call finishes, however long it takes
+        call.whenComplete((result, error) -> {
+            try {
+                if (onFinished != null) {
+                    onFinished.run();
+                }
+            } finally {
+                inFlight.remove(key, call);
+            }
+        });
+
+        PaymentContext context = new PaymentContext(strategy);
+        laneFor(strategy.getPaymentMethodName()).submit(() -> {
+            try {
+                context.processPayment(payment, paymentDetails);
+                if (onProcessed != null) {
+                    onProcessed.accept(payment);
+                }
+                call.complete(payment);
+            } catch (RuntimeException e) {
+                payment.processPaymentFailure("Payment processing error: " + e.getMessage());
+                call.completeExceptionally(e);
+            }
+        }, call);
+    }
+
+    private GatewayLane laneFor(String paymentMethod) {
+        return lanes.computeIfAbsent(paymentMethod,
+                method -> new GatewayLane(concurrencyLimits.getOrDefault(method, defaultConcurrencyLimit)));
+    }
+
+    /**
+     * Sets how many payments a gateway may process at once.
+     *
+     * @param paymentMethod Payment method name, as reported by its strategy
+     * @param limit Maximum concurrent gateway calls
+     */
+    public void setConcurrencyLimit(String paymentMethod, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Concurrency limit must be positive");
+        }
+        concurrencyLimits.put(paymentMethod, limit);
+        GatewayLane lane = lanes.get(paymentMethod);
+        if (lane != null) {
+            lane.resize(limit);
+        }
+    }
+
+    /**
+     * Sets the limit for gateways without their own limit. Applies to gateways
+     * first used afterwards.
+     *
+     * @param limit Maximum concurrent gateway calls
+     */
+    public void setDefaultConcurrencyLimit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Concurrency limit must be positive");
+        }
+        this.defaultConcurrencyLimit = limit;
+    }
+
+    /**
+     * Sets how long callers wait for a payment before their future times out.
+     *
+     * @param timeout Positive timeout
+     */
+    public void setTimeout(Duration timeout) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        this.timeout = timeout;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Gets the number of payments submitted and not yet finished.
+     *
+     * @return In-flight payment count
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Gets the number of payments waiting for a gateway slot.
+     *
+     * @param paymentMethod Payment method name
+     * @return Queued payment count
+     */
+    public int getQueuedCount(String paymentMethod) {
+        GatewayLane lane = lanes.get(paymentMethod);
+        return lane != null ? lane.queued.size() : 0;
+    }
+
+    /**
+     * Stops the processor's own threads after in-flight payments finish. A supplied
+     * executor is left to its owner.
+     */
+    public void shutdown() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Admits queued calls to one gateway while permits are available.
+     * Waiting costs a queue entry, not a thread.
+     */
+    private final class GatewayLane {
+        private final Queue<Runnable> queued = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger permits;
+        private int limit;
+
+        private GatewayLane(int limit) {
+            this.limit = limit;
+            this.permits = new AtomicInteger(limit);
+        }
+
+        private void submit(Runnable task, CompletableFuture<Payment> call) {
+            queued.add(() -> {
+                try {
+                    executor.execute(() -> {
+                        try {
+                            task.run();
+                        } finally {
+                            release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    logger.warning("Payment executor rejected a gateway call: " + e.getMessage());
+                    release();
+                    call.completeExceptionally(e);
+                }
+            });
+            drain();
+        }
+
+        private synchronized void resize(int newLimit) {
+            permits.addAndGet(newLimit - limit);
+            limit = newLimit;
+            drain();
+        }
+
+        private void release() {
+            permits.incrementAndGet();
+            drain();
+        }
+
+        private void drain() {
+            // Whoever adds a task or frees a permit drains, so no task is left waiting on a free permit
+            while (!queued.isEmpty()) {
+                int available = permits.get();
+                if (available <= 0) {
+                    return;
+                }
+                if (!permits.compareAndSet(available, available - 1)) {
+                    continue;
+                }
+                Runnable next = queued.poll();
+                if (next == null) {
+                    permits.incrementAndGet();
+                    continue;
+                }
+                next.run();
+            }
+        }
+    }
+
+    private static final class GatewayThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "payment-gateway-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment;
 
 import org.example.lowleveldesignexamples.carrentalsystemlld.model.Payment;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.logging.Logger;
 
@@ -77,6 +78,42 @@ public class CashPaymentStrategy implements PaymentStrategy {
         }
     }
     
+    /**
+     * Settles a batch of cash payments with one log line for the whole batch and
+     * transaction IDs drawn from a per-batch token instead of a UUID per payment.
+     */
+    @Override
+    public boolean[] processPayments(List<Payment> payments, List<?> paymentDetails) {
+        boolean[] results = new boolean[payments.size()];
+        String batchToken = UUID.randomUUID().toString().substring(0, 6).toUpperCase();
+        int settled = 0;
+        
+        for (int i = 0; i < results.length; i++) {
+            Payment payment = payments.get(i);
+            Object details = paymentDetails.get(i);
+            if (!validatePaymentDetails(details)) {
+                payment.processPaymentFailure("Invalid cash payment details");
+                continue;
+            }
+            
+            CashDetails cashDetails = (CashDetails) details;
+            if (cashDetails.getAmountReceived() < payment.getAmount()) {
+                payment.processPaymentFailure("Insufficient cash received. Required: $" + 
+                                            String.format("%.2f", payment.getAmount()) + 
+                                            ", Received: $" + String.format("%.2f", cashDetails.getAmountReceived()));
+                continue;
+            }
+            
+            payment.processPaymentSuccess("CASH_" + cashDetails.getLocationId() + "_" + batchToken 
+                    + "_" + Integer.toString(i, 36).toUpperCase());
+            results[i] = true;
+            settled++;
+        }
+        
+        logger.info("Settled cash batch " + batchToken + ": " + settled + " of " + results.length + " payments");
+        return results;
+    }
+    
     @Override
     public boolean validatePaymentDetails(Object paymentDetails) {
         if (!(paymentDetails instanceof CashDetails)) {
@@ -2,6 +2,9 @@ package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment;
 
 import org.example.lowleveldesignexamples.carrentalsystemlld.model.Payment;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.UUID;
 import java.util.logging.Logger;
 
@@ -13,6 +16,12 @@ public class CreditCardPaymentStrategy implements PaymentStrategy {
     
     private static final Logger logger = Logger.getLogger(CreditCardPaymentStrategy.class.getName());
     
+    private static final int MIN_CARD_DIGITS = 13;
+    private static final int MAX_CARD_DIGITS = 19;
+    
+    // Current month as year * 12 + (month - 1), refreshed when the month ends
+    private static volatile CurrentMonth currentMonth = CurrentMonth.of(System.currentTimeMillis());
+    
     /**
      * Inner class to represent credit card details.
      */
@@ -84,12 +93,12 @@ public class CreditCardPaymentStrategy implements PaymentStrategy {
         
         CreditCardDetails cardDetails = (CreditCardDetails) paymentDetails;
         
-        // Validate card number (basic Luhn algorithm check)
+        // Validate card number (digits and Luhn checksum)
         if (!isValidCardNumber(cardDetails.getCardNumber())) {
             return false;
         }
         
-        // Validate expiry date format (MM/YY)
+        // Validate expiry date (MM/YY, not yet expired)
         if (!isValidExpiryDate(cardDetails.getExpiryDate())) {
             return false;
         }
@@ -126,26 +135,107 @@ public class CreditCardPaymentStrategy implements PaymentStrategy {
         return "CC_" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
     }
     
-    private boolean isValidCardNumber(String cardNumber) {
-        if (cardNumber == null || cardNumber.replaceAll("\\s", "").length() < 13) {
+    /**
+     * Checks the card number in a single pass from the last digit: 13-19 digits,
+     * optionally separated by whitespace, with a valid Luhn checksum.
+     */
+    private static boolean isValidCardNumber(String cardNumber) {
+        if (cardNumber == null) {
             return false;
         }
         
-        // Basic format check (digits only after removing spaces)
-        String cleanNumber = cardNumber.replaceAll("\\s", "");
-        return cleanNumber.matches("\\d{13,19}");
+        int digits = 0;
+        int sum = 0;
+        for (int i = cardNumber.length() - 1; i >= 0; i--) {
+            char c = cardNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                int digit = c - '0';
+                // Every second digit from the right is doubled
+                if ((digits & 1) == 1) {
+                    digit *= 2;
+                    if (digit > 9) {
+                        digit -= 9;
+                    }
+                }
+                sum += digit;
+                if (++digits > MAX_CARD_DIGITS) {
+                    return false;
+                }
+            } else if (!Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return digits >= MIN_CARD_DIGITS && sum % 10 == 0;
     }
     
-    private boolean isValidExpiryDate(String expiryDate) {
-        if (expiryDate == null || !expiryDate.matches("\\d{2}/\\d{2}")) {
+    /**
+     * Checks an MM/YY expiry date; the card is valid through the end of that month.
+     */
+    private static boolean isValidExpiryDate(String expiryDate) {
+        if (expiryDate == null || expiryDate.length() != 5 || expiryDate.charAt(2) != '/') {
             return false;
         }
-        
-        // Additional validation could check if date is not expired
+        int month = twoDigits(expiryDate, 0);
+        int year = twoDigits(expiryDate, 3);
+        if (month < 1 || month > 12 || year < 0) {
+            return false;
+        }
+        return (2000 + year) * 12 + (month - 1) >= currentMonthIndex();
+    }
+    
+    private static boolean isValidCvv(String cvv) {
+        if (cvv == null || cvv.length() < 3 || cvv.length() > 4) {
+            return false;
+        }
+        for (int i = 0; i < cvv.length(); i++) {
+            char c = cvv.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
         return true;
     }
     
-    private boolean isValidCvv(String cvv) {
-        return cvv != null && cvv.matches("\\d{3,4}");
+    /**
+     * Parses two decimal digits at the given offset, or returns -1.
+     */
+    private static int twoDigits(String value, int offset) {
+        char tens = value.charAt(offset);
+        char units = value.charAt(offset + 1);
+        if (tens < '0' || tens > '9' || units < '0' || units > '9') {
+            return -1;
+        }
+        return (tens - '0') * 10 + (units - '0');
+    }
+    
+    private static int currentMonthIndex() {
+        long now = System.currentTimeMillis();
+        CurrentMonth month = currentMonth;
+        if (now >= month.endMillis) {
+            month = CurrentMonth.of(now);
+            currentMonth = month;
+        }
+        return month.index;
+    }
+    
+    /**
+     * Cached current month, so expiry checks do not allocate dates.
+     */
+    private static final class CurrentMonth {
+        private final int index;
+        private final long endMillis;
+        
+        private CurrentMonth(int index, long endMillis) {
+            this.index = index;
+            this.endMillis = endMillis;
+        }
+        
+        private static CurrentMonth of(long nowMillis) {
+            ZoneId zone = ZoneId.systemDefault();
+            LocalDate today = Instant.ofEpochMilli(nowMillis).atZone(zone).toLocalDate();
+            LocalDate nextMonth = today.withDayOfMonth(1).plusMonths(1);
+            return new CurrentMonth(today.getYear() * 12 + today.getMonthValue() - 1,
+                    nextMonth.atStartOfDay(zone).toInstant().toEpochMilli());
+        }
     }
 }
@@ -31,6 +31,10 @@ public class PaymentContext {
         this.paymentStrategy = paymentStrategy;
     }
     
+    public PaymentStrategy getPaymentStrategy() {
+        return paymentStrategy;
+    }
+    
     /**
      * Processes a payment using the current payment strategy.
      * 
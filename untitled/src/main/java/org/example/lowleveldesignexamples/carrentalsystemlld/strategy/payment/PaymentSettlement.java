@@ -0,0 +1,172 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Bill;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Payment;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * Settles many bills in one pass, e.g. a store's cash payments at day end.
+ *
+ * Items are validated in parallel (bill exists, is unpaid and appears once in
+ * the batch, details are valid for the strategy), then each bill is claimed so no
+ * other payment can charge it meanwhile, and the bills are grouped by strategy so
+ * each strategy settles its share in one call. A group's payments are recorded as
+ * soon as it is settled; a strategy that fails fails only its own group's payments.
+ * Invalid or already claimed items are rejected without creating a payment.
+ */
+public class PaymentSettlement {
+
+    private static final Logger logger = Logger.getLogger(PaymentSettlement.class.getName());
+
+    // Batches at least this large are validated in parallel
+    private static final int PARALLEL_SETTLEMENT_THRESHOLD = 512;
+
+    private final Function<String, Bill> billLookup;
+    private final Supplier<String> paymentIds;
+    private final Consumer<Payment> paymentRecorder;
+
+    /**
+     * @param billLookup Finds a bill by ID, null if unknown
+     * @param paymentIds Generates the ID of each new payment
+     * @param paymentRecorder Records each processed payment, successful or not
+     */
+    public PaymentSettlement(Function<String, Bill> billLookup, Supplier<String> paymentIds,
+                             Consumer<Payment> paymentRecorder) {
+        this.billLookup = billLookup;
+        this.paymentIds = paymentIds;
+        this.paymentRecorder = paymentRecorder;
+    }
+
+    /**
+     * @param items Bills to settle with their strategy and payment details
+     * @return Per-item results, in the order of the items
+     * @throws IllegalArgumentException if items is null
+     */
+    public List<SettlementResult> settle(List<SettlementItem> items) {
+        if (items == null) {
+            throw new IllegalArgumentException("Settlement items cannot be null");
+        }
+        int count = items.size();
+        Bill[] resolvedBills = new Bill[count];
+        String[] rejections = new String[count];
+
+        // Validation only reads shared state, so it can fan out
+        IntStream indices = IntStream.range(0, count);
+        if (count >= PARALLEL_SETTLEMENT_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            SettlementItem item = items.get(i);
+            Bill bill = billLookup.apply(item.getBillId());
+            if (bill == null) {
+                rejections[i] = "Bill not found";
+            } else if (bill.isPaid()) {
+                rejections[i] = "Bill already paid";
+            } else if (!item.getPaymentStrategy().validatePaymentDetails(item.getPaymentDetails())) {
+                rejections[i] = "Invalid " + item.getPaymentStrategy().getPaymentMethodName() + " payment details";
+            } else {
+                resolvedBills[i] = bill;
+            }
+        });
+
+        // Group by strategy instance; a bill listed twice is paid only once
+        Map<PaymentStrategy, List<Integer>> groups = new IdentityHashMap<>();
+        Set<String> batchBillIds = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            Bill bill = resolvedBills[i];
+            if (bill == null) {
+                continue;
+            }
+            if (!batchBillIds.add(items.get(i).getBillId())) {
+                rejections[i] = "Bill appears more than once in the batch";
+                resolvedBills[i] = null;
+                continue;
+            }
+            if (!bill.tryStartPayment()) {
+                rejections[i] = bill.isPaid() ? "Bill already paid" : "Bill payment already in progress";
+                resolvedBills[i] = null;
+                continue;
+            }
+            groups.computeIfAbsent(items.get(i).getPaymentStrategy(), strategy -> new ArrayList<>()).add(i);
+        }
+
+        Payment[] processed = new Payment[count];
+        try {
+            for (Map.Entry<PaymentStrategy, List<Integer>> group : groups.entrySet()) {
+                settleGroup(group.getKey(), group.getValue(), items, resolvedBills, processed);
+            }
+        } finally {
+            // Claims are normally given up group by group; this covers a group that never ran
+            for (int i = 0; i < count; i++) {
+                if (resolvedBills[i] != null) {
+                    resolvedBills[i].finishPayment();
+                }
+            }
+        }
+
+        List<SettlementResult> results = new ArrayList<>(count);
+        int settled = 0;
+        for (int i = 0; i < count; i++) {
+            String billId = items.get(i).getBillId();
+            if (processed[i] == null) {
+                results.add(SettlementResult.rejected(billId, rejections[i]));
+                continue;
+            }
+            SettlementResult result = SettlementResult.processed(billId, processed[i]);
+            if (result.isSuccessful()) {
+                settled++;
+            }
+            results.add(result);
+        }
+
+        logger.info("Settled " + settled + " of " + count + " payments in batch");
+        return results;
+    }
+
+    /**
+     * Settles one strategy's share of a batch and records its payments right away,
+     * so a later group failing cannot lose payments already charged.
+     */
+    private void settleGroup(PaymentStrategy strategy, List<Integer> indices, List<SettlementItem> items,
+                             Bill[] claimedBills, Payment[] processed) {
+        List<Payment> groupPayments = new ArrayList<>(indices.size());
+        List<Object> groupDetails = new ArrayList<>(indices.size());
+        for (int i : indices) {
+            Bill bill = claimedBills[i];
+            groupPayments.add(new Payment(paymentIds.get(), bill, bill.getTotalAmount(),
+                    strategy.getPaymentMethodName()));
+            groupDetails.add(items.get(i).getPaymentDetails());
+        }
+
+        try {
+            strategy.processPayments(groupPayments, groupDetails);
+        } catch (RuntimeException e) {
+            // Payments the strategy finished before failing keep their outcome
+            for (Payment payment : groupPayments) {
+                if (!payment.getStatus().isFinal()) {
+                    payment.processPaymentFailure("Payment processing error: " + e.getMessage());
+                }
+            }
+            logger.warning(strategy.getPaymentMethodName() + " batch failed: " + e.getMessage());
+        }
+
+        for (int j = 0; j < groupPayments.size(); j++) {
+            int i = indices.get(j);
+            paymentRecorder.accept(groupPayments.get(j));
+            processed[i] = groupPayments.get(j);
+            claimedBills[i].finishPayment();
+            claimedBills[i] = null;
+        }
+    }
+}
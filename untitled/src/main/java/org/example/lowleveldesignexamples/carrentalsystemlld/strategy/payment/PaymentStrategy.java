@@ -2,6 +2,8 @@ package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment;
 
 import org.example.lowleveldesignexamples.carrentalsystemlld.model.Payment;
 
+import java.util.List;
+
 /**
  * Strategy interface for payment processing algorithms.
  * 
@@ -20,6 +22,23 @@ public interface PaymentStrategy {
      */
     boolean processPayment(Payment payment, Object paymentDetails);
     
+    /**
+     * Processes several payments in one call, e.g. for end-of-day settlement.
+     * The default processes them one by one; strategies that can settle in bulk
+     * override it.
+     * 
+     * @param payments Payments to process
+     * @param paymentDetails Details for each payment, in the same order
+     * @return Per-payment outcome, in the same order
+     */
+    default boolean[] processPayments(List<Payment> payments, List<?> paymentDetails) {
+        boolean[] results = new boolean[payments.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = processPayment(payments.get(i), paymentDetails.get(i));
+        }
+        return results;
+    }
+    
     /**
      * Validates the payment details before processing.
      * 
@@ -0,0 +1,31 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment;
+
+/**
+ * One bill to settle in a payment batch, with the strategy and details to pay it with.
+ */
+public class SettlementItem {
+    private final String billId;
+    private final PaymentStrategy paymentStrategy;
+    private final Object paymentDetails;
+    
+    public SettlementItem(String billId, PaymentStrategy paymentStrategy, Object paymentDetails) {
+        if (billId == null || paymentStrategy == null) {
+            throw new IllegalArgumentException("Bill ID and payment strategy are required");
+        }
+        this.billId = billId;
+        this.paymentStrategy = paymentStrategy;
+        this.paymentDetails = paymentDetails;
+    }
+    
+    public String getBillId() {
+        return billId;
+    }
+    
+    public PaymentStrategy getPaymentStrategy() {
+        return paymentStrategy;
+    }
+    
+    public Object getPaymentDetails() {
+        return paymentDetails;
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.payment;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Payment;
+
+/**
+ * Outcome of one item of a payment batch: either the processed payment, successful
+ * or not, or the reason the item was rejected before any payment was made.
+ */
+public class SettlementResult {
+    private final String billId;
+    private final Payment payment;
+    private final String rejectionReason;
+    
+    private SettlementResult(String billId, Payment payment, String rejectionReason) {
+        this.billId = billId;
+        this.payment = payment;
+        this.rejectionReason = rejectionReason;
+    }
+    
+    public static SettlementResult processed(String billId, Payment payment) {
+        return new SettlementResult(billId, payment, null);
+    }
+    
+    public static SettlementResult rejected(String billId, String reason) {
+        return new SettlementResult(billId, null, reason);
+    }
+    
+    public boolean isSuccessful() {
+        return payment != null && payment.getStatus().isSuccessful();
+    }
+    
+    public boolean isRejected() {
+        return payment == null;
+    }
+    
+    /**
+     * Gets why the item did not settle.
+     * 
+     * @return Rejection or payment failure reason, null if it settled
+     */
+    public String getFailureReason() {
+        return payment != null ? payment.getFailureReason() : rejectionReason;
+    }
+    
+    public String getBillId() {
+        return billId;
+    }
+    
+    /**
+     * @return Processed payment, or null if the item was rejected
+     */
+    public Payment getPayment() {
+        return payment;
+    }
+    
+    @Override
+    public String toString() {
+        return "SettlementResult{billId='" + billId + "', " 
+                + (isSuccessful() ? "settled" : "failed: " + getFailureReason()) + "}";
+    }
+}
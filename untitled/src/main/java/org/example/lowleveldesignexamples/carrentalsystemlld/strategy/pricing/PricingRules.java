@@ -0,0 +1,274 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.pricing;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Bill;
+
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable set of dynamic pricing rules, applied on top of each vehicle's own
+ * feature-adjusted rate:
+ * <ul>
+ *   <li>seasonal rates by pickup month, for all vehicles or one vehicle type</li>
+ *   <li>long-rental discounts by rental length</li>
+ *   <li>surcharges by store, for all vehicles or one vehicle type</li>
+ *   <li>tax, processing fee and insurance fee by vehicle type, charged on the bill</li>
+ * </ul>
+ * Type-specific rules take precedence over general ones.
+ *
+ * Design Pattern: Builder Pattern
+ * Purpose: Rules are assembled one by one and validated as they are added.
+ *
+ * Usage:
+ * <pre>
+ * PricingRules rules = PricingRules.builder()
+ *         .seasonalRate(Month.JULY, 120)
+ *         .longRentalDiscount(7, 10)
+ *         .storeSurcharge("STORE001", 5)
+ *         .build();
+ * </pre>
+ */
+public class PricingRules {
+
+    private static final int MAX_RATE_PERCENT = 1000;
+
+    private final int[] seasonalPercent;
+    private final Map<VehicleType, int[]> typeSeasonalPercent;
+    private final NavigableMap<Integer, Integer> longRentalDiscounts;
+    private final Map<String, Integer> storeSurcharges;
+    private final Map<String, Map<VehicleType, Integer>> storeTypeSurcharges;
+    private final int taxPercent;
+    private final long processingFeeCents;
+    private final Map<VehicleType, Long> insuranceFees;
+
+    private PricingRules(Builder builder) {
+        this.seasonalPercent = builder.seasonalPercent.clone();
+        this.typeSeasonalPercent = new EnumMap<>(VehicleType.class);
+        builder.typeSeasonalPercent.forEach((type, rates) -> typeSeasonalPercent.put(type, rates.clone()));
+        this.longRentalDiscounts = Collections.unmodifiableNavigableMap(new TreeMap<>(builder.longRentalDiscounts));
+        this.storeSurcharges = Map.copyOf(builder.storeSurcharges);
+        Map<String, Map<VehicleType, Integer>> typeSurcharges = new HashMap<>();
+        builder.storeTypeSurcharges.forEach((storeId, byType) ->
+                typeSurcharges.put(storeId, Collections.unmodifiableMap(new EnumMap<>(byType))));
+        this.storeTypeSurcharges = Collections.unmodifiableMap(typeSurcharges);
+        this.taxPercent = builder.taxPercent;
+        this.processingFeeCents = builder.processingFeeCents;
+        this.insuranceFees = Collections.unmodifiableMap(new EnumMap<>(builder.insuranceFees));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the seasonal rate for a vehicle type and pickup month.
+     *
+     * @return Percentage of the vehicle's rate, 100 when no rule applies
+     */
+    public int getSeasonalPercent(VehicleType vehicleType, Month month) {
+        int[] rates = typeSeasonalPercent.get(vehicleType);
+        int typeRate = rates != null ? rates[month.ordinal()] : 0;
+        return typeRate != 0 ? typeRate : seasonalPercent[month.ordinal()];
+    }
+
+    /**
+     * Gets the discount for a rental length: that of the longest tier it reaches.
+     *
+     * @return Percentage off, 0 when no tier applies
+     */
+    public int getLongRentalDiscountPercent(int days) {
+        Map.Entry<Integer, Integer> tier = longRentalDiscounts.floorEntry(days);
+        return tier != null ? tier.getValue() : 0;
+    }
+
+    /**
+     * Gets the discount tiers, from minimum rental days to percentage off, in ascending order.
+     */
+    public NavigableMap<Integer, Integer> getLongRentalDiscounts() {
+        return longRentalDiscounts;
+    }
+
+    /**
+     * Gets the surcharge for a vehicle type at a store.
+     *
+     * @return Percentage added (negative for a store discount), 0 when no rule applies
+     */
+    public int getStoreSurchargePercent(String storeId, VehicleType vehicleType) {
+        Map<VehicleType, Integer> byType = storeTypeSurcharges.get(storeId);
+        if (byType != null && byType.containsKey(vehicleType)) {
+            return byType.get(vehicleType);
+        }
+        return storeSurcharges.getOrDefault(storeId, 0);
+    }
+
+    /**
+     * Gets the IDs of every store with a surcharge rule.
+     */
+    public Set<String> getSurchargedStoreIds() {
+        Set<String> storeIds = new HashSet<>(storeSurcharges.keySet());
+        storeIds.addAll(storeTypeSurcharges.keySet());
+        return storeIds;
+    }
+
+    public int getTaxPercent() {
+        return taxPercent;
+    }
+
+    /**
+     * Gets the processing and insurance fees billed for a vehicle type.
+     *
+     * @return Fees in cents
+     */
+    public long getAdditionalFeesCents(VehicleType vehicleType) {
+        Long insurance = insuranceFees.get(vehicleType);
+        if (insurance == null) {
+            // Default insurance is whatever the default fees charge beyond processing
+            insurance = Bill.defaultAdditionalFeesCents(vehicleType) - Bill.PROCESSING_FEE_CENTS;
+        }
+        return processingFeeCents + insurance;
+    }
+
+    @Override
+    public String toString() {
+        return "PricingRules{" +
+                "seasonalPercent=" + Arrays.toString(seasonalPercent) +
+                ", longRentalDiscounts=" + longRentalDiscounts +
+                ", storeSurcharges=" + storeSurcharges +
+                ", storeTypeSurcharges=" + storeTypeSurcharges +
+                ", taxPercent=" + taxPercent +
+                ", processingFeeCents=" + processingFeeCents +
+                '}';
+    }
+
+    /**
+     * Builder for {@link PricingRules}. Defaults to the standard prices: no seasons,
+     * discounts or surcharges, and the default tax and fees.
+     */
+    public static class Builder {
+        private final int[] seasonalPercent = new int[12];
+        private final Map<VehicleType, int[]> typeSeasonalPercent = new EnumMap<>(VehicleType.class);
+        private final NavigableMap<Integer, Integer> longRentalDiscounts = new TreeMap<>();
+        private final Map<String, Integer> storeSurcharges = new HashMap<>();
+        private final Map<String, Map<VehicleType, Integer>> storeTypeSurcharges = new HashMap<>();
+        private int taxPercent = Bill.DEFAULT_TAX_PERCENT;
+        private long processingFeeCents = Bill.PROCESSING_FEE_CENTS;
+        private final Map<VehicleType, Long> insuranceFees = new EnumMap<>(VehicleType.class);
+
+        private Builder() {
+            Arrays.fill(seasonalPercent, 100);
+        }
+
+        /**
+         * Sets the rate for rentals picked up in a month, for all vehicle types.
+         *
+         * @param percent Percentage of the vehicle's rate, e.g. 120 for peak season
+         */
+        public Builder seasonalRate(Month month, int percent) {
+            seasonalPercent[month.ordinal()] = validRate(percent);
+            return this;
+        }
+
+        /**
+         * Sets the rate for one vehicle type picked up in a month.
+         */
+        public Builder seasonalRate(VehicleType vehicleType, Month month, int percent) {
+            typeSeasonalPercent.computeIfAbsent(vehicleType, type -> new int[12])[month.ordinal()] = validRate(percent);
+            return this;
+        }
+
+        /**
+         * Discounts rentals of at least the given length.
+         *
+         * @param minDays Minimum rental days for the discount
+         * @param percentOff Percentage off, e.g. 10 for a weekly discount
+         */
+        public Builder longRentalDiscount(int minDays, int percentOff) {
+            if (minDays < 2) {
+                throw new IllegalArgumentException("Long-rental discounts start at 2 days or more");
+            }
+            if (percentOff < 0 || percentOff >= 100) {
+                throw new IllegalArgumentException("Discount must be between 0 and 99 percent");
+            }
+            longRentalDiscounts.put(minDays, percentOff);
+            return this;
+        }
+
+        /**
+         * Adds a surcharge to every rental from a store.
+         *
+         * @param percent Percentage added; negative for a store discount
+         */
+        public Builder storeSurcharge(String storeId, int percent) {
+            storeSurcharges.put(validStoreId(storeId), validSurcharge(percent));
+            return this;
+        }
+
+        /**
+         * Adds a surcharge to rentals of one vehicle type from a store.
+         */
+        public Builder storeSurcharge(String storeId, VehicleType vehicleType, int percent) {
+            storeTypeSurcharges.computeIfAbsent(validStoreId(storeId), id -> new EnumMap<>(VehicleType.class))
+                    .put(vehicleType, validSurcharge(percent));
+            return this;
+        }
+
+        public Builder taxPercent(int taxPercent) {
+            if (taxPercent < 0 || taxPercent > 100) {
+                throw new IllegalArgumentException("Tax must be between 0 and 100 percent");
+            }
+            this.taxPercent = taxPercent;
+            return this;
+        }
+
+        public Builder processingFee(long cents) {
+            if (cents < 0) {
+                throw new IllegalArgumentException("Processing fee cannot be negative");
+            }
+            this.processingFeeCents = cents;
+            return this;
+        }
+
+        public Builder insuranceFee(VehicleType vehicleType, long cents) {
+            if (cents < 0) {
+                throw new IllegalArgumentException("Insurance fee cannot be negative");
+            }
+            insuranceFees.put(vehicleType, cents);
+            return this;
+        }
+
+        public PricingRules build() {
+            return new PricingRules(this);
+        }
+
+        private static int validRate(int percent) {
+            if (percent <= 0 || percent > MAX_RATE_PERCENT) {
+                throw new IllegalArgumentException("Rate must be between 1 and " + MAX_RATE_PERCENT + " percent");
+            }
+            return percent;
+        }
+
+        private static int validSurcharge(int percent) {
+            if (percent <= -100 || percent > MAX_RATE_PERCENT) {
+                throw new IllegalArgumentException("Surcharge must be above -100 and at most "
+                        + MAX_RATE_PERCENT + " percent");
+            }
+            return percent;
+        }
+
+        private static String validStoreId(String storeId) {
+            if (storeId == null) {
+                throw new IllegalArgumentException("Store ID cannot be null");
+            }
+            return storeId;
+        }
+    }
+}
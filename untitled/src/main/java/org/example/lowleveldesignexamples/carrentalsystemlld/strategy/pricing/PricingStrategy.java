@@ -0,0 +1,50 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.pricing;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+
+import java.time.LocalDate;
+
+/**
+ * Strategy interface for pricing rentals and the charges added to their bills.
+ *
+ * Design Pattern: Strategy Pattern
+ * Purpose: Lets the rental system switch from fixed per-vehicle prices to dynamic
+ * pricing (seasons, long-rental discounts, store surcharges) without touching
+ * reservations or billing.
+ */
+public interface PricingStrategy {
+
+    /**
+     * Quotes the rental cost of a vehicle.
+     *
+     * @param storeId Store the vehicle is rented from
+     * @param vehicle Vehicle to rent
+     * @param startDate Pickup date
+     * @param days Rental days, at least 1
+     * @return Rental cost in cents, before tax and fees
+     */
+    long quoteRentalCents(String storeId, Vehicle vehicle, LocalDate startDate, int days);
+
+    /**
+     * Gets the tax charged on the rental cost.
+     *
+     * @return Tax as a percentage of the rental cost
+     */
+    int getTaxPercent();
+
+    /**
+     * Gets the fees added to every bill for a vehicle type (processing, insurance).
+     *
+     * @param vehicleType Vehicle type
+     * @return Fees in cents
+     */
+    long getAdditionalFeesCents(VehicleType vehicleType);
+
+    /**
+     * Gets the name of this pricing strategy.
+     *
+     * @return Strategy name
+     */
+    String getStrategyName();
+}
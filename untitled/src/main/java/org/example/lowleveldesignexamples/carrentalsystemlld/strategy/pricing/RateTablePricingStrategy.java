@@ -0,0 +1,163 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.pricing;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Money;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Dynamic pricing from {@link PricingRules}, compiled into a rate table.
+ *
+ * Compiling resolves every rule once into a multiplier per (store, vehicle type,
+ * pickup month, rental-length bucket), so a quote is a few array lookups and one
+ * multiplication, whatever the number of rules. Stores without a surcharge rule
+ * share one row.
+ *
+ * {@link #reload} compiles the new rules aside and publishes the table with a single
+ * volatile write: quotes never lock, and each quote sees either the old or the new
+ * rules, never a mix.
+ */
+public class RateTablePricingStrategy implements PricingStrategy {
+
+    private static final Logger logger = Logger.getLogger(RateTablePricingStrategy.class.getName());
+
+    private static final VehicleType[] TYPES = VehicleType.values();
+    private static final Month[] MONTHS = Month.values();
+    // Table multipliers are parts per million of the vehicle's own rate
+    private static final long RATE_SCALE = 1_000_000;
+
+    private volatile RateTable table;
+
+    public RateTablePricingStrategy(PricingRules rules) {
+        this.table = compile(rules);
+    }
+
+    /**
+     * Replaces the pricing rules. Quotes in progress finish with the old rules.
+     *
+     * @param rules New rules
+     */
+    public void reload(PricingRules rules) {
+        RateTable compiled = compile(rules);
+        this.table = compiled;
+        logger.info("Reloaded pricing rules: " + compiled.storeSlots.size() + " surcharged stores, "
+                + compiled.bucketCount + " rental-length buckets");
+    }
+
+    public PricingRules getRules() {
+        return table.rules;
+    }
+
+    @Override
+    public long quoteRentalCents(String storeId, Vehicle vehicle, LocalDate startDate, int days) {
+        if (days < 1) {
+            throw new IllegalArgumentException("Rental days must be at least 1");
+        }
+        RateTable current = table;
+        Integer slot = current.storeSlots.get(storeId);
+        int bucket = current.bucketByDays[Math.min(days, current.bucketByDays.length - 1)];
+        long rate = current.rates[current.index(slot != null ? slot : 0,
+                vehicle.getVehicleType().ordinal(), startDate.getMonthValue() - 1, bucket)];
+
+        long baseCents = Money.toCents(vehicle.calculateRentalCost(days));
+        return (baseCents * rate + RATE_SCALE / 2) / RATE_SCALE;
+    }
+
+    @Override
+    public int getTaxPercent() {
+        return table.taxPercent;
+    }
+
+    @Override
+    public long getAdditionalFeesCents(VehicleType vehicleType) {
+        return table.feesCents[vehicleType.ordinal()];
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Rate Table";
+    }
+
+    private static RateTable compile(PricingRules rules) {
+        if (rules == null) {
+            throw new IllegalArgumentException("Pricing rules cannot be null");
+        }
+
+        // Slot 0 is every store without a surcharge rule
+        Map<String, Integer> storeSlots = new HashMap<>();
+        String[] slotStores = new String[rules.getSurchargedStoreIds().size() + 1];
+        for (String storeId : rules.getSurchargedStoreIds()) {
+            int slot = storeSlots.size() + 1;
+            storeSlots.put(storeId, slot);
+            slotStores[slot] = storeId;
+        }
+
+        // Bucket 0 has no discount; bucket i starts at the i-th discount tier
+        int[] tierStarts = rules.getLongRentalDiscounts().keySet().stream().mapToInt(Integer::intValue).toArray();
+        int bucketCount = tierStarts.length + 1;
+        int[] bucketByDays = new int[tierStarts.length > 0 ? tierStarts[tierStarts.length - 1] + 1 : 1];
+        int[] bucketDiscount = new int[bucketCount];
+        for (int bucket = 1; bucket < bucketCount; bucket++) {
+            bucketDiscount[bucket] = rules.getLongRentalDiscountPercent(tierStarts[bucket - 1]);
+        }
+        for (int days = 0, bucket = 0; days < bucketByDays.length; days++) {
+            while (bucket < tierStarts.length && days >= tierStarts[bucket]) {
+                bucket++;
+            }
+            bucketByDays[days] = bucket;
+        }
+
+        RateTable compiled = new RateTable(rules, storeSlots, bucketByDays, bucketCount, slotStores.length);
+        for (int slot = 0; slot < slotStores.length; slot++) {
+            for (VehicleType type : TYPES) {
+                int surcharge = slotStores[slot] != null
+                        ? rules.getStoreSurchargePercent(slotStores[slot], type) : 0;
+                for (Month month : MONTHS) {
+                    int season = rules.getSeasonalPercent(type, month);
+                    for (int bucket = 0; bucket < bucketCount; bucket++) {
+                        // Percentages multiply out to parts per million
+                        compiled.rates[compiled.index(slot, type.ordinal(), month.ordinal(), bucket)] =
+                                season * (100 - bucketDiscount[bucket]) * (100 + surcharge);
+                    }
+                }
+            }
+        }
+        for (VehicleType type : TYPES) {
+            compiled.feesCents[type.ordinal()] = rules.getAdditionalFeesCents(type);
+        }
+        return compiled;
+    }
+
+    /**
+     * Compiled rules; never modified once published.
+     */
+    private static final class RateTable {
+        private final PricingRules rules;
+        private final Map<String, Integer> storeSlots;
+        private final int[] bucketByDays;
+        private final int bucketCount;
+        private final int[] rates;
+        private final int taxPercent;
+        private final long[] feesCents;
+
+        private RateTable(PricingRules rules, Map<String, Integer> storeSlots, int[] bucketByDays,
+                          int bucketCount, int slotCount) {
+            this.rules = rules;
+            this.storeSlots = storeSlots;
+            this.bucketByDays = bucketByDays;
+            this.bucketCount = bucketCount;
+            this.rates = new int[slotCount * TYPES.length * MONTHS.length * bucketCount];
+            this.taxPercent = rules.getTaxPercent();
+            this.feesCents = new long[TYPES.length];
+        }
+
+        private int index(int slot, int type, int month, int bucket) {
+            return ((slot * TYPES.length + type) * MONTHS.length + month) * bucketCount + bucket;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.pricing;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Money;
+
+import java.time.LocalDate;
+
+/**
+ * Quotes for many vehicles over one date range, e.g. for a price comparison page.
+ * Amounts are held in parallel primitive arrays, indexed like the vehicle IDs, so
+ * a sheet of thousands of quotes is a handful of objects.
+ */
+public class RentalQuotes {
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String[] vehicleIds;
+    private final long[] rentalCents;
+    private final long[] taxCents;
+    private final long[] feesCents;
+
+    public RentalQuotes(LocalDate startDate, LocalDate endDate, String[] vehicleIds,
+                        long[] rentalCents, long[] taxCents, long[] feesCents) {
+        if (rentalCents.length != vehicleIds.length || taxCents.length != vehicleIds.length
+                || feesCents.length != vehicleIds.length) {
+            throw new IllegalArgumentException("Quote arrays must all have one entry per vehicle");
+        }
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.vehicleIds = vehicleIds;
+        this.rentalCents = rentalCents;
+        this.taxCents = taxCents;
+        this.feesCents = feesCents;
+    }
+
+    public int size() {
+        return vehicleIds.length;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public String getVehicleId(int index) {
+        return vehicleIds[index];
+    }
+
+    /**
+     * Gets the rental cost before tax and fees.
+     */
+    public long getRentalCents(int index) {
+        return rentalCents[index];
+    }
+
+    public long getTaxCents(int index) {
+        return taxCents[index];
+    }
+
+    public long getFeesCents(int index) {
+        return feesCents[index];
+    }
+
+    /**
+     * Gets the total the bill would show: rental cost, tax and fees.
+     */
+    public long getTotalCents(int index) {
+        return rentalCents[index] + taxCents[index] + feesCents[index];
+    }
+
+    public double getTotalAmount(int index) {
+        return Money.toAmount(getTotalCents(index));
+    }
+
+    /**
+     * Finds the quote with the lowest total.
+     *
+     * @return Index of the cheapest quote, or -1 if there are none
+     */
+    public int cheapestIndex() {
+        int cheapest = -1;
+        for (int i = 0; i < vehicleIds.length; i++) {
+            if (cheapest < 0 || getTotalCents(i) < getTotalCents(cheapest)) {
+                cheapest = i;
+            }
+        }
+        return cheapest;
+    }
+
+    @Override
+    public String toString() {
+        return "RentalQuotes{" +
+                "startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", quotes=" + vehicleIds.length +
+                '}';
+    }
+}
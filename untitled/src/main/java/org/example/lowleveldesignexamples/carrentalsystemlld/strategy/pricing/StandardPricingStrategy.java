@@ -0,0 +1,35 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.pricing;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Bill;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Money;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+
+import java.time.LocalDate;
+
+/**
+ * Prices rentals by each vehicle's own daily rate and features, with the default
+ * tax rate and fees. Dates and stores do not affect the price.
+ */
+public class StandardPricingStrategy implements PricingStrategy {
+
+    @Override
+    public long quoteRentalCents(String storeId, Vehicle vehicle, LocalDate startDate, int days) {
+        return Money.toCents(vehicle.calculateRentalCost(days));
+    }
+
+    @Override
+    public int getTaxPercent() {
+        return Bill.DEFAULT_TAX_PERCENT;
+    }
+
+    @Override
+    public long getAdditionalFeesCents(VehicleType vehicleType) {
+        return Bill.defaultAdditionalFeesCents(vehicleType);
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Standard";
+    }
+}
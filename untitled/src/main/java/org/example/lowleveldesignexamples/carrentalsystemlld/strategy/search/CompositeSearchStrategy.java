@@ -0,0 +1,31 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+
+import java.util.function.Predicate;
+
+/**
+ * Strategy for searching vehicles with a combined {@link VehicleSearchQuery}.
+ * Lets a composite query run through the regular search context over a vehicle list.
+ * Store and city criteria need store context and are only applied by
+ * {@code VehicleRentalSystem.searchVehicles(VehicleSearchQuery)}.
+ */
+public class CompositeSearchStrategy implements VehicleSearchStrategy {
+
+    @Override
+    public Predicate<Vehicle> createMatcher(Object criteria) {
+        if (!(criteria instanceof VehicleSearchQuery)) {
+            throw new IllegalArgumentException("Criteria must be of type VehicleSearchQuery");
+        }
+
+        VehicleSearchQuery query = (VehicleSearchQuery) criteria;
+
+        // The query checks availability itself, honouring its own date window
+        return query::matches;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Composite Search";
+    }
+}
@@ -2,12 +2,13 @@ package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search;
 
 import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 /**
  * Strategy for searching vehicles by model name.
  * Filters vehicles based on partial or exact model name matching.
+ * Partial matching runs against the model n-gram index when searched through the
+ * rental system; list scans compare in place without lowercase copies.
  */
 public class SearchByModelStrategy implements VehicleSearchStrategy {
     
@@ -22,7 +23,21 @@ public class SearchByModelStrategy implements VehicleSearchStrategy {
     }
     
     @Override
-    public List<Vehicle> searchVehicles(List<Vehicle> vehicles, Object criteria) {
+    public Predicate<Vehicle> createMatcher(Object criteria) {
+        String targetModel = validateModel(criteria);
+        
+        return vehicle -> matchesModel(vehicle.getModel(), targetModel);
+    }
+    
+    @Override
+    public VehicleSearchQuery.Builder toQuery(Object criteria) {
+        String targetModel = validateModel(criteria);
+        
+        // Exact matches stay a scan; the n-gram index serves substring lookups
+        return exactMatch ? null : VehicleSearchQuery.builder().modelName(targetModel);
+    }
+    
+    private String validateModel(Object criteria) {
         if (!(criteria instanceof String)) {
             throw new IllegalArgumentException("Criteria must be of type String (model name)");
         }
@@ -32,18 +47,14 @@ public class SearchByModelStrategy implements VehicleSearchStrategy {
         if (targetModel.isEmpty()) {
             throw new IllegalArgumentException("Model name cannot be empty");
         }
-        
-        return vehicles.stream()
-                .filter(Vehicle::isAvailableForRental)
-                .filter(vehicle -> matchesModel(vehicle.getModel(), targetModel))
-                .collect(Collectors.toList());
+        return targetModel;
     }
     
     private boolean matchesModel(String vehicleModel, String targetModel) {
         if (exactMatch) {
-            return vehicleModel.equalsIgnoreCase(targetModel);
+            return targetModel.equalsIgnoreCase(vehicleModel);
         } else {
-            return vehicleModel.toLowerCase().contains(targetModel.toLowerCase());
+            return VehicleSearchQuery.containsIgnoreCase(vehicleModel, targetModel);
         }
     }
     
@@ -2,8 +2,7 @@ package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search;
 
 import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 /**
  * Strategy for searching vehicles by price range.
@@ -35,17 +34,25 @@ public class SearchByPriceRangeStrategy implements VehicleSearchStrategy {
     }
     
     @Override
-    public List<Vehicle> searchVehicles(List<Vehicle> vehicles, Object criteria) {
+    public Predicate<Vehicle> createMatcher(Object criteria) {
         if (!(criteria instanceof PriceRange)) {
             throw new IllegalArgumentException("Criteria must be of type PriceRange");
         }
         
         PriceRange priceRange = (PriceRange) criteria;
         
-        return vehicles.stream()
-                .filter(Vehicle::isAvailableForRental)
-                .filter(vehicle -> priceRange.isInRange(vehicle.getDailyRentalCost()))
-                .collect(Collectors.toList());
+        return vehicle -> priceRange.isInRange(vehicle.getDailyRentalCost());
+    }
+    
+    @Override
+    public VehicleSearchQuery.Builder toQuery(Object criteria) {
+        if (!(criteria instanceof PriceRange)) {
+            throw new IllegalArgumentException("Criteria must be of type PriceRange");
+        }
+        
+        PriceRange priceRange = (PriceRange) criteria;
+        
+        return VehicleSearchQuery.builder().priceRange(priceRange.getMinPrice(), priceRange.getMaxPrice());
     }
     
     @Override
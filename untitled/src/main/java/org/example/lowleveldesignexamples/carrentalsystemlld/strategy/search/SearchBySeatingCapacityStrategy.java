@@ -2,8 +2,7 @@ package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search;
 
 import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 /**
  * Strategy for searching vehicles by seating capacity.
@@ -12,7 +11,7 @@ import java.util.stream.Collectors;
 public class SearchBySeatingCapacityStrategy implements VehicleSearchStrategy {
     
     @Override
-    public List<Vehicle> searchVehicles(List<Vehicle> vehicles, Object criteria) {
+    public Predicate<Vehicle> createMatcher(Object criteria) {
         if (!(criteria instanceof Integer)) {
             throw new IllegalArgumentException("Criteria must be of type Integer (minimum seating capacity)");
         }
@@ -23,10 +22,16 @@ public class SearchBySeatingCapacityStrategy implements VehicleSearchStrategy {
             throw new IllegalArgumentException("Minimum seating capacity must be positive");
         }
         
-        return vehicles.stream()
-                .filter(Vehicle::isAvailableForRental)
-                .filter(vehicle -> vehicle.getSeatingCapacity() >= minSeatingCapacity)
-                .collect(Collectors.toList());
+        return vehicle -> vehicle.getSeatingCapacity() >= minSeatingCapacity;
+    }
+    
+    @Override
+    public VehicleSearchQuery.Builder toQuery(Object criteria) {
+        if (!(criteria instanceof Integer)) {
+            throw new IllegalArgumentException("Criteria must be of type Integer (minimum seating capacity)");
+        }
+        
+        return VehicleSearchQuery.builder().minSeats((Integer) criteria);
     }
     
     @Override
@@ -3,8 +3,7 @@ package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search;
 import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
 import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 /**
  * Strategy for searching vehicles by type.
@@ -13,17 +12,23 @@ import java.util.stream.Collectors;
 public class SearchByTypeStrategy implements VehicleSearchStrategy {
     
     @Override
-    public List<Vehicle> searchVehicles(List<Vehicle> vehicles, Object criteria) {
+    public Predicate<Vehicle> createMatcher(Object criteria) {
         if (!(criteria instanceof VehicleType)) {
             throw new IllegalArgumentException("Criteria must be of type VehicleType");
         }
         
         VehicleType targetType = (VehicleType) criteria;
         
-        return vehicles.stream()
-                .filter(Vehicle::isAvailableForRental)
-                .filter(vehicle -> vehicle.getVehicleType() == targetType)
-                .collect(Collectors.toList());
+        return vehicle -> vehicle.getVehicleType() == targetType;
+    }
+    
+    @Override
+    public VehicleSearchQuery.Builder toQuery(Object criteria) {
+        if (!(criteria instanceof VehicleType)) {
+            throw new IllegalArgumentException("Criteria must be of type VehicleType");
+        }
+        
+        return VehicleSearchQuery.builder().vehicleType((VehicleType) criteria);
     }
     
     @Override
@@ -0,0 +1,78 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search;
+
+/**
+ * Position in a price-ordered search, just after the last vehicle of a page.
+ * Results are ordered by (daily cost, vehicle ID), so the next page starts right
+ * after this key whatever was added or removed in between: no vehicle is skipped
+ * or repeated, unlike with an offset.
+ *
+ * The token form from {@link #toString()} can travel through a UI or URL and be
+ * turned back into a cursor with {@link #parse(String)}.
+ */
+public final class SearchCursor {
+
+    private static final char SEPARATOR = ':';
+
+    private final double price;
+    private final String vehicleId;
+
+    public SearchCursor(double price, String vehicleId) {
+        if (vehicleId == null) {
+            throw new IllegalArgumentException("Cursor vehicle ID cannot be null");
+        }
+        this.price = price;
+        this.vehicleId = vehicleId;
+    }
+
+    /**
+     * Parses a cursor token.
+     *
+     * @param token Token from {@link #toString()}
+     * @return Cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static SearchCursor parse(String token) {
+        int separator = token != null ? token.indexOf(SEPARATOR) : -1;
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid search cursor: " + token);
+        }
+        try {
+            return new SearchCursor(Double.parseDouble(token.substring(0, separator)),
+                    token.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid search cursor: " + token, e);
+        }
+    }
+
+    /**
+     * Gets the daily cost the last vehicle was indexed under.
+     */
+    public double getPrice() {
+        return price;
+    }
+
+    public String getVehicleId() {
+        return vehicleId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SearchCursor)) return false;
+        SearchCursor other = (SearchCursor) o;
+        return Double.compare(price, other.price) == 0 && vehicleId.equals(other.vehicleId);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(price) + vehicleId.hashCode();
+    }
+
+    /**
+     * Gets the cursor token; {@link Double#toString} round-trips the price exactly.
+     */
+    @Override
+    public String toString() {
+        return Double.toString(price) + SEPARATOR + vehicleId;
+    }
+}
@@ -2,6 +2,7 @@ package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search;
 
 import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -44,6 +45,38 @@ public class VehicleSearchContext {
         return searchStrategy.searchVehicles(vehicles, criteria);
     }
     
+    /**
+     * Executes the current search strategy for a rental date range.
+     * 
+     * @param vehicles List of vehicles to search from
+     * @param criteria Search criteria (strategy-specific)
+     * @param startDate First rental day (inclusive)
+     * @param endDate Return day (exclusive)
+     * @return List of vehicles free for the range and matching the search criteria
+     */
+    public List<Vehicle> executeSearch(List<Vehicle> vehicles, Object criteria,
+                                       LocalDate startDate, LocalDate endDate) {
+        if (searchStrategy == null) {
+            throw new IllegalStateException("Search strategy not set");
+        }
+        
+        return searchStrategy.searchVehicles(vehicles, criteria, startDate, endDate);
+    }
+    
+    /**
+     * Translates the criteria into a composite query using the current strategy.
+     * 
+     * @param criteria Search criteria (strategy-specific)
+     * @return Query builder, or null if the current strategy can only scan
+     */
+    public VehicleSearchQuery.Builder toQuery(Object criteria) {
+        if (searchStrategy == null) {
+            throw new IllegalStateException("Search strategy not set");
+        }
+        
+        return searchStrategy.toQuery(criteria);
+    }
+    
     /**
      * Gets the name of the current search strategy.
      * 
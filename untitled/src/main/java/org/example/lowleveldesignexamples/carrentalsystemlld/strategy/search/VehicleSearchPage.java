@@ -0,0 +1,50 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a price-ordered vehicle search, cheapest first, with the cursor
+ * to fetch the next page from.
+ *
+ * A page is cut as soon as it is full, without looking ahead for one more match,
+ * so a full page always carries a cursor even when it happens to be the last one;
+ * the page after it is then empty.
+ */
+public class VehicleSearchPage {
+
+    private final List<Vehicle> vehicles;
+    private final SearchCursor nextCursor;
+
+    public VehicleSearchPage(List<Vehicle> vehicles, SearchCursor nextCursor) {
+        this.vehicles = Collections.unmodifiableList(vehicles);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Vehicle> getVehicles() {
+        return vehicles;
+    }
+
+    /**
+     * Gets the cursor of the next page.
+     *
+     * @return Cursor after the last vehicle of this page, or null if the search is exhausted
+     */
+    public SearchCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNextPage() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public String toString() {
+        return "VehicleSearchPage{" +
+                "vehicles=" + vehicles.size() +
+                ", nextCursor=" + nextCursor +
+                '}';
+    }
+}
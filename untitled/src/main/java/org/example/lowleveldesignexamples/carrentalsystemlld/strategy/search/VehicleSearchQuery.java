@@ -0,0 +1,266 @@
+package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search;
+
+import org.example.lowleveldesignexamples.carrentalsystemlld.enums.VehicleType;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Store;
+import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
+
+import java.time.LocalDate;
+
+/**
+ * Typed, composite vehicle search query.
+ * Combines vehicle type, price range, seats, model text, store/city and rental
+ * dates in one immutable object, so criteria no longer need to be chained as scans.
+ *
+ * Design Pattern: Builder Pattern
+ * Purpose: Every criterion is optional; the builder validates the combination once.
+ *
+ * Usage:
+ * <pre>
+ * VehicleSearchQuery query = VehicleSearchQuery.builder()
+ *         .vehicleType(VehicleType.CAR)
+ *         .priceRange(40.0, 80.0)
+ *         .minSeats(5)
+ *         .city("New York")
+ *         .dates(startDate, endDate)
+ *         .build();
+ * </pre>
+ */
+public class VehicleSearchQuery {
+
+    private final VehicleType vehicleType;
+    private final double minPrice;
+    private final double maxPrice;
+    private final int minSeats;
+    private final String modelText;
+    private final boolean matchBrand;
+    private final String storeId;
+    private final String city;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    private VehicleSearchQuery(Builder builder) {
+        this.vehicleType = builder.vehicleType;
+        this.minPrice = builder.minPrice;
+        this.maxPrice = builder.maxPrice;
+        this.minSeats = builder.minSeats;
+        this.modelText = builder.modelText;
+        this.matchBrand = builder.matchBrand;
+        this.storeId = builder.storeId;
+        this.city = builder.city;
+        this.startDate = builder.startDate;
+        this.endDate = builder.endDate;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Checks whether a store can hold matching vehicles.
+     *
+     * @param store Store to check
+     * @return true if the store passes the store and city criteria
+     */
+    public boolean matchesStore(Store store) {
+        if (storeId != null && !storeId.equals(store.getStoreId())) {
+            return false;
+        }
+        return city == null || (store.getLocation() != null && city.equalsIgnoreCase(store.getLocation().getCity()));
+    }
+
+    /**
+     * Checks whether a vehicle matches every vehicle-level criterion, including availability.
+     * Store and city are store-level criteria, see {@link #matchesStore(Store)}.
+     * Cheap field comparisons run before the text match and the calendar lookup.
+     *
+     * @param vehicle Vehicle to check
+     * @return true if the vehicle matches
+     */
+    public boolean matches(Vehicle vehicle) {
+        if (vehicleType != null && vehicle.getVehicleType() != vehicleType) {
+            return false;
+        }
+        double price = vehicle.getDailyRentalCost();
+        if (price < minPrice || price > maxPrice) {
+            return false;
+        }
+        if (vehicle.getSeatingCapacity() < minSeats) {
+            return false;
+        }
+        if (modelText != null && !containsIgnoreCase(vehicle.getModel(), modelText)
+                && !(matchBrand && containsIgnoreCase(vehicle.getBrand(), modelText))) {
+            return false;
+        }
+        return hasDateWindow()
+                ? vehicle.isAvailableForRental(startDate, endDate)
+                : vehicle.isAvailableForRental();
+    }
+
+    /**
+     * Case-insensitive substring check without allocating lowercase copies.
+     *
+     * @param text Text to search in, may be null
+     * @param fragment Text to look for
+     * @return true if text contains fragment, ignoring case
+     */
+    public static boolean containsIgnoreCase(String text, String fragment) {
+        if (text == null) {
+            return false;
+        }
+        int last = text.length() - fragment.length();
+        for (int offset = 0; offset <= last; offset++) {
+            if (text.regionMatches(true, offset, fragment, 0, fragment.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean hasDateWindow() {
+        return startDate != null;
+    }
+
+    public boolean hasPriceRange() {
+        return minPrice > 0 || maxPrice < Double.MAX_VALUE;
+    }
+
+    public VehicleType getVehicleType() {
+        return vehicleType;
+    }
+
+    public double getMinPrice() {
+        return minPrice;
+    }
+
+    public double getMaxPrice() {
+        return maxPrice;
+    }
+
+    public int getMinSeats() {
+        return minSeats;
+    }
+
+    public String getModelText() {
+        return modelText;
+    }
+
+    public boolean isMatchBrand() {
+        return matchBrand;
+    }
+
+    public String getStoreId() {
+        return storeId;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    @Override
+    public String toString() {
+        return "VehicleSearchQuery{" +
+                "vehicleType=" + vehicleType +
+                ", price=" + minPrice + ".." + (hasPriceRange() ? maxPrice : "any") +
+                ", minSeats=" + minSeats +
+                ", modelText='" + modelText + '\'' + (matchBrand ? "" : " (model only)") +
+                ", storeId='" + storeId + '\'' +
+                ", city='" + city + '\'' +
+                ", dates=" + startDate + ".." + endDate +
+                '}';
+    }
+
+    /**
+     * Builder for {@link VehicleSearchQuery}. Unset criteria match everything.
+     */
+    public static class Builder {
+        private VehicleType vehicleType;
+        private double minPrice = 0;
+        private double maxPrice = Double.MAX_VALUE;
+        private int minSeats = 0;
+        private String modelText;
+        private boolean matchBrand;
+        private String storeId;
+        private String city;
+        private LocalDate startDate;
+        private LocalDate endDate;
+
+        private Builder() {
+        }
+
+        public Builder vehicleType(VehicleType vehicleType) {
+            this.vehicleType = vehicleType;
+            return this;
+        }
+
+        public Builder priceRange(double minPrice, double maxPrice) {
+            if (minPrice < 0 || maxPrice < 0 || minPrice > maxPrice) {
+                throw new IllegalArgumentException("Invalid price range");
+            }
+            this.minPrice = minPrice;
+            this.maxPrice = maxPrice;
+            return this;
+        }
+
+        public Builder minSeats(int minSeats) {
+            if (minSeats <= 0) {
+                throw new IllegalArgumentException("Minimum seating capacity must be positive");
+            }
+            this.minSeats = minSeats;
+            return this;
+        }
+
+        /**
+         * Matches vehicles whose model or brand contains the text, ignoring case.
+         */
+        public Builder modelText(String modelText) {
+            return modelText(modelText, true);
+        }
+
+        /**
+         * Matches vehicles whose model alone contains the text, ignoring case.
+         */
+        public Builder modelName(String modelName) {
+            return modelText(modelName, false);
+        }
+
+        private Builder modelText(String modelText, boolean matchBrand) {
+            if (modelText == null || modelText.trim().isEmpty()) {
+                throw new IllegalArgumentException("Model text cannot be empty");
+            }
+            this.modelText = modelText.trim();
+            this.matchBrand = matchBrand;
+            return this;
+        }
+
+        public Builder storeId(String storeId) {
+            this.storeId = storeId;
+            return this;
+        }
+
+        public Builder city(String city) {
+            this.city = city;
+            return this;
+        }
+
+        public Builder dates(LocalDate startDate, LocalDate endDate) {
+            if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+                throw new IllegalArgumentException("Invalid date range");
+            }
+            this.startDate = startDate;
+            this.endDate = endDate;
+            return this;
+        }
+
+        public VehicleSearchQuery build() {
+            return new VehicleSearchQuery(this);
+        }
+    }
+}
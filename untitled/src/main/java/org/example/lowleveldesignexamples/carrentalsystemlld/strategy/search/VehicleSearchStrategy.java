@@ -2,7 +2,10 @@ package org.example.lowleveldesignexamples.carrentalsystemlld.strategy.search;
 
 import org.example.lowleveldesignexamples.carrentalsystemlld.model.Vehicle;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Strategy interface for vehicle search algorithms.
@@ -14,13 +17,63 @@ import java.util.List;
 public interface VehicleSearchStrategy {
     
     /**
-     * Searches vehicles based on the specific strategy implementation.
+     * Validates the criteria and builds the strategy-specific vehicle filter.
+     * 
+     * @param criteria Search criteria (implementation-specific)
+     * @return Predicate matching vehicles that satisfy the criteria
+     * @throws IllegalArgumentException if the criteria are invalid for this strategy
+     */
+    Predicate<Vehicle> createMatcher(Object criteria);
+    
+    /**
+     * Searches vehicles that are available right now and match the criteria.
      * 
      * @param vehicles List of vehicles to search from
      * @param criteria Search criteria (implementation-specific)
      * @return List of vehicles matching the search criteria
      */
-    List<Vehicle> searchVehicles(List<Vehicle> vehicles, Object criteria);
+    default List<Vehicle> searchVehicles(List<Vehicle> vehicles, Object criteria) {
+        Predicate<Vehicle> matcher = createMatcher(criteria);
+        
+        return vehicles.stream()
+                .filter(Vehicle::isAvailableForRental)
+                .filter(matcher)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Searches vehicles that are free for the whole date range and match the criteria.
+     * Availability is answered by each vehicle's calendar, not by its current status.
+     * 
+     * @param vehicles List of vehicles to search from
+     * @param criteria Search criteria (implementation-specific)
+     * @param startDate First rental day (inclusive)
+     * @param endDate Return day (exclusive)
+     * @return List of vehicles matching the search criteria
+     */
+    default List<Vehicle> searchVehicles(List<Vehicle> vehicles, Object criteria,
+                                         LocalDate startDate, LocalDate endDate) {
+        Predicate<Vehicle> matcher = createMatcher(criteria);
+        
+        // Cheap criteria first, calendar lookup only for vehicles that already match
+        return vehicles.stream()
+                .filter(matcher)
+                .filter(vehicle -> vehicle.isAvailableForRental(startDate, endDate))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Translates the criteria into an index-backed composite query, if this strategy
+     * can be expressed as one. Callers that own the inventory indexes use the query
+     * instead of scanning a vehicle list.
+     * 
+     * @param criteria Search criteria (implementation-specific)
+     * @return Query builder carrying the criteria, or null if the strategy needs a scan
+     * @throws IllegalArgumentException if the criteria are invalid for this strategy
+     */
+    default VehicleSearchQuery.Builder toQuery(Object criteria) {
+        return null;
+    }
     
     /**
      * Gets the name of this search strategy for identification.